@@ -0,0 +1,76 @@
+package io.dsub.discogs.batch.util;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses release dates of the shapes found in the dumps, where most dates repeat, with the regex
+ * parser, the scanning parser and the memoizing one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MalformedDateParserBenchmark {
+
+  private static final int SOURCES = 1 << 12;
+
+  private final MalformedDateParser regexParser = new DefaultMalformedDateParser();
+  private final MalformedDateParser scanningParser = new ScanningMalformedDateParser();
+  private final MalformedDateParser memoizingParser =
+      new MemoizingMalformedDateParser(new ScanningMalformedDateParser(), 1 << 16);
+
+  private String[] sources;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    sources = new String[SOURCES];
+    for (int i = 0; i < SOURCES; i++) {
+      int year = 1950 + random.nextInt(70);
+      int month = 1 + random.nextInt(12);
+      int day = 1 + random.nextInt(28);
+      sources[i] =
+          switch (random.nextInt(4)) {
+            case 0 -> String.valueOf(year);
+            case 1 -> String.format("%d-%02d-00", year, month);
+            case 2 -> String.format("%d%02d%02d", year, month, day);
+            default -> String.format("%d-%02d-%02d", year, month, day);
+          };
+    }
+  }
+
+  private String next() {
+    return sources[index++ & (SOURCES - 1)];
+  }
+
+  @Benchmark
+  public LocalDate regex() {
+    return regexParser.parse(next());
+  }
+
+  @Benchmark
+  public LocalDate scanning() {
+    return scanningParser.parse(next());
+  }
+
+  @Benchmark
+  public LocalDate memoizing() {
+    return memoizingParser.parse(next());
+  }
+}
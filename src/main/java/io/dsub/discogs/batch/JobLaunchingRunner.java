@@ -1,11 +1,20 @@
 package io.dsub.discogs.batch;
 
+import io.dsub.discogs.batch.job.UniqueRunIdIncrementer;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersIncrementer;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -26,18 +35,66 @@ public class JobLaunchingRunner implements ApplicationRunner {
   private final Job job;
   private final JobParameters discogsJobParameters;
   private final JobLauncher jobLauncher;
+  private final JobExplorer jobExplorer;
   private final ConfigurableApplicationContext ctx;
   private final CountDownLatch countDownLatch;
 
   @Override
   public void run(ApplicationArguments args) throws Exception {
-    JobExecution jobExecution = jobLauncher.run(job, discogsJobParameters);
+    JobExecution jobExecution = jobLauncher.run(job, getJobParameters());
     log.info("main thread started job execution. awaiting for completion...");
     countDownLatch.await();
     log.info("job execution completed. exiting...");
     SpringApplication.exit(ctx, getExitCodeGenerator(jobExecution));
   }
 
+  /**
+   * Resolves the parameters to launch the job with. If the last job instance failed or has been
+   * stopped with the same arguments, its parameters are reused so that it is restarted from its
+   * checkpoints. Otherwise, a new job instance is started, with a run id following the last one so
+   * that a completed instance of the same arguments does not prevent it.
+   *
+   * @return parameters of the job instance to be launched.
+   */
+  protected JobParameters getJobParameters() {
+    JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+    if (lastInstance == null) {
+      return discogsJobParameters;
+    }
+    JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+    JobParameters lastParameters =
+        lastExecution == null ? new JobParameters() : lastExecution.getJobParameters();
+
+    if (isRestartable(lastExecution)
+        && withoutRunId(lastParameters).equals(discogsJobParameters)) {
+      log.info("restarting job instance {} of status {}", lastInstance.getInstanceId(),
+          lastExecution.getStatus());
+      return lastParameters;
+    }
+
+    JobParametersIncrementer incrementer = job.getJobParametersIncrementer();
+    if (incrementer == null) {
+      return discogsJobParameters;
+    }
+    return new JobParametersBuilder(discogsJobParameters)
+        .addJobParameters(incrementer.getNext(lastParameters))
+        .toJobParameters();
+  }
+
+  private boolean isRestartable(JobExecution jobExecution) {
+    return jobExecution != null
+        && (jobExecution.getStatus() == BatchStatus.FAILED
+        || jobExecution.getStatus() == BatchStatus.STOPPED);
+  }
+
+  private JobParameters withoutRunId(JobParameters parameters) {
+    Map<String, JobParameter> params =
+        parameters.getParameters().entrySet().stream()
+            .filter(entry -> !entry.getKey().equals(UniqueRunIdIncrementer.RUN_ID))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return new JobParameters(params);
+  }
+
   public ExitCodeGenerator getExitCodeGenerator(JobExecution jobExecution) {
     return () -> jobExecution.getFailureExceptions().size() > 0 ? 1 : 0;
   }
@@ -8,6 +8,14 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 public enum ArgType {
+  ASYNC(
+      ArgumentProperty.builder()
+          .globalName("async")
+          .synonyms("asynchronous")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
   CHUNK_SIZE(
       ArgumentProperty.builder()
           .globalName("chunkSize")
@@ -20,7 +28,23 @@ public enum ArgType {
           .synonyms("core")
           .supportedType(Long.class)
           .build()),
+  DELTA(
+      ArgumentProperty.builder()
+          .globalName("delta")
+          .synonyms("d")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
   ETAG(ArgumentProperty.builder().globalName("eTag").synonyms("e").maxValuesCount(4).build()),
+  INITIAL_LOAD(
+      ArgumentProperty.builder()
+          .globalName("initialLoad")
+          .synonyms("initial")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
   MOUNT(
       ArgumentProperty.builder()
           .globalName("mount")
@@ -29,12 +53,43 @@ public enum ArgType {
           .maxValuesCount(0)
           .minValuesCount(0)
           .build()),
+  PARTITIONS(
+      ArgumentProperty.builder()
+          .globalName("partitions")
+          .synonyms("partition")
+          .required(false)
+          .supportedType(Long.class)
+          .build()),
   PASSWORD(
       ArgumentProperty.builder()
           .globalName("password")
           .synonyms("password", "pass", "p")
           .required(true)
           .build()),
+  PIPELINE(
+      ArgumentProperty.builder()
+          .globalName("pipeline")
+          .synonyms("pipelined")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
+  PRUNE(
+      ArgumentProperty.builder()
+          .globalName("prune")
+          .synonyms("pruned")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
+  STAGING(
+      ArgumentProperty.builder()
+          .globalName("staging")
+          .synonyms("staged")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
   STRICT(
       ArgumentProperty.builder()
           .globalName("strict")
@@ -43,6 +98,14 @@ public enum ArgType {
           .maxValuesCount(0)
           .minValuesCount(0)
           .build()),
+  TRANSCODE(
+      ArgumentProperty.builder()
+          .globalName("transcode")
+          .synonyms("transcoded")
+          .required(false)
+          .maxValuesCount(0)
+          .minValuesCount(0)
+          .build()),
   TYPE(ArgumentProperty.builder().globalName("type").synonyms("t").maxValuesCount(4).build()),
   URL(ArgumentProperty.builder().globalName("url").required(true).build()),
   USERNAME(
@@ -3,8 +3,8 @@ package io.dsub.discogs.batch.config;
 import io.dsub.discogs.batch.job.UniqueRunIdIncrementer;
 import io.dsub.discogs.batch.job.listener.ClearanceJobExecutionListener;
 import io.dsub.discogs.batch.job.listener.ExitSignalJobExecutionListener;
+import io.dsub.discogs.batch.job.listener.FingerprintJobExecutionListener;
 import io.dsub.discogs.batch.job.listener.IdCachingJobExecutionListener;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -22,7 +22,8 @@ public class BatchConfig {
 
   public static final int DEFAULT_CHUNK_SIZE = 500;
 
-  public static final String JOB_NAME = "discogs-batch-job" + LocalDateTime.now();
+  // stable over launches, so that a failed job instance can be found and restarted.
+  public static final String JOB_NAME = "discogs-batch-job";
   private static final String FAILED = "FAILED";
   private static final String ANY = "*";
 
@@ -35,6 +36,7 @@ public class BatchConfig {
   private final IdCachingJobExecutionListener idCachingJobExecutionListener;
   private final ExitSignalJobExecutionListener exitSignalJobExecutionListener;
   private final ClearanceJobExecutionListener clearanceJobExecutionListener;
+  private final FingerprintJobExecutionListener fingerprintJobExecutionListener;
 
   @Bean
   public Job discogsBatchJob() {
@@ -44,6 +46,7 @@ public class BatchConfig {
 
         // listeners
         .listener(idCachingJobExecutionListener)
+        .listener(fingerprintJobExecutionListener)
         .listener(exitSignalJobExecutionListener)
         .listener(clearanceJobExecutionListener)
 
@@ -53,7 +56,7 @@ public class BatchConfig {
         // from artist step
         .start(artistStep)
         .on(FAILED)
-        .end()
+        .fail()
         .from(artistStep)
         .on(ANY)
         .to(labelStep)
@@ -61,7 +64,7 @@ public class BatchConfig {
         // from label step
         .from(labelStep)
         .on(FAILED)
-        .end()
+        .fail()
         .from(labelStep)
         .on(ANY)
         .to(masterStep)
@@ -69,13 +72,16 @@ public class BatchConfig {
         // from master step
         .from(masterStep)
         .on(FAILED)
-        .end()
+        .fail()
         .from(masterStep)
         .on(ANY)
         .to(releaseStep)
 
         // from release item step
         .from(releaseStep)
+        .on(FAILED)
+        .fail()
+        .from(releaseStep)
         .on(ANY)
         .end()
 
@@ -1,5 +1,6 @@
 package io.dsub.discogs.batch.domain;
 
+import io.dsub.discogs.batch.util.StringHash;
 import org.jooq.UpdatableRecord;
 
 /**
@@ -15,19 +16,17 @@ public interface HashXML<T extends UpdatableRecord<T>> extends SubItemXML<T> {
    * make hash values from given Strings. if values are null or empty, this will simply return the
    * hashcode from the instance. the same applies to the each value from the arguments.
    *
+   * <p>values are hashed into 64 bits by {@link StringHash}, then folded into the 32 bits of the
+   * hash column.
+   *
    * @param values to be hashed
-   * @return object's hash if values are empty or null, else return hash from combined strings.
+   * @return object's hash if values are empty or null, else return hash from the values.
    */
   default int makeHash(String[] values) {
     if (values == null || values.length == 0) {
       return hashCode();
     }
-    StringBuilder sb = new StringBuilder();
-    for (String v : values) {
-      if (v != null && !v.isBlank()) {
-        sb.append(v);
-      }
-    }
-    return sb.isEmpty() ? this.hashCode() : sb.toString().hashCode();
+    long hash = StringHash.hash64(values);
+    return hash == 0 ? this.hashCode() : StringHash.fold(hash);
   }
 }
@@ -1,6 +1,7 @@
 package io.dsub.discogs.batch.domain.artist;
 
 import io.dsub.discogs.batch.domain.BaseXML;
+import io.dsub.discogs.batch.util.Pooled;
 import io.dsub.discogs.jooq.tables.records.ArtistRecord;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ public class ArtistXML implements BaseXML<ArtistRecord> {
   private String profile;
 
   @XmlElement(name = "data_quality")
+  @Pooled
   private String dataQuality;
 
   @Override
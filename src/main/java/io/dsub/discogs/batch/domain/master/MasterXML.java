@@ -1,6 +1,7 @@
 package io.dsub.discogs.batch.domain.master;
 
 import io.dsub.discogs.batch.domain.BaseXML;
+import io.dsub.discogs.batch.util.Pooled;
 import io.dsub.discogs.jooq.tables.records.MasterRecord;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -33,6 +34,7 @@ public class MasterXML implements BaseXML<MasterRecord> {
   private Integer mainReleaseId;
 
   @XmlElement(name = "data_quality")
+  @Pooled
   private String dataQuality;
 
   @XmlElementWrapper(name = "genres")
@@ -2,6 +2,7 @@ package io.dsub.discogs.batch.domain.release;
 
 import io.dsub.discogs.batch.domain.HashXML;
 import io.dsub.discogs.batch.domain.SubItemXML;
+import io.dsub.discogs.batch.util.Pooled;
 import io.dsub.discogs.jooq.tables.records.LabelReleaseItemRecord;
 import io.dsub.discogs.jooq.tables.records.ReleaseItemArtistRecord;
 import io.dsub.discogs.jooq.tables.records.ReleaseItemCreditedArtistRecord;
@@ -104,11 +105,12 @@ public class ReleaseItemSubItemsXML {
     String name;
 
     @XmlElement(name = "role")
+    @Pooled
     String role;
 
     @Override
     public int getHashValue() {
-      return role == null || role.isBlank() ? this.hashCode() : role.hashCode();
+      return makeHash(new String[]{role});
     }
 
     @Override
@@ -152,6 +154,7 @@ public class ReleaseItemSubItemsXML {
   public static class ReleaseFormat implements HashXML<ReleaseItemFormatRecord> {
 
     @XmlAttribute(name = "name")
+    @Pooled
     String name;
 
     @XmlAttribute(name = "qty")
@@ -162,6 +165,7 @@ public class ReleaseItemSubItemsXML {
 
     @XmlElementWrapper(name = "descriptions")
     @XmlElement(name = "description")
+    @Pooled
     List<String> descriptions;
 
     @Override
@@ -234,6 +238,7 @@ public class ReleaseItemSubItemsXML {
   public static class ReleaseIdentifier implements HashXML<ReleaseItemIdentifierRecord> {
 
     @XmlAttribute(name = "type")
+    @Pooled
     String type;
 
     @XmlAttribute(name = "description")
@@ -268,11 +273,12 @@ public class ReleaseItemSubItemsXML {
     Integer id;
 
     @XmlElement(name = "entity_type_name")
+    @Pooled
     String work;
 
     @Override
     public int getHashValue() {
-      return work == null || work.isBlank() ? this.hashCode() : work.hashCode();
+      return makeHash(new String[]{work});
     }
 
     @Override
@@ -1,5 +1,6 @@
 package io.dsub.discogs.batch.domain.release;
 
+import io.dsub.discogs.batch.util.Pooled;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -33,6 +34,7 @@ public class ReleaseItemXML {
   private String notes;
 
   @XmlElement(name = "data_quality")
+  @Pooled
   private String dataQuality;
 
   @XmlElement(name = "released")
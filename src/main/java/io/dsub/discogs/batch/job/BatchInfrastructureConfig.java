@@ -4,14 +4,21 @@ import io.dsub.discogs.batch.argument.ArgType;
 import io.dsub.discogs.batch.dump.DiscogsDump;
 import io.dsub.discogs.batch.dump.EntityType;
 import io.dsub.discogs.batch.job.decider.MasterMainReleaseStepJobExecutionDecider;
+import io.dsub.discogs.batch.job.delta.EntityFingerprints;
+import io.dsub.discogs.batch.job.delta.FingerprintStore;
 import io.dsub.discogs.batch.job.listener.BatchListenerConfig;
+import io.dsub.discogs.batch.job.listener.IdCachingItemProcessListener;
+import io.dsub.discogs.batch.job.processor.AsyncItemProcessing;
 import io.dsub.discogs.batch.job.processor.ItemProcessorConfig;
+import io.dsub.discogs.batch.job.prune.SeenIds;
 import io.dsub.discogs.batch.job.reader.DiscogsDumpItemReaderBuilder;
+import io.dsub.discogs.batch.job.reader.DumpInputMode;
 import io.dsub.discogs.batch.job.reader.ItemReaderConfig;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.step.GlobalStepConfig;
 import io.dsub.discogs.batch.job.tasklet.GenreStyleInsertionTasklet;
 import io.dsub.discogs.batch.job.writer.ItemWriterConfig;
+import io.dsub.discogs.batch.job.writer.StagingMerge;
 import io.dsub.discogs.batch.util.FileUtil;
 import io.dsub.discogs.batch.util.SimpleFileUtil;
 import java.util.HashMap;
@@ -22,6 +29,7 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @Configuration
@@ -68,7 +76,61 @@ public class BatchInfrastructureConfig {
   }
 
   @Bean
-  public DiscogsDumpItemReaderBuilder discogsDumpItemReaderBuilder() {
-    return new DiscogsDumpItemReaderBuilder(fileUtil());
+  public SeenIds seenIds() {
+    SeenIds seenIds = new SeenIds();
+    if (args.containsOption(ArgType.PRUNE.getGlobalName())) {
+      log.debug("detected prune option. deleting entities missing from the dumps.");
+      seenIds.setEnabled(true);
+    }
+    return seenIds;
+  }
+
+  @Bean
+  public EntityFingerprints entityFingerprints() {
+    EntityFingerprints fingerprints = new EntityFingerprints(new FingerprintStore(fileUtil()));
+    // fingerprints of a temporary directory are cleared along with the dumps as well.
+    if (args.containsOption(ArgType.DELTA.getGlobalName()) && !fileUtil().isTemporary()) {
+      log.debug("detected delta option. skipping items unchanged since the last run.");
+      fingerprints.setEnabled(true);
+    }
+    return fingerprints;
+  }
+
+  @Bean
+  public AsyncItemProcessing asyncItemProcessing(ThreadPoolTaskExecutor batchTaskExecutor) {
+    AsyncItemProcessing processing =
+        new AsyncItemProcessing(Math.max(1, batchTaskExecutor.getMaxPoolSize()));
+    if (args.containsOption(ArgType.ASYNC.getGlobalName())) {
+      log.debug("detected async option. processing sub items behind a single reader.");
+      processing.setEnabled(true);
+    }
+    return processing;
+  }
+
+  @Bean
+  public StagingMerge stagingMerge() {
+    StagingMerge stagingMerge = new StagingMerge();
+    if (args.containsOption(ArgType.STAGING.getGlobalName())) {
+      log.debug("detected staging option. merging sub items through staging tables.");
+      stagingMerge.setEnabled(true);
+    }
+    return stagingMerge;
+  }
+
+  @Bean
+  public DiscogsDumpItemReaderBuilder discogsDumpItemReaderBuilder(
+      IdCachingItemProcessListener idCachingItemProcessListener) {
+    DiscogsDumpItemReaderBuilder readerBuilder = new DiscogsDumpItemReaderBuilder(fileUtil());
+    readerBuilder.setDelta(entityFingerprints(), idCachingItemProcessListener::cacheUnchanged);
+    if (args.containsOption(ArgType.PIPELINE.getGlobalName())) {
+      log.debug("detected pipeline option. inflating dumps ahead of the parsers.");
+      readerBuilder.setInputMode(DumpInputMode.PIPELINED);
+    }
+    // spills of a temporary directory are cleared along with the dumps, hence are of no use later.
+    if (args.containsOption(ArgType.TRANSCODE.getGlobalName()) && !fileUtil().isTemporary()) {
+      log.debug("detected transcode option. spilling core items for later runs.");
+      readerBuilder.setTranscoding(true);
+    }
+    return readerBuilder;
   }
 }
@@ -18,6 +18,7 @@ public class DefaultJobParameterResolver implements JobParameterResolver {
 
   private static final String CHUNK_SIZE = ArgType.CHUNK_SIZE.getGlobalName();
   private static final String STRICT = ArgType.STRICT.getGlobalName();
+  private static final String PARTITIONS = ArgType.PARTITIONS.getGlobalName();
 
   private final DumpDependencyResolver dumpDependencyResolver;
 
@@ -33,9 +34,25 @@ public class DefaultJobParameterResolver implements JobParameterResolver {
     if (args.containsOption(STRICT)) {
       props.put(STRICT, "true");
     }
+    if (args.containsOption(PARTITIONS)) {
+      props.put(PARTITIONS, String.valueOf(parsePartitions(args)));
+    }
     return props;
   }
 
+  protected int parsePartitions(ApplicationArguments args) throws InvalidArgumentException {
+    String toParse = args.getOptionValues(PARTITIONS).get(0);
+    try {
+      int partitions = Integer.parseInt(toParse);
+      if (partitions > 0) {
+        return partitions;
+      }
+    } catch (NumberFormatException ignored) {
+      // handled below
+    }
+    throw new InvalidArgumentException("failed to parse " + PARTITIONS + ": " + toParse);
+  }
+
   protected int parseChunkSize(ApplicationArguments args) throws InvalidArgumentException {
     String chunkSizeOptName = ArgType.CHUNK_SIZE.getGlobalName();
     if (args.containsOption(chunkSizeOptName)) {
@@ -5,7 +5,7 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 
 public class UniqueRunIdIncrementer extends RunIdIncrementer {
-  private static final String RUN_ID = "run.id";
+  public static final String RUN_ID = "run.id";
 
   @Override
   public JobParameters getNext(JobParameters parameters) {
@@ -0,0 +1,76 @@
+package io.dsub.discogs.batch.job.delta;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+/**
+ * Reader that skips items which are unchanged since the previous run, so that only the changed
+ * items reach the processor and the writer.
+ *
+ * <p>Items are skipped after the delegate has read them, hence the checkpoint of the delegate
+ * still counts every item, and a restart resumes from the same position whether or not the
+ * fingerprints of the previous run could be loaded again.
+ *
+ * @param <T> type of the item.
+ */
+public class DeltaItemStreamReader<T> implements ItemStreamReader<T> {
+
+  private final ItemStreamReader<T> delegate;
+  private final Class<T> itemClass;
+  private final Function<T, Integer> idGetter;
+  private final EntityFingerprints fingerprints;
+  private final Consumer<? super T> unchangedConsumer;
+
+  /**
+   * @param delegate          to read items from.
+   * @param itemClass         class of the items.
+   * @param idGetter          of the entity an item belongs to.
+   * @param fingerprints      to compare items with.
+   * @param unchangedConsumer to be called with each skipped item, or null.
+   */
+  public DeltaItemStreamReader(
+      ItemStreamReader<T> delegate,
+      Class<T> itemClass,
+      Function<T, Integer> idGetter,
+      EntityFingerprints fingerprints,
+      Consumer<? super T> unchangedConsumer) {
+    this.delegate = delegate;
+    this.itemClass = itemClass;
+    this.idGetter = idGetter;
+    this.fingerprints = fingerprints;
+    this.unchangedConsumer = unchangedConsumer;
+  }
+
+  @Override
+  public T read() throws Exception {
+    T item;
+    while ((item = delegate.read()) != null) {
+      Integer id = idGetter.apply(item);
+      if (id == null || id < 0 || fingerprints.isChanged(itemClass, id, item)) {
+        return item;
+      }
+      if (unchangedConsumer != null) {
+        unchangedConsumer.accept(item);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    delegate.open(executionContext);
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) throws ItemStreamException {
+    delegate.update(executionContext);
+  }
+
+  @Override
+  public void close() throws ItemStreamException {
+    delegate.close();
+  }
+}
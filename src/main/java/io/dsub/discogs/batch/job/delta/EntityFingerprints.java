@@ -0,0 +1,128 @@
+package io.dsub.discogs.batch.job.delta;
+
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fingerprints of the items of each entity type, as of the previous run and of the current one.
+ *
+ * <p>An item is unchanged if its fingerprint equals to that of the previous run, in which case its
+ * rows are already in the database as they are. The fingerprints of the previous run are only
+ * loaded if the core table of the entity has not been changed since, and those of the current run
+ * are only saved once the job has completed. Hence, a stored fingerprint always means that the
+ * item has been written.
+ *
+ * <p>Only the core items of each entity are fingerprinted. Sub items and main releases are always
+ * written, as their rows referring to an entity missing at the time have been left out, and would
+ * never be written once the entity appears if the unchanged item were skipped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EntityFingerprints {
+
+  private static final Map<Class<?>, Type> TYPES =
+      Map.of(
+          ArtistXML.class, Type.ARTIST,
+          LabelXML.class, Type.LABEL,
+          MasterXML.class, Type.MASTER,
+          ReleaseItemXML.class, Type.RELEASE);
+
+  private final FingerprintStore store;
+  private final Map<Class<?>, MappedFingerprints> previous = new ConcurrentHashMap<>();
+  private final Map<Class<?>, FingerprintMap> current = new ConcurrentHashMap<>();
+  private boolean enabled;
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled && store.isEnabled();
+  }
+
+  /**
+   * @return true if items of given class can be fingerprinted.
+   */
+  public static boolean supports(Class<?> itemClass) {
+    return TYPES.containsKey(itemClass);
+  }
+
+  /**
+   * @return identifier of the entity given item belongs to, or null if unknown.
+   */
+  public static Integer getId(Object item) {
+    if (item instanceof ArtistXML artist) {
+      return artist.getId();
+    } else if (item instanceof LabelXML label) {
+      return label.getId();
+    } else if (item instanceof MasterXML master) {
+      return master.getId();
+    } else if (item instanceof ReleaseItemXML releaseItem) {
+      return releaseItem.getId();
+    }
+    return null;
+  }
+
+  /**
+   * Records the fingerprint of given item for the current run.
+   *
+   * @param itemClass class of the item.
+   * @param id        identifier of the entity the item belongs to.
+   * @param item      to be fingerprinted.
+   * @return true unless the item is known to be unchanged since the previous run.
+   */
+  public <T> boolean isChanged(Class<T> itemClass, int id, T item) {
+    long fingerprint = ItemFingerprint.of(itemClass, item);
+    current.computeIfAbsent(itemClass, ignored -> new FingerprintMap()).put(id, fingerprint);
+    MappedFingerprints prev = previous.get(itemClass);
+    return prev == null || prev.get(id) != fingerprint;
+  }
+
+  /**
+   * Loads the fingerprints of the previous run for the items of given type.
+   *
+   * @param type        of the entity.
+   * @param fingerprint current fingerprint of the core table of the entity.
+   */
+  public void load(Type type, IdSnapshotFingerprint fingerprint) {
+    TYPES.forEach((itemClass, itemType) -> {
+      if (itemType != type) {
+        return;
+      }
+      MappedFingerprints mapped = store.load(itemClass.getSimpleName(), fingerprint);
+      if (mapped == null) {
+        log.info("no {} fingerprints to compare. every item will be written",
+            itemClass.getSimpleName());
+      } else {
+        previous.put(itemClass, mapped);
+      }
+    });
+  }
+
+  /**
+   * Saves the fingerprints of the current run for the items of given type.
+   *
+   * @param type        of the entity.
+   * @param fingerprint fingerprint of the core table of the entity after the run.
+   */
+  public void save(Type type, IdSnapshotFingerprint fingerprint) {
+    current.forEach((itemClass, map) -> {
+      if (TYPES.get(itemClass) == type) {
+        store.save(itemClass.getSimpleName(), map, fingerprint);
+      }
+    });
+  }
+
+  public void clear() {
+    previous.clear();
+    current.clear();
+  }
+}
@@ -0,0 +1,74 @@
+package io.dsub.discogs.batch.job.delta;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Dense map of non-negative int identifiers to 64-bit fingerprints. The map grows in fixed-size
+ * segments which are allocated on first write, and 0 marks an absent fingerprint.
+ *
+ * <p>Segment size is 2^16 identifiers (512KB). As dump identifiers are dense, a map of 30 million
+ * identifiers costs about 240MB.
+ */
+public class FingerprintMap {
+
+  static final int SEGMENT_SHIFT = 16;
+  static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+  static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+  static final int SEGMENT_COUNT = 1 << (31 - SEGMENT_SHIFT);
+
+  private final AtomicReferenceArray<AtomicLongArray> segments =
+      new AtomicReferenceArray<>(SEGMENT_COUNT);
+
+  /**
+   * Puts the fingerprint of given id.
+   *
+   * @param id          non-negative identifier.
+   * @param fingerprint non-zero fingerprint.
+   */
+  public void put(int id, long fingerprint) {
+    checkId(id);
+    getOrCreateSegment(id >>> SEGMENT_SHIFT).set(id & SEGMENT_MASK, fingerprint);
+  }
+
+  /**
+   * @param id non-negative identifier.
+   * @return fingerprint of given id, or 0 if absent.
+   */
+  public long get(int id) {
+    checkId(id);
+    AtomicLongArray segment = segments.get(id >>> SEGMENT_SHIFT);
+    return segment == null ? 0L : segment.get(id & SEGMENT_MASK);
+  }
+
+  /**
+   * Visits every allocated segment in ascending order along with its directory index.
+   */
+  public void forEachSegment(ObjIntConsumer<AtomicLongArray> consumer) {
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment != null) {
+        consumer.accept(segment, i);
+      }
+    }
+  }
+
+  private AtomicLongArray getOrCreateSegment(int segmentIdx) {
+    AtomicLongArray segment = segments.get(segmentIdx);
+    if (segment != null) {
+      return segment;
+    }
+    AtomicLongArray created = new AtomicLongArray(SEGMENT_SIZE);
+    if (segments.compareAndSet(segmentIdx, null, created)) {
+      return created;
+    }
+    return segments.get(segmentIdx);
+  }
+
+  private void checkId(int id) {
+    if (id < 0) {
+      throw new IllegalArgumentException("id cannot be negative: " + id);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package io.dsub.discogs.batch.job.delta;
+
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores {@link FingerprintMap} contents as files inside the application directory, so that the
+ * next run can tell which items are unchanged since.
+ *
+ * <p>A file is named after the item class, and carries the {@link IdSnapshotFingerprint} of the
+ * core table of the entity at the time it was written. Fingerprints are only loaded while the
+ * table stays the same, as they tell what the table holds.
+ *
+ * <p>The layout is a fixed header followed by the fingerprints as a dense array indexed by
+ * identifier, all in big-endian order. Segments which were never allocated are left as holes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FingerprintStore {
+
+  static final int MAGIC = 0x46505331; // "FPS1"
+  static final int VERSION = 2;
+  static final String SUFFIX = ".fingerprints";
+
+  // magic, version, count, max id, capacity
+  private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES * 3;
+  private static final int SEGMENT_BYTES = FingerprintMap.SEGMENT_SIZE * Long.BYTES;
+
+  private final FileUtil fileUtil;
+
+  /**
+   * Fingerprints are only useful if the application directory survives the job.
+   *
+   * @return true if the application directory is mounted.
+   */
+  public boolean isEnabled() {
+    return !fileUtil.isTemporary();
+  }
+
+  /**
+   * Writes given map as the fingerprints of an item class.
+   *
+   * @param name        of the item class.
+   * @param map         to be written.
+   * @param fingerprint of the core table at the time of writing.
+   * @return true if the fingerprints have been written.
+   */
+  public boolean save(String name, FingerprintMap map, IdSnapshotFingerprint fingerprint) {
+    if (!isEnabled()) {
+      log.debug("application directory is temporary. skipping {} fingerprints", name);
+      return false;
+    }
+    try {
+      Path target = fileUtil.getFilePath(getFilename(name));
+      Path tmp = fileUtil.getFilePath(getFilename(name) + ".tmp");
+      write(tmp, map, fingerprint);
+      Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      log.info("saved {} fingerprints to {}", name, target);
+      return true;
+    } catch (IOException | FileException e) {
+      log.warn("failed to save " + name + " fingerprints", e);
+      return false;
+    }
+  }
+
+  /**
+   * Maps the fingerprints of an item class if they were written along with given fingerprint.
+   *
+   * @param name        of the item class.
+   * @param fingerprint current fingerprint of the core table.
+   * @return the fingerprints, or null if there is no matching file.
+   */
+  public MappedFingerprints load(String name, IdSnapshotFingerprint fingerprint) {
+    try {
+      Path path = fileUtil.getFilePath(getFilename(name));
+      if (!Files.isRegularFile(path)) {
+        return null;
+      }
+      MappedFingerprints mapped = tryLoad(path, fingerprint);
+      if (mapped != null) {
+        log.info("loaded {} fingerprints from {}", name, path);
+      }
+      return mapped;
+    } catch (IOException | FileException | IllegalArgumentException e) {
+      log.warn("failed to load " + name + " fingerprints", e);
+      return null;
+    }
+  }
+
+  private void write(Path path, FingerprintMap map, IdSnapshotFingerprint fingerprint)
+      throws IOException {
+    List<Integer> indexes = new ArrayList<>();
+    List<AtomicLongArray> segments = new ArrayList<>();
+    map.forEachSegment((segment, idx) -> {
+      indexes.add(idx);
+      segments.add(segment);
+    });
+    long capacity =
+        indexes.isEmpty()
+            ? 0
+            : (indexes.get(indexes.size() - 1) + 1L) * FingerprintMap.SEGMENT_SIZE;
+
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC)
+          .putInt(VERSION)
+          .putLong(fingerprint.count())
+          .putInt(fingerprint.maxId())
+          .putLong(fingerprint.idSum())
+          .putLong(capacity)
+          .flip();
+      writeFully(channel, header, 0);
+
+      ByteBuffer buffer = ByteBuffer.allocate(SEGMENT_BYTES);
+      for (int i = 0; i < indexes.size(); i++) {
+        AtomicLongArray segment = segments.get(i);
+        buffer.clear();
+        for (int j = 0; j < FingerprintMap.SEGMENT_SIZE; j++) {
+          buffer.putLong(segment.get(j));
+        }
+        writeFully(channel, buffer.flip(), HEADER_SIZE + (long) indexes.get(i) * SEGMENT_BYTES);
+      }
+      channel.force(false);
+    }
+  }
+
+  private MappedFingerprints tryLoad(Path path, IdSnapshotFingerprint fingerprint)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE) {
+        return null;
+      }
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      if (header.getInt() != MAGIC
+          || header.getInt() != VERSION
+          || header.getLong() != fingerprint.count()
+          || header.getInt() != fingerprint.maxId()
+          || header.getLong() != fingerprint.idSum()) {
+        log.debug("fingerprints {} do not match current fingerprint of the table", path);
+        return null;
+      }
+      long capacity = header.getLong();
+      if (capacity < 0 || size != HEADER_SIZE + capacity * Long.BYTES) {
+        log.warn("fingerprints {} are truncated. ignoring", path);
+        return null;
+      }
+      return new MappedFingerprints(channel, HEADER_SIZE, capacity);
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  static String getFilename(String name) {
+    return name + SUFFIX;
+  }
+}
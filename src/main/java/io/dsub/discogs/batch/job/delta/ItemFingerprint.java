@@ -0,0 +1,90 @@
+package io.dsub.discogs.batch.job.delta;
+
+import io.dsub.discogs.batch.job.reader.projection.ProjectionCodec;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionOutput;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionSpills;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 64-bit fingerprint of an item, i.e. MurmurHash64A of the item encoded by its {@link
+ * ProjectionCodec}. The encoding covers every bound value of the item, hence items of equal content
+ * have equal fingerprints whether read from a dump or from a spill.
+ */
+public final class ItemFingerprint {
+
+  private static final long SEED = 0xe17a1465L;
+  private static final long M = 0xc6a4a7935bd1e995L;
+  private static final int R = 47;
+  private static final VarHandle LONGS =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final ThreadLocal<Encoder> ENCODERS = ThreadLocal.withInitial(Encoder::new);
+
+  private ItemFingerprint() {
+  }
+
+  /**
+   * @param itemClass class of the item, which must have a codec.
+   * @param item      to be fingerprinted.
+   * @return non-zero fingerprint of given item, as 0 marks an absent fingerprint.
+   */
+  public static <T> long of(Class<T> itemClass, T item) {
+    Encoder encoder = ENCODERS.get();
+    encoder.buffer.reset();
+    try {
+      ProjectionSpills.getCodec(itemClass).write(encoder.out, item);
+      encoder.data.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    long hash = hash(encoder.buffer.array(), encoder.buffer.size());
+    return hash == 0 ? 1 : hash;
+  }
+
+  static long hash(byte[] bytes, int length) {
+    long h = SEED ^ (length * M);
+    int i = 0;
+    for (; i + Long.BYTES <= length; i += Long.BYTES) {
+      long k = (long) LONGS.get(bytes, i);
+      k *= M;
+      k ^= k >>> R;
+      k *= M;
+      h ^= k;
+      h *= M;
+    }
+    if (i < length) {
+      for (int shift = 0; i < length; i++, shift += 8) {
+        h ^= (bytes[i] & 0xffL) << shift;
+      }
+      h *= M;
+    }
+    h ^= h >>> R;
+    h *= M;
+    h ^= h >>> R;
+    return h;
+  }
+
+  private static final class Encoder {
+
+    private final Buffer buffer = new Buffer();
+    private final DataOutputStream data = new DataOutputStream(buffer);
+    private final ProjectionOutput out = new ProjectionOutput(data);
+  }
+
+  private static final class Buffer extends ByteArrayOutputStream {
+
+    private Buffer() {
+      super(1024);
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package io.dsub.discogs.batch.job.delta;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of fingerprints saved by a previous run. The fingerprints are a dense array
+ * indexed by identifier, which is mapped into memory rather than read onto the heap. A buffer
+ * cannot map more than 2GB, hence the array is mapped by windows.
+ */
+public class MappedFingerprints {
+
+  static final int WINDOW_SHIFT = 27;
+  static final int WINDOW_MASK = (1 << WINDOW_SHIFT) - 1;
+
+  private final List<LongBuffer> windows = new ArrayList<>();
+  private final long capacity;
+
+  /**
+   * @param channel  of the file, which may be closed once mapped.
+   * @param offset   of the array in the file.
+   * @param capacity number of fingerprints in the array.
+   */
+  MappedFingerprints(FileChannel channel, long offset, long capacity) throws IOException {
+    this.capacity = capacity;
+    for (long from = 0; from < capacity; from += 1L << WINDOW_SHIFT) {
+      long length = Math.min(1L << WINDOW_SHIFT, capacity - from);
+      windows.add(
+          channel.map(MapMode.READ_ONLY, offset + from * Long.BYTES, length * Long.BYTES)
+              .asLongBuffer());
+    }
+  }
+
+  /**
+   * @param id non-negative identifier.
+   * @return fingerprint of given id, or 0 if absent.
+   */
+  public long get(int id) {
+    if (id < 0 || id >= capacity) {
+      return 0L;
+    }
+    return windows.get(id >>> WINDOW_SHIFT).get(id & WINDOW_MASK);
+  }
+}
@@ -1,6 +1,12 @@
 package io.dsub.discogs.batch.job.listener;
 
+import io.dsub.discogs.batch.job.delta.EntityFingerprints;
+import io.dsub.discogs.batch.job.prune.EntityPruner;
+import io.dsub.discogs.batch.job.prune.SeenIds;
+import io.dsub.discogs.batch.job.registry.DatabaseIdResolver;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.IdSnapshotStore;
+import io.dsub.discogs.batch.job.writer.StagingMerge;
 import io.dsub.discogs.batch.util.FileUtil;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicLong;
@@ -13,9 +19,13 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class BatchListenerConfig {
 
+  private final FileUtil fileUtil;
+  private final DSLContext dslContext;
+
   @Bean
   public DefaultEntityIdRegistry entityIdRegistry() {
-    return new DefaultEntityIdRegistry();
+    return new DefaultEntityIdRegistry(
+        new IdSnapshotStore(fileUtil), new DatabaseIdResolver(dslContext));
   }
 
   @Bean
@@ -24,8 +34,13 @@ public class BatchListenerConfig {
   }
 
   @Bean
-  public IdCachingItemProcessListener idCachingItemProcessListener() {
-    return new IdCachingItemProcessListener(entityIdRegistry());
+  public IdCachingItemProcessListener idCachingItemProcessListener(SeenIds seenIds) {
+    return new IdCachingItemProcessListener(entityIdRegistry(), seenIds);
+  }
+
+  @Bean
+  public IdBufferFlushingChunkListener idBufferFlushingChunkListener() {
+    return new IdBufferFlushingChunkListener(entityIdRegistry());
   }
 
   @Bean
@@ -38,9 +53,30 @@ public class BatchListenerConfig {
     return new CacheInversionStepExecutionListener(entityIdRegistry());
   }
 
+  @Bean
+  public IdSnapshotStepExecutionListener idSnapshotStepExecutionListener(DSLContext context) {
+    return new IdSnapshotStepExecutionListener(entityIdRegistry(), context);
+  }
+
+  @Bean
+  public PruningStepExecutionListener pruningStepExecutionListener(
+      SeenIds seenIds, DSLContext context) {
+    return new PruningStepExecutionListener(seenIds, new EntityPruner(context));
+  }
+
   @Bean
   public StopWatchStepExecutionListener stopWatchStepExecutionListener() {
-    return new StopWatchStepExecutionListener(itemsCounter());
+    return new StopWatchStepExecutionListener(itemsCounter(), entityIdRegistry());
+  }
+
+  @Bean
+  public IdExpectingItemReadListener idExpectingItemReadListener() {
+    return new IdExpectingItemReadListener(entityIdRegistry());
+  }
+
+  @Bean
+  public IdResolvingItemProcessListener idResolvingItemProcessListener() {
+    return new IdResolvingItemProcessListener(entityIdRegistry());
   }
 
   @Bean
@@ -54,12 +90,19 @@ public class BatchListenerConfig {
   }
 
   @Bean
-  public IdCachingJobExecutionListener idCachingJobExecutionListener(DSLContext context) {
-    return new IdCachingJobExecutionListener(entityIdRegistry(), context);
+  public IdCachingJobExecutionListener idCachingJobExecutionListener(
+      DSLContext context, StagingMerge stagingMerge) {
+    return new IdCachingJobExecutionListener(entityIdRegistry(), context, stagingMerge);
+  }
+
+  @Bean
+  public FingerprintJobExecutionListener fingerprintJobExecutionListener(
+      EntityFingerprints entityFingerprints, DSLContext context) {
+    return new FingerprintJobExecutionListener(entityFingerprints, context);
   }
 
   @Bean
-  public ClearanceJobExecutionListener clearanceJobExecutionListener(FileUtil fileUtil) {
+  public ClearanceJobExecutionListener clearanceJobExecutionListener() {
     return new ClearanceJobExecutionListener(entityIdRegistry(), fileUtil);
   }
 }
@@ -0,0 +1,82 @@
+package io.dsub.discogs.batch.job.listener;
+
+import io.dsub.discogs.batch.job.delta.EntityFingerprints;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+
+/**
+ * Loads the item fingerprints of the previous run before the job, and saves those of this run
+ * once the job has completed. See {@link EntityFingerprints} for details.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FingerprintJobExecutionListener implements JobExecutionListener {
+
+  private static final List<Type> TYPES = List.of(Type.ARTIST, Type.LABEL, Type.MASTER,
+      Type.RELEASE);
+
+  private final EntityFingerprints fingerprints;
+  private final DSLContext context;
+
+  @Override
+  public void beforeJob(JobExecution jobExecution) {
+    if (!fingerprints.isEnabled()) {
+      return;
+    }
+    Map<String, ?> params = jobExecution.getJobParameters().getParameters();
+    for (Type type : TYPES) {
+      if (params.containsKey(type.name().toLowerCase())) {
+        fingerprints.load(type, IdSnapshotFingerprint.fetch(context, type));
+      }
+    }
+  }
+
+  @Override
+  public void afterJob(JobExecution jobExecution) {
+    if (!fingerprints.isEnabled()) {
+      return;
+    }
+    try {
+      // fingerprints of a failed run may cover items which have never been written. each step is
+      // checked by its exit status as well, as its listeners may have failed it after its status.
+      if (jobExecution.getStatus() != BatchStatus.COMPLETED
+          || !jobExecution.getAllFailureExceptions().isEmpty()
+          || jobExecution.getStepExecutions().stream().anyMatch(this::isIncomplete)) {
+        log.info("job has not been completed. skipping fingerprints");
+        return;
+      }
+      Map<String, ?> params = jobExecution.getJobParameters().getParameters();
+      for (Type type : TYPES) {
+        if (params.containsKey(type.name().toLowerCase())) {
+          saveFingerprints(type);
+        }
+      }
+    } finally {
+      fingerprints.clear();
+    }
+  }
+
+  private boolean isIncomplete(StepExecution stepExecution) {
+    return stepExecution.getStatus() != BatchStatus.COMPLETED
+        || !ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode());
+  }
+
+  private void saveFingerprints(Type type) {
+    try {
+      fingerprints.save(type, IdSnapshotFingerprint.fetch(context, type));
+    } catch (RuntimeException e) {
+      // fingerprints are an optimization for the next run, hence must not fail this one.
+      log.warn("failed to save " + type.name().toLowerCase() + " fingerprints", e);
+    }
+  }
+}
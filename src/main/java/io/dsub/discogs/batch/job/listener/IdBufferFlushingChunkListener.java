@@ -0,0 +1,31 @@
+package io.dsub.discogs.batch.job.listener;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * Merges ids buffered by {@link IdCachingItemProcessListener} once a chunk is done, on the same
+ * worker thread that processed the chunk. Ids of a failed chunk are dropped.
+ */
+@RequiredArgsConstructor
+public class IdBufferFlushingChunkListener implements ChunkListener {
+
+  private final EntityIdRegistry idRegistry;
+
+  @Override
+  public void beforeChunk(ChunkContext context) {
+    idRegistry.discard(); // leftovers from a chunk which ended without callback.
+  }
+
+  @Override
+  public void afterChunk(ChunkContext context) {
+    idRegistry.flush();
+  }
+
+  @Override
+  public void afterChunkError(ChunkContext context) {
+    idRegistry.discard();
+  }
+}
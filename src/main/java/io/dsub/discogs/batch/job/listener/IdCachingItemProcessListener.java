@@ -11,17 +11,39 @@ import io.dsub.discogs.batch.domain.artist.ArtistXML;
 import io.dsub.discogs.batch.domain.label.LabelXML;
 import io.dsub.discogs.batch.domain.master.MasterXML;
 import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.job.prune.SeenIds;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
 import java.util.List;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import java.util.function.BiConsumer;
 import org.springframework.batch.core.ItemProcessListener;
 
-@RequiredArgsConstructor
+/**
+ * Caches identifiers of processed items. Ids are buffered per thread and only become visible once
+ * {@link IdBufferFlushingChunkListener} flushes them, hence the two must be registered together.
+ * Identifiers of every item are tracked as seen as well, including those not processed into a
+ * result, for {@link PruningStepExecutionListener}.
+ */
 public class IdCachingItemProcessListener implements ItemProcessListener<Object, Object> {
 
   private final EntityIdRegistry idRegistry;
+  private final SeenIds seenIds;
+
+  public IdCachingItemProcessListener(EntityIdRegistry idRegistry) {
+    this(idRegistry, null);
+  }
+
+  /**
+   * @param idRegistry to cache identifiers of processed items to.
+   * @param seenIds    to track identifiers of every item to, whether or not it was processed into
+   *                   a result. May be null.
+   */
+  public IdCachingItemProcessListener(EntityIdRegistry idRegistry, SeenIds seenIds) {
+    this.idRegistry = idRegistry;
+    this.seenIds = seenIds;
+  }
 
   /* No Op */
   @Override
@@ -31,26 +53,55 @@ public class IdCachingItemProcessListener implements ItemProcessListener<Object,
 
   @Override
   public void afterProcess(Object pulled, Object result) {
+    track(pulled);
     if (result == null) {
       return;
     }
+    cache(pulled, idRegistry::bufferPut);
+  }
+
+  /**
+   * Caches identifiers of an item which is not going to be processed, as it is unchanged since the
+   * previous run. Such ids are put at once, since the item is already in the database.
+   */
+  public void cacheUnchanged(Object pulled) {
+    track(pulled);
+    cache(pulled, idRegistry::put);
+  }
+
+  private void track(Object pulled) {
+    if (seenIds == null) {
+      return;
+    }
+    if (pulled instanceof ArtistXML artist) {
+      seenIds.add(ARTIST, artist.getId());
+    } else if (pulled instanceof LabelXML label) {
+      seenIds.add(LABEL, label.getId());
+    } else if (pulled instanceof MasterXML master) {
+      seenIds.add(MASTER, master.getId());
+    } else if (pulled instanceof ReleaseItemXML releaseItem) {
+      seenIds.add(RELEASE, releaseItem.getId());
+    }
+  }
+
+  private void cache(Object pulled, BiConsumer<Type, Integer> idConsumer) {
     if (pulled instanceof ArtistXML artist) {
       if (artist.getId() != null) {
-        idRegistry.put(ARTIST, artist.getId());
+        idConsumer.accept(ARTIST, artist.getId());
       }
     } else if (pulled instanceof LabelXML label) {
       if (label.getId() != null) {
-        idRegistry.put(LABEL, label.getId());
+        idConsumer.accept(LABEL, label.getId());
       }
     } else if (pulled instanceof MasterXML master) {
       if (master.getId() != null) {
-        idRegistry.put(MASTER, master.getId());
+        idConsumer.accept(MASTER, master.getId());
         cacheStringTypedItems(STYLE, master.getStyles());
         cacheStringTypedItems(GENRE, master.getGenres());
       }
     } else if (pulled instanceof ReleaseItemXML releaseItem) {
       if (releaseItem.getId() != null) {
-        idRegistry.put(RELEASE, releaseItem.getId());
+        idConsumer.accept(RELEASE, releaseItem.getId());
         cacheStringTypedItems(GENRE, releaseItem.getGenres());
         cacheStringTypedItems(STYLE, releaseItem.getStyles());
       }
@@ -3,18 +3,26 @@ package io.dsub.discogs.batch.job.listener;
 import io.dsub.discogs.batch.argument.ArgType;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.jooq.tables.Artist;
-import io.dsub.discogs.jooq.tables.Label;
-import io.dsub.discogs.jooq.tables.Master;
+import io.dsub.discogs.batch.job.registry.EntityIdTables;
+import io.dsub.discogs.batch.job.registry.IdCache;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import io.dsub.discogs.batch.job.writer.StagingMerge;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
+import org.jooq.Select;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,16 +33,31 @@ public class IdCachingJobExecutionListener implements JobExecutionListener {
   protected static final String MASTER = "master";
   protected static final String RELEASE = "release";
   protected static final String STRICT = ArgType.STRICT.getGlobalName();
+  protected static final String STARTED = "started";
+  protected static final String RESTARTED = "restarted";
+  private static final int FETCH_SIZE = 10_000;
 
   private final EntityIdRegistry idRegistry;
   private final DSLContext context;
+  private final StagingMerge stagingMerge;
 
   @Override
   public void beforeJob(JobExecution jobExecution) {
     Map<String, ?> params = jobExecution.getJobParameters().getParameters();
 
-    // caching only required in strict mode (i.e. skipping required steps)
-    if (params.containsKey(STRICT)) {
+    // the context of a failed execution is handed over to its restart, whose steps resume from
+    // their checkpoints. ids of the records before them have never been cached in this run.
+    ExecutionContext jobContext = jobExecution.getExecutionContext();
+    boolean restarted = jobContext.containsKey(STARTED);
+    jobContext.putString(STARTED, "true");
+    if (restarted) {
+      jobContext.putString(RESTARTED, "true");
+    }
+
+    // strict mode skips pre-caching; missing ids are resolved against the database on demand.
+    boolean strict = params.containsKey(STRICT);
+    idRegistry.setLazyResolution(strict || restarted);
+    if (strict) {
       return;
     }
 
@@ -43,42 +66,69 @@ public class IdCachingJobExecutionListener implements JobExecutionListener {
     boolean doMaster = params.containsKey(MASTER);
     boolean doRelease = params.containsKey(RELEASE);
 
+    List<DefaultEntityIdRegistry.Type> types = new ArrayList<>();
+
     if (doMaster && !doRelease) {
       if (!doArtist) {
-        preCacheArtistIds();
+        types.add(DefaultEntityIdRegistry.Type.ARTIST);
       }
     } else if (!doMaster && doRelease) {
       if (!doArtist) {
-        preCacheArtistIds();
+        types.add(DefaultEntityIdRegistry.Type.ARTIST);
       }
       if (!doLabel) {
-        preCacheLabelIds();
+        types.add(DefaultEntityIdRegistry.Type.LABEL);
       }
-      preCacheMasterIds();
+      types.add(DefaultEntityIdRegistry.Type.MASTER);
     } else if (doMaster) { // doMaster && doRelease
       if (!doArtist) {
-        preCacheArtistIds();
+        types.add(DefaultEntityIdRegistry.Type.ARTIST);
       }
       if (!doLabel) {
-        preCacheLabelIds();
+        types.add(DefaultEntityIdRegistry.Type.LABEL);
       }
     }
-  }
 
-  private void preCacheMasterIds() {
-    cacheThenInvert(fetchMasterIdentifiers(), DefaultEntityIdRegistry.Type.MASTER);
-  }
+    // sub items are the only items referring to artists and labels, and are filtered against the
+    // tables by the merge of their staging tables instead.
+    if (stagingMerge.isEnabled()) {
+      types.remove(DefaultEntityIdRegistry.Type.ARTIST);
+      types.remove(DefaultEntityIdRegistry.Type.LABEL);
+    }
 
-  private void preCacheLabelIds() {
-    cacheThenInvert(fetchLabelIdentifiers(), DefaultEntityIdRegistry.Type.LABEL);
+    preCache(types);
   }
 
-  private void preCacheArtistIds() {
-    cacheThenInvert(fetchArtistIdentifiers(), DefaultEntityIdRegistry.Type.ARTIST);
+  /**
+   * Caches identifiers of each type concurrently. Every type is fetched by its own thread, hence on
+   * its own connection.
+   */
+  private void preCache(List<DefaultEntityIdRegistry.Type> types) {
+    if (types.isEmpty()) {
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(types.size());
+    try {
+      CompletableFuture<?>[] futures =
+          types.stream()
+              .map(type -> CompletableFuture.runAsync(() -> cacheThenInvert(type), executor))
+              .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      executor.shutdown();
+    }
   }
 
-  private void cacheThenInvert(List<Integer> idList, DefaultEntityIdRegistry.Type type) {
-    cache(idList, type);
+  private void cacheThenInvert(DefaultEntityIdRegistry.Type type) {
+    // a snapshot from previous run is only restored if the table has not been changed since.
+    if (!idRegistry.restore(type, () -> IdSnapshotFingerprint.fetch(context, type))) {
+      cache(type);
+    }
     invert(type);
   }
 
@@ -86,35 +136,40 @@ public class IdCachingJobExecutionListener implements JobExecutionListener {
     idRegistry.invert(type);
   }
 
-  private void cache(List<Integer> idList, DefaultEntityIdRegistry.Type type) {
-    log.info("caching {} identifiers", type.name().toLowerCase());
-    idList.stream().filter(Objects::nonNull).forEach(id -> idRegistry.put(type, id));
-  }
-
-  private List<Integer> fetchArtistIdentifiers() {
-    log.info("fetching artist identifiers");
-    List<Integer> list =
-        new ArrayList<>(
-            context.select(Artist.ARTIST.ID).from(Artist.ARTIST).fetch(Artist.ARTIST.ID));
-    log.info("fetched artists ids. count: {}", list.size());
-    return list;
-  }
-
-  private List<Integer> fetchLabelIdentifiers() {
-    log.info("fetching label identifiers");
-    List<Integer> list =
-        new ArrayList<>(context.select(Label.LABEL.ID).from(Label.LABEL).fetch(Label.LABEL.ID));
-    log.info("fetched label ids. count: {}", list.size());
-    return list;
+  private void cache(DefaultEntityIdRegistry.Type type) {
+    String typeName = type.name().toLowerCase();
+    log.info("fetching {} identifiers", typeName);
+    String sql = context.render(getIdSelect(type));
+    IdCache idCache = idRegistry.getLongIdCache(type);
+    long count =
+        context.connectionResult(
+            conn -> {
+              // PostgreSQL only honors the fetch size with a server-side cursor, which in turn
+              // requires a transaction.
+              boolean autoCommit = conn.getAutoCommit();
+              conn.setAutoCommit(false);
+              try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setFetchSize(FETCH_SIZE);
+                try (ResultSet rs = stmt.executeQuery()) {
+                  long fetched = 0;
+                  while (rs.next()) {
+                    int id = rs.getInt(1);
+                    if (!rs.wasNull()) {
+                      idCache.add(id);
+                      fetched++;
+                    }
+                  }
+                  return fetched;
+                }
+              } finally {
+                conn.setAutoCommit(autoCommit);
+              }
+            });
+    log.info("cached {} identifiers. count: {}", typeName, count);
   }
 
-  private List<Integer> fetchMasterIdentifiers() {
-    log.info("fetching master identifiers");
-    List<Integer> list =
-        new ArrayList<>(
-            context.select(Master.MASTER.ID).from(Master.MASTER).fetch(Master.MASTER.ID));
-    log.info("fetched master ids. count: {}", list.size());
-    return list;
+  private Select<?> getIdSelect(DefaultEntityIdRegistry.Type type) {
+    return context.select(EntityIdTables.getIdField(type)).from(EntityIdTables.getTable(type));
   }
 
   @Override
@@ -0,0 +1,90 @@
+package io.dsub.discogs.batch.job.listener;
+
+import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.ARTIST;
+import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.LABEL;
+import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.MASTER;
+import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.RELEASE;
+
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.lang.NonNull;
+
+/**
+ * Reports every identifier an item refers to, before the item gets processed. Since a chunk is
+ * fully read before it is processed, the registry can resolve all references of a chunk with a
+ * single query on its first miss. See {@link EntityIdRegistry#expect(EntityIdRegistry.Type,
+ * Integer)}.
+ *
+ * <p>Expectations are kept per thread. With async item processing, the items are read by a single
+ * thread but processed on a pool, hence {@link IdResolvingItemProcessListener} resolves the
+ * expectations of each chunk on the reader thread before its items are handed to the pool.
+ */
+@RequiredArgsConstructor
+public class IdExpectingItemReadListener implements ItemReadListener<Object> {
+
+  private final EntityIdRegistry idRegistry;
+
+  /* No Op */
+  @Override
+  public void beforeRead() {
+  }
+
+  @Override
+  public void afterRead(@NonNull Object item) {
+    if (item instanceof ArtistSubItemsXML artist) {
+      expect(ARTIST, artist.getAliases(), ArtistSubItemsXML.ArtistAliasXML::getAliasId);
+      expect(ARTIST, artist.getGroups(), ArtistSubItemsXML.ArtistGroupXML::getGroupId);
+      expect(ARTIST, artist.getMembers(), ArtistSubItemsXML.ArtistMemberXML::getMemberId);
+    } else if (item instanceof LabelSubItemsXML label) {
+      expect(LABEL, label.getLabelSubLabels(), LabelSubItemsXML.LabelSubLabelXML::getSubLabelId);
+    } else if (item instanceof MasterSubItemsXML master) {
+      expect(ARTIST, master.getMasterArtists(), MasterSubItemsXML.MasterArtistXML::getArtistId);
+    } else if (item instanceof MasterMainReleaseXML master) {
+      idRegistry.expect(RELEASE, master.getMainReleaseId());
+    } else if (item instanceof ReleaseItemXML release) {
+      if (release.getMaster() != null) {
+        idRegistry.expect(MASTER, release.getMaster().getMasterId());
+      }
+    } else if (item instanceof ReleaseItemSubItemsXML release) {
+      expect(
+          ARTIST,
+          release.getReleaseAlbumArtists(),
+          ReleaseItemSubItemsXML.ReleaseAlbumArtist::getArtistId);
+      expect(
+          ARTIST,
+          release.getReleaseCreditedArtists(),
+          ReleaseItemSubItemsXML.ReleaseCreditedArtist::getArtistId);
+      expect(LABEL, release.getCompanies(), ReleaseItemSubItemsXML.ReleaseWork::getId);
+      expect(
+          LABEL,
+          release.getLabelReleaseLabels(),
+          ReleaseItemSubItemsXML.LabelItemRelease::getLabelId);
+    }
+  }
+
+  private <T> void expect(
+      EntityIdRegistry.Type type, List<T> references, Function<T, Integer> idGetter) {
+    if (references == null) {
+      return;
+    }
+    for (T reference : references) {
+      if (reference != null) {
+        idRegistry.expect(type, idGetter.apply(reference));
+      }
+    }
+  }
+
+  /* No Op */
+  @Override
+  public void onReadError(@NonNull Exception ex) {
+  }
+}
@@ -0,0 +1,35 @@
+package io.dsub.discogs.batch.job.listener;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemProcessListener;
+
+/**
+ * Resolves the identifiers expected by {@link IdExpectingItemReadListener} before an item gets
+ * processed. Since a chunk is fully read before it is processed, the first item of a chunk
+ * resolves the references of the whole chunk, and the others find nothing left to resolve.
+ *
+ * <p>With async item processing, this listener is notified on the reader thread before the item is
+ * handed to the pool. The references of each chunk are hence resolved by a single query per type,
+ * of which the results are shared with the pool by the registry.
+ */
+@RequiredArgsConstructor
+public class IdResolvingItemProcessListener implements ItemProcessListener<Object, Object> {
+
+  private final EntityIdRegistry idRegistry;
+
+  @Override
+  public void beforeProcess(Object item) {
+    idRegistry.resolveExpected();
+  }
+
+  /* No Op */
+  @Override
+  public void afterProcess(Object item, Object result) {
+  }
+
+  /* No Op */
+  @Override
+  public void onProcessError(Object item, Exception e) {
+  }
+}
@@ -0,0 +1,67 @@
+package io.dsub.discogs.batch.job.listener;
+
+import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import io.dsub.discogs.batch.job.step.core.ArtistStepConfig;
+import io.dsub.discogs.batch.job.step.core.LabelStepConfig;
+import io.dsub.discogs.batch.job.step.core.MasterStepConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * Saves the id cache of an entity after its core insertion step, so that the next run can restore
+ * it instead of fetching every identifier from the database. See {@link
+ * IdCachingJobExecutionListener} for the restoring side.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdSnapshotStepExecutionListener implements StepExecutionListener {
+
+  private static final String ARTIST = "artist";
+  private static final String LABEL = "label";
+  private static final String MASTER = "master";
+
+  private final EntityIdRegistry idRegistry;
+  private final DSLContext context;
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    if (!ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) {
+      return stepExecution.getExitStatus();
+    }
+
+    String stepName = stepExecution.getStepName();
+
+    if (stepName.equals(ArtistStepConfig.ARTIST_CORE_INSERTION_STEP)) {
+      snapshot(stepExecution, ARTIST, DefaultEntityIdRegistry.Type.ARTIST);
+    } else if (stepName.equals(LabelStepConfig.LABEL_CORE_INSERTION_STEP)) {
+      snapshot(stepExecution, LABEL, DefaultEntityIdRegistry.Type.LABEL);
+    } else if (stepName.equals(MasterStepConfig.MASTER_CORE_INSERTION_STEP)) {
+      snapshot(stepExecution, MASTER, DefaultEntityIdRegistry.Type.MASTER);
+    }
+
+    return stepExecution.getExitStatus();
+  }
+
+  private void snapshot(StepExecution stepExecution, String key, EntityIdRegistry.Type type) {
+    String eTag = stepExecution.getJobParameters().getString(key);
+    if (eTag == null) {
+      return;
+    }
+    try {
+      idRegistry.snapshot(type, eTag, () -> IdSnapshotFingerprint.fetch(context, type));
+    } catch (RuntimeException e) {
+      // snapshots are an optimization for the next run, hence must not fail this one.
+      log.warn("failed to snapshot " + key + " id cache", e);
+    }
+  }
+}
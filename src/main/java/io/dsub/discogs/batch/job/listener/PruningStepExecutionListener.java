@@ -0,0 +1,71 @@
+package io.dsub.discogs.batch.job.listener;
+
+import io.dsub.discogs.batch.job.prune.EntityPruner;
+import io.dsub.discogs.batch.job.prune.SeenIds;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import io.dsub.discogs.batch.job.step.core.ArtistStepConfig;
+import io.dsub.discogs.batch.job.step.core.LabelStepConfig;
+import io.dsub.discogs.batch.job.step.core.MasterStepConfig;
+import io.dsub.discogs.batch.job.step.core.ReleaseItemStepConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * Deletes the entities missing from a dump once its core insertion step has read the whole dump.
+ * Must be registered after {@link IdSnapshotStepExecutionListener}, so that the snapshot is taken
+ * from the pruned table.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PruningStepExecutionListener implements StepExecutionListener {
+
+  private final SeenIds seenIds;
+  private final EntityPruner pruner;
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    if (!seenIds.isEnabled() || !ExitStatus.COMPLETED.equals(stepExecution.getExitStatus())) {
+      return stepExecution.getExitStatus();
+    }
+
+    String stepName = stepExecution.getStepName();
+
+    if (stepName.equals(ArtistStepConfig.ARTIST_CORE_INSERTION_STEP)) {
+      prune(stepExecution, EntityIdRegistry.Type.ARTIST);
+    } else if (stepName.equals(LabelStepConfig.LABEL_CORE_INSERTION_STEP)) {
+      prune(stepExecution, EntityIdRegistry.Type.LABEL);
+    } else if (stepName.equals(MasterStepConfig.MASTER_CORE_INSERTION_STEP)) {
+      prune(stepExecution, EntityIdRegistry.Type.MASTER);
+    } else if (stepName.equals(ReleaseItemStepConfig.RELEASE_ITEM_CORE_INSERTION_STEP)) {
+      prune(stepExecution, EntityIdRegistry.Type.RELEASE);
+    }
+
+    return stepExecution.getExitStatus();
+  }
+
+  private void prune(StepExecution stepExecution, EntityIdRegistry.Type type) {
+    String typeName = type.name().toLowerCase();
+    try {
+      // a restarted step resumes from its checkpoint, hence has not seen the entities before it.
+      if (stepExecution.getJobExecution().getExecutionContext()
+          .containsKey(IdCachingJobExecutionListener.RESTARTED)) {
+        log.info("job has been restarted. skipping {} prune", typeName);
+        return;
+      }
+      long pruned = pruner.prune(type, seenIds.get(type));
+      log.info("pruned {} entities. count: {}", typeName, pruned);
+    } catch (RuntimeException e) {
+      // entities left behind are pruned by the next run, hence must not fail this one.
+      log.warn("failed to prune " + typeName + " entities", e);
+    } finally {
+      seenIds.clear(type);
+    }
+  }
+}
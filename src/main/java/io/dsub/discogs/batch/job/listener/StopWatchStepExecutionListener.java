@@ -1,5 +1,12 @@
 package io.dsub.discogs.batch.job.listener;
 
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistryStats;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
@@ -13,10 +20,19 @@ import org.springframework.util.StopWatch;
 public class StopWatchStepExecutionListener implements StepExecutionListener {
 
   private final AtomicLong itemsCounter;
+  private final EntityIdRegistry idRegistry;
+  // registry counters are cumulative over the job, hence reported relative to the step start.
+  private final Map<Type, EntityIdRegistryStats> registryBaseline = new EnumMap<>(Type.class);
   private StopWatch stopWatch;
 
   public StopWatchStepExecutionListener(final AtomicLong itemsCounter) {
+    this(itemsCounter, null);
+  }
+
+  public StopWatchStepExecutionListener(
+      final AtomicLong itemsCounter, final EntityIdRegistry idRegistry) {
     this.itemsCounter = itemsCounter;
+    this.idRegistry = idRegistry;
     this.stopWatch = new StopWatch();
     this.stopWatch.setKeepTaskList(false);
     this.init();
@@ -30,15 +46,17 @@ public class StopWatchStepExecutionListener implements StepExecutionListener {
   @Override
   public void beforeStep(StepExecution stepExecution) {
     stepExecution.setStatus(BatchStatus.STARTING);
+    takeRegistryBaseline();
     getStopWatch().start(stepExecution.getStepName());
   }
 
   @Override
   public ExitStatus afterStep(StepExecution stepExecution) {
     printStepDetails(itemsCounter.get() == 0 ? stepExecution.getWriteCount() : itemsCounter.get());
-    stepExecution.setStatus(BatchStatus.COMPLETED);
+    printRegistryStats();
     this.init();
-    return ExitStatus.COMPLETED;
+    // keeps the exit status of the step, so that a failed step fails the job and can be restarted.
+    return null;
   }
 
   /**
@@ -67,6 +85,45 @@ public class StopWatchStepExecutionListener implements StepExecutionListener {
         itemsProcPerSec);
   }
 
+  private void takeRegistryBaseline() {
+    registryBaseline.clear();
+    if (idRegistry == null) {
+      return;
+    }
+    List<EntityIdRegistryStats> statsList = idRegistry.getStats();
+    if (statsList != null) {
+      statsList.forEach(stats -> registryBaseline.put(stats.type(), stats));
+    }
+  }
+
+  /**
+   * reports entries, estimated memory and lookup counts of the id registry during the step, per
+   * type in use.
+   */
+  private void printRegistryStats() {
+    if (idRegistry == null) {
+      return;
+    }
+    List<EntityIdRegistryStats> statsList = idRegistry.getStats();
+    if (statsList == null) {
+      return;
+    }
+    for (EntityIdRegistryStats total : statsList) {
+      EntityIdRegistryStats stats = total.since(registryBaseline.get(total.type()));
+      if (stats.isEmpty()) {
+        continue;
+      }
+      log.info(
+          "{} registry holds {} entries in ~{} KB. hits: {}, misses: {}, inversion: {} ms",
+          stats.type().name().toLowerCase(),
+          stats.cardinality(),
+          stats.estimatedBytes() / 1024,
+          stats.hits(),
+          stats.misses(),
+          TimeUnit.NANOSECONDS.toMillis(stats.inversionNanos()));
+    }
+  }
+
   protected StopWatch getStopWatch() {
     return stopWatch;
   }
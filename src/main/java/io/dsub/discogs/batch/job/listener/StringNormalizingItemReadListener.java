@@ -1,6 +1,6 @@
 package io.dsub.discogs.batch.job.listener;
 
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.util.StringNormalizer;
 import org.springframework.batch.core.ItemReadListener;
 import org.springframework.lang.NonNull;
 
@@ -13,7 +13,7 @@ public class StringNormalizingItemReadListener implements ItemReadListener<Objec
 
   @Override
   public void afterRead(@NonNull Object item) {
-    ReflectionUtil.normalizeStringFields(item);
+    StringNormalizer.normalize(item);
   }
 
   /* No Op */
@@ -1,7 +1,6 @@
 package io.dsub.discogs.batch.job.processor;
 
 import io.dsub.discogs.batch.domain.artist.ArtistXML;
-import io.dsub.discogs.batch.util.ReflectionUtil;
 import io.dsub.discogs.jooq.tables.records.ArtistRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
@@ -14,7 +13,6 @@ public class ArtistCoreProcessor implements ItemProcessor<ArtistXML, ArtistRecor
     if (item.getId() == null || item.getId() < 1) {
       return null;
     }
-    ReflectionUtil.normalizeStringFields(item);
     return item.buildRecord();
   }
 }
@@ -4,7 +4,7 @@ import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.ARTIST;
 
 import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.util.StringHash;
 import io.dsub.discogs.jooq.tables.records.ArtistAliasRecord;
 import io.dsub.discogs.jooq.tables.records.ArtistGroupRecord;
 import io.dsub.discogs.jooq.tables.records.ArtistMemberRecord;
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.item.ItemProcessor;
 
@@ -28,6 +29,13 @@ public class ArtistSubItemsProcessor
 
   private final EntityIdRegistry idRegistry;
 
+  /**
+   * Whether references are checked against the id registry. Unchecked references must be left out
+   * by the writer instead.
+   */
+  @Setter
+  private boolean referencesChecked = true;
+
   @Override
   public Collection<UpdatableRecord<?>> process(ArtistSubItemsXML item) {
 
@@ -35,8 +43,6 @@ public class ArtistSubItemsProcessor
       return null;
     }
 
-    ReflectionUtil.normalizeStringFields(item);
-
     List<UpdatableRecord<?>> items = new ArrayList<>();
 
     items.addAll(getArtistAliasRecords(item));
@@ -77,7 +83,7 @@ public class ArtistSubItemsProcessor
       return Collections.emptyList();
     }
     return item.getMembers().stream()
-        .filter(member -> idRegistry.exists(ARTIST, member.getMemberId()))
+        .filter(member -> isExistingArtist(member.getMemberId()))
         .map(xml -> xml.getRecord(item.getId()))
         .collect(Collectors.toList());
   }
@@ -87,7 +93,7 @@ public class ArtistSubItemsProcessor
       return Collections.emptyList();
     }
     return item.getGroups().stream()
-        .filter(group -> idRegistry.exists(ARTIST, group.getGroupId()))
+        .filter(group -> isExistingArtist(group.getGroupId()))
         .map(xml -> xml.getRecord(item.getId()))
         .collect(Collectors.toList());
   }
@@ -97,18 +103,25 @@ public class ArtistSubItemsProcessor
       return Collections.emptyList();
     }
     return item.getAliases().stream()
-        .filter(alias -> idRegistry.exists(ARTIST, alias.getAliasId()))
+        .filter(alias -> isExistingArtist(alias.getAliasId()))
         .map(xml -> xml.getRecord(item.getId()))
         .collect(Collectors.toList());
   }
 
+  private boolean isExistingArtist(Integer id) {
+    if (id == null || id < 1) {
+      return false;
+    }
+    return !referencesChecked || idRegistry.exists(ARTIST, id);
+  }
+
   private ArtistNameVariationRecord makeArtistNameVariationRecord(
       Integer artistId, String nameVar) {
     ArtistNameVariationRecord record = new ArtistNameVariationRecord();
     return record
         .setArtistId(artistId)
         .setNameVariation(nameVar)
-        .setHash(nameVar.hashCode())
+        .setHash(StringHash.fold(StringHash.hash64(nameVar)))
         .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC()))
         .setCreatedAt(LocalDateTime.now(Clock.systemUTC()));
   }
@@ -119,7 +132,7 @@ public class ArtistSubItemsProcessor
         .setUrl(url)
         .setArtistId(artistId)
         .setCreatedAt(LocalDateTime.now(Clock.systemUTC()))
-        .setHash(url.hashCode())
+        .setHash(StringHash.fold(StringHash.hash64(url)))
         .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC()));
   }
 }
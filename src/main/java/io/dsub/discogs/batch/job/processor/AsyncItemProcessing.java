@@ -0,0 +1,79 @@
+package io.dsub.discogs.batch.job.processor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Processes the items of a step on a dedicated pool, so that a single reader thread can feed every
+ * core instead of the threads of the step taking turns on the reader. The step then deals with a
+ * future of each result, which the writer resolves before handing the results to its delegate.
+ *
+ * <p>The pool is not shared with the steps, as a step waiting on its futures would otherwise hold
+ * the very threads its items are queued for.
+ */
+public class AsyncItemProcessing implements DisposableBean {
+
+  private final ThreadPoolTaskExecutor taskExecutor;
+
+  @Getter
+  @Setter
+  private boolean enabled;
+
+  public AsyncItemProcessing(int poolSize) {
+    this.taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setCorePoolSize(poolSize);
+    taskExecutor.setMaxPoolSize(poolSize);
+    taskExecutor.setThreadNamePrefix("async-processor-");
+    taskExecutor.initialize();
+  }
+
+  /**
+   * Wraps a processor to be run on the pool. The listener is notified on the pool as well, since a
+   * listener of the step would only be given the future of each result.
+   *
+   * @param delegate processor of each item.
+   * @param listener of the delegate.
+   * @return processor returning a future of each result.
+   */
+  public <I, O> AsyncItemProcessor<I, O> processor(
+      ItemProcessor<I, O> delegate, ItemProcessListener<? super I, ? super O> listener) {
+    AsyncItemProcessor<I, O> processor = new AsyncItemProcessor<>();
+    processor.setDelegate(
+        item -> {
+          listener.beforeProcess(item);
+          try {
+            O result = delegate.process(item);
+            listener.afterProcess(item, result);
+            return result;
+          } catch (Exception e) {
+            listener.onProcessError(item, e);
+            throw e;
+          }
+        });
+    processor.setTaskExecutor(taskExecutor);
+    return processor;
+  }
+
+  /**
+   * @param delegate writer of the results.
+   * @return writer resolving the futures of {@link #processor(ItemProcessor,
+   *     ItemProcessListener)}. Filtered items are left out, as they are by a synchronous step.
+   */
+  public <T> AsyncItemWriter<T> writer(ItemWriter<T> delegate) {
+    AsyncItemWriter<T> writer = new AsyncItemWriter<>();
+    writer.setDelegate(delegate);
+    return writer;
+  }
+
+  @Override
+  public void destroy() {
+    taskExecutor.shutdown();
+  }
+}
@@ -10,6 +10,7 @@ import io.dsub.discogs.batch.domain.master.MasterXML;
 import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
 import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
+import io.dsub.discogs.batch.job.writer.StagingMerge;
 import io.dsub.discogs.jooq.tables.records.ArtistRecord;
 import io.dsub.discogs.jooq.tables.records.LabelRecord;
 import io.dsub.discogs.jooq.tables.records.MasterRecord;
@@ -27,6 +28,7 @@ import org.springframework.context.annotation.Configuration;
 public class ItemProcessorConfig {
 
   private final DefaultEntityIdRegistry entityIdRegistry;
+  private final StagingMerge stagingMerge;
 
   @Bean
   @StepScope
@@ -38,7 +40,9 @@ public class ItemProcessorConfig {
   @StepScope
   public ItemProcessor<ArtistSubItemsXML, Collection<UpdatableRecord<?>>>
   artistSubItemsProcessor() {
-    return new ArtistSubItemsProcessor(entityIdRegistry);
+    ArtistSubItemsProcessor processor = new ArtistSubItemsProcessor(entityIdRegistry);
+    processor.setReferencesChecked(!stagingMerge.isEnabled());
+    return processor;
   }
 
   @Bean
@@ -50,7 +54,9 @@ public class ItemProcessorConfig {
   @Bean
   @StepScope
   public ItemProcessor<LabelSubItemsXML, Collection<UpdatableRecord<?>>> labelSubItemsProcessor() {
-    return new LabelSubItemsProcessor(entityIdRegistry);
+    LabelSubItemsProcessor processor = new LabelSubItemsProcessor(entityIdRegistry);
+    processor.setReferencesChecked(!stagingMerge.isEnabled());
+    return processor;
   }
 
   @Bean
@@ -63,7 +69,9 @@ public class ItemProcessorConfig {
   @StepScope
   public ItemProcessor<MasterSubItemsXML, Collection<UpdatableRecord<?>>>
   masterSubItemsProcessor() {
-    return new MasterSubItemsProcessor(entityIdRegistry);
+    MasterSubItemsProcessor processor = new MasterSubItemsProcessor(entityIdRegistry);
+    processor.setReferencesChecked(!stagingMerge.isEnabled());
+    return processor;
   }
 
   @Bean
@@ -76,7 +84,9 @@ public class ItemProcessorConfig {
   @StepScope
   public ItemProcessor<ReleaseItemSubItemsXML, Collection<UpdatableRecord<?>>>
   releaseItemSubItemsProcessor() {
-    return new ReleaseItemSubItemsProcessor(entityIdRegistry);
+    ReleaseItemSubItemsProcessor processor = new ReleaseItemSubItemsProcessor(entityIdRegistry);
+    processor.setReferencesChecked(!stagingMerge.isEnabled());
+    return processor;
   }
 
   @Bean
@@ -1,7 +1,6 @@
 package io.dsub.discogs.batch.job.processor;
 
 import io.dsub.discogs.batch.domain.label.LabelXML;
-import io.dsub.discogs.batch.util.ReflectionUtil;
 import io.dsub.discogs.jooq.tables.records.LabelRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
@@ -14,7 +13,6 @@ public class LabelCoreProcessor implements ItemProcessor<LabelXML, LabelRecord>
     if (command.getId() == null || command.getId() < 1) {
       return null;
     }
-    ReflectionUtil.normalizeStringFields(command);
     return command.buildRecord();
   }
 }
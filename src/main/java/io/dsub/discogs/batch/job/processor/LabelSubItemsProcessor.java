@@ -4,7 +4,7 @@ import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.LABEL;
 
 import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.util.StringHash;
 import io.dsub.discogs.jooq.tables.records.LabelUrlRecord;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.item.ItemProcessor;
 
@@ -21,14 +22,19 @@ public class LabelSubItemsProcessor
 
   private final EntityIdRegistry idRegistry;
 
+  /**
+   * Whether references are checked against the id registry. Unchecked references must be left out
+   * by the writer instead.
+   */
+  @Setter
+  private boolean referencesChecked = true;
+
   @Override
   public Collection<UpdatableRecord<?>> process(LabelSubItemsXML item) {
     if (item.getId() == null || item.getId() < 1) {
       return null;
     }
 
-    ReflectionUtil.normalizeStringFields(item);
-
     List<UpdatableRecord<?>> records = new ArrayList<>();
 
     Integer labelId = item.getId();
@@ -55,12 +61,15 @@ public class LabelSubItemsProcessor
     return new LabelUrlRecord()
         .setLabelId(labelId)
         .setUrl(url)
-        .setHash(url.hashCode())
+        .setHash(StringHash.fold(StringHash.hash64(url)))
         .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC()))
         .setCreatedAt(LocalDateTime.now(Clock.systemUTC()));
   }
 
   private boolean isExistingLabel(Integer labelId) {
-    return idRegistry.exists(LABEL, labelId);
+    if (labelId == null || labelId < 1) {
+      return false;
+    }
+    return !referencesChecked || idRegistry.exists(LABEL, labelId);
   }
 }
@@ -1,7 +1,6 @@
 package io.dsub.discogs.batch.job.processor;
 
 import io.dsub.discogs.batch.domain.master.MasterXML;
-import io.dsub.discogs.batch.util.ReflectionUtil;
 import io.dsub.discogs.jooq.tables.records.MasterRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
@@ -14,7 +13,6 @@ public class MasterCoreProcessor implements ItemProcessor<MasterXML, MasterRecor
     if (master.getId() == null || master.getId() < 1) {
       return null;
     }
-    ReflectionUtil.normalizeStringFields(master);
     return master.buildRecord();
   }
 }
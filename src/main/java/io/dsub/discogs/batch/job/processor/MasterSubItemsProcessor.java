@@ -6,7 +6,7 @@ import static io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type.STYLE;
 
 import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.job.registry.StringDictionary;
 import io.dsub.discogs.jooq.tables.records.MasterGenreRecord;
 import io.dsub.discogs.jooq.tables.records.MasterStyleRecord;
 import io.dsub.discogs.jooq.tables.records.MasterVideoRecord;
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.item.ItemProcessor;
 
@@ -27,6 +28,13 @@ public class MasterSubItemsProcessor
 
   private final EntityIdRegistry idRegistry;
 
+  /**
+   * Whether references are checked against the id registry. Unchecked references must be left out
+   * by the writer instead.
+   */
+  @Setter
+  private boolean referencesChecked = true;
+
   @Override
   public Collection<UpdatableRecord<?>> process(MasterSubItemsXML master) {
 
@@ -34,8 +42,6 @@ public class MasterSubItemsProcessor
       return null;
     }
 
-    ReflectionUtil.normalizeStringFields(master);
-
     List<UpdatableRecord<?>> items = new ArrayList<>();
     Integer masterId = master.getId();
 
@@ -59,21 +65,19 @@ public class MasterSubItemsProcessor
 
     if (master.getGenres() != null) {
       master.getGenres().stream()
-          .filter(Objects::nonNull)
-          .map(String::trim)
+          .mapToInt(genre -> getCode(GENRE, genre))
+          .filter(code -> code != StringDictionary.NO_CODE)
           .distinct()
-          .filter(this::isExistingGenre)
-          .map(genre -> getMasterGenreRecord(masterId, genre))
+          .mapToObj(code -> getMasterGenreRecord(masterId, idRegistry.getValue(GENRE, code)))
           .forEach(items::add);
     }
 
     if (master.getStyles() != null) {
       master.getStyles().stream()
-          .filter(Objects::nonNull)
-          .map(String::trim)
+          .mapToInt(style -> getCode(STYLE, style))
+          .filter(code -> code != StringDictionary.NO_CODE)
           .distinct()
-          .filter(this::isExistingStyle)
-          .map(style -> getMasterStyleRecord(masterId, style))
+          .mapToObj(code -> getMasterStyleRecord(masterId, idRegistry.getValue(STYLE, code)))
           .forEach(items::add);
     }
 
@@ -81,15 +85,17 @@ public class MasterSubItemsProcessor
   }
 
   private boolean isExistingArtist(Integer id) {
-    return idRegistry.exists(ARTIST, id);
-  }
-
-  private boolean isExistingStyle(String name) {
-    return idRegistry.exists(STYLE, name);
+    if (id == null || id < 1) {
+      return false;
+    }
+    return !referencesChecked || idRegistry.exists(ARTIST, id);
   }
 
-  private boolean isExistingGenre(String name) {
-    return idRegistry.exists(GENRE, name);
+  private int getCode(EntityIdRegistry.Type type, String name) {
+    if (name == null) {
+      return StringDictionary.NO_CODE;
+    }
+    return idRegistry.getCode(type, name);
   }
 
   private MasterGenreRecord getMasterGenreRecord(Integer masterId, String genre) {
@@ -110,16 +116,12 @@ public class MasterSubItemsProcessor
 
   private MasterVideoRecord getMasterVideoRecord(
       Integer masterId, MasterSubItemsXML.MasterVideoXML video) {
-    String hashSrc =
-        (video.getTitle() == null ? "" : video.getTitle())
-            + (video.getDescription() == null ? "" : video.getDescription())
-            + (video.getUrl() == null ? "" : video.getUrl());
     return new MasterVideoRecord()
         .setMasterId(masterId)
         .setTitle(video.getTitle())
         .setDescription(video.getDescription())
         .setUrl(video.getUrl())
-        .setHash(hashSrc.hashCode())
+        .setHash(video.getHashValue())
         .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC()))
         .setCreatedAt(LocalDateTime.now(Clock.systemUTC()));
   }
@@ -3,9 +3,9 @@ package io.dsub.discogs.batch.job.processor;
 import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.batch.util.DefaultMalformedDateParser;
 import io.dsub.discogs.batch.util.MalformedDateParser;
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.util.MemoizingMalformedDateParser;
+import io.dsub.discogs.batch.util.ScanningMalformedDateParser;
 import io.dsub.discogs.jooq.tables.records.ReleaseItemRecord;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -15,7 +15,11 @@ import org.springframework.batch.item.ItemProcessor;
 @RequiredArgsConstructor
 public class ReleaseItemCoreProcessor implements ItemProcessor<ReleaseItemXML, ReleaseItemRecord> {
 
-  private final MalformedDateParser parser = new DefaultMalformedDateParser();
+  // release dates repeat all over the dump; distinct ones beyond the capacity are rather rare.
+  private static final int PARSED_DATE_CAPACITY = 1 << 16;
+
+  private final MalformedDateParser parser =
+      new MemoizingMalformedDateParser(new ScanningMalformedDateParser(), PARSED_DATE_CAPACITY);
   private final EntityIdRegistry idRegistry;
 
   @Override
@@ -25,8 +29,6 @@ public class ReleaseItemCoreProcessor implements ItemProcessor<ReleaseItemXML, R
       return null;
     }
 
-    ReflectionUtil.normalizeStringFields(release);
-
     Integer masterId = null;
 
     if (release.getMaster() != null && release.getMaster().getMasterId() != null) {
@@ -1,9 +1,10 @@
 package io.dsub.discogs.batch.job.processor;
 
 import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
 import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
-import io.dsub.discogs.batch.util.ReflectionUtil;
+import io.dsub.discogs.batch.job.registry.StringDictionary;
 import io.dsub.discogs.jooq.tables.records.ReleaseItemGenreRecord;
 import io.dsub.discogs.jooq.tables.records.ReleaseItemStyleRecord;
 import java.time.Clock;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.item.ItemProcessor;
 
@@ -23,12 +25,18 @@ public class ReleaseItemSubItemsProcessor
 
   private final EntityIdRegistry idRegistry;
 
+  /**
+   * Whether references are checked against the id registry. Unchecked references must be left out
+   * by the writer instead.
+   */
+  @Setter
+  private boolean referencesChecked = true;
+
   @Override
   public Collection<UpdatableRecord<?>> process(ReleaseItemSubItemsXML item) {
     if (item.getId() == null || item.getId() < 1) {
       return null;
     }
-    ReflectionUtil.normalizeStringFields(item);
     List<UpdatableRecord<?>> items = new ArrayList<>();
     int releaseItemId = item.getId();
 
@@ -66,15 +74,14 @@ public class ReleaseItemSubItemsProcessor
 
     if (item.getGenres() != null) {
       item.getGenres().stream()
-          .filter(Objects::nonNull)
-          .map(String::trim)
-          .filter(this::isExistingGenre)
+          .mapToInt(genre -> getCode(DefaultEntityIdRegistry.Type.GENRE, genre))
+          .filter(code -> code != StringDictionary.NO_CODE)
           .distinct()
-          .map(
-              genre ->
+          .mapToObj(
+              code ->
                   new ReleaseItemGenreRecord()
                       .setReleaseItemId(releaseItemId)
-                      .setGenre(genre)
+                      .setGenre(idRegistry.getValue(DefaultEntityIdRegistry.Type.GENRE, code))
                       .setCreatedAt(LocalDateTime.now(Clock.systemUTC()))
                       .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC())))
           .forEach(items::add);
@@ -82,15 +89,14 @@ public class ReleaseItemSubItemsProcessor
 
     if (item.getStyles() != null) {
       item.getStyles().stream()
-          .filter(Objects::nonNull)
-          .map(String::trim)
-          .filter(this::isExistingStyle)
+          .mapToInt(style -> getCode(DefaultEntityIdRegistry.Type.STYLE, style))
+          .filter(code -> code != StringDictionary.NO_CODE)
           .distinct()
-          .map(
-              style ->
+          .mapToObj(
+              code ->
                   new ReleaseItemStyleRecord()
                       .setReleaseItemId(releaseItemId)
-                      .setStyle(style)
+                      .setStyle(idRegistry.getValue(DefaultEntityIdRegistry.Type.STYLE, code))
                       .setCreatedAt(LocalDateTime.now(Clock.systemUTC()))
                       .setLastModifiedAt(LocalDateTime.now(Clock.systemUTC())))
           .forEach(items::add);
@@ -137,27 +143,23 @@ public class ReleaseItemSubItemsProcessor
     if (id == null || id < 1) {
       return false;
     }
-    return idRegistry.exists(DefaultEntityIdRegistry.Type.ARTIST, id);
+    return !referencesChecked || idRegistry.exists(DefaultEntityIdRegistry.Type.ARTIST, id);
   }
 
   private boolean isExistingLabel(Integer id) {
     if (id == null || id < 1) {
       return false;
     }
-    return idRegistry.exists(DefaultEntityIdRegistry.Type.LABEL, id);
-  }
-
-  private boolean isExistingGenre(String genre) {
-    if (genre == null || genre.isBlank()) {
-      return false;
-    }
-    return idRegistry.exists(DefaultEntityIdRegistry.Type.GENRE, genre);
+    return !referencesChecked || idRegistry.exists(DefaultEntityIdRegistry.Type.LABEL, id);
   }
 
-  private boolean isExistingStyle(String style) {
-    if (style == null || style.isBlank()) {
-      return false;
+  /**
+   * Genres and styles are already trimmed by {@link StringNormalizingItemReadListener}.
+   */
+  private int getCode(DefaultEntityIdRegistry.Type type, String value) {
+    if (value == null) {
+      return StringDictionary.NO_CODE;
     }
-    return idRegistry.exists(DefaultEntityIdRegistry.Type.STYLE, style);
+    return idRegistry.getCode(type, value);
   }
 }
@@ -0,0 +1,122 @@
+package io.dsub.discogs.batch.job.prune;
+
+import io.dsub.discogs.batch.job.registry.ConcurrentIdBitSet;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.EntityIdTables;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Record;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * Deletes the entities which are no longer in the dumps. The identifiers of a table are streamed
+ * and compared against those seen in this run, and the missing ones are deleted by batches with
+ * set-based statements.
+ *
+ * <p>Rows referring to a deleted entity are found by the foreign keys of the schema. Such rows are
+ * deleted as well, unless the referring column is nullable, in which case the reference is cleared
+ * instead; i.e. a release of a deleted master is kept without its master.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EntityPruner {
+
+  static final int BATCH_SIZE = 10_000;
+  private static final int FETCH_SIZE = 10_000;
+
+  private final DSLContext context;
+
+  /**
+   * Deletes every entity of given type whose identifier has not been seen.
+   *
+   * @param type of the entity.
+   * @param seen identifiers of the entities in the dump.
+   * @return number of entities deleted.
+   */
+  public long prune(Type type, ConcurrentIdBitSet seen) {
+    String typeName = type.name().toLowerCase();
+    // an empty dump is far more likely to be a failed read than an empty catalog.
+    if (seen.isEmpty()) {
+      log.warn("no {} identifiers have been seen. skipping prune", typeName);
+      return 0;
+    }
+    Table<?> table = EntityIdTables.getTable(type);
+    Field<Integer> idField = EntityIdTables.getIdField(type);
+    int[] missing = fetchMissing(table, idField, seen);
+    log.info("pruning {} {} entities missing from the dump", missing.length, typeName);
+
+    for (int from = 0; from < missing.length; from += BATCH_SIZE) {
+      Integer[] ids =
+          Arrays.stream(missing, from, Math.min(from + BATCH_SIZE, missing.length))
+              .boxed()
+              .toArray(Integer[]::new);
+      context.transaction(configuration -> {
+        DSLContext tx = DSL.using(configuration);
+        detachReferences(tx, table, ids);
+        tx.deleteFrom(table).where(idField.eq(DSL.any(ids))).execute();
+      });
+    }
+    return missing.length;
+  }
+
+  private int[] fetchMissing(Table<?> table, Field<Integer> idField, ConcurrentIdBitSet seen) {
+    String sql = context.render(context.select(idField).from(table));
+    return context.connectionResult(
+        conn -> {
+          // PostgreSQL only honors the fetch size with a server-side cursor, which in turn
+          // requires a transaction.
+          boolean autoCommit = conn.getAutoCommit();
+          conn.setAutoCommit(false);
+          try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery()) {
+              IntStream.Builder missing = IntStream.builder();
+              while (rs.next()) {
+                int id = rs.getInt(1);
+                if (!rs.wasNull() && (id < 0 || !seen.contains(id))) {
+                  missing.add(id);
+                }
+              }
+              return missing.build().toArray();
+            }
+          } finally {
+            conn.setAutoCommit(autoCommit);
+          }
+        });
+  }
+
+  private void detachReferences(DSLContext tx, Table<?> parent, Integer[] ids) {
+    Schema schema = parent.getSchema();
+    if (schema == null) {
+      return;
+    }
+    for (Table<?> child : schema.getTables()) {
+      detachReferences(tx, child, parent, ids);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R extends Record> void detachReferences(
+      DSLContext tx, Table<R> child, Table<?> parent, Integer[] ids) {
+    for (ForeignKey<R, ?> key : child.getReferencesTo(parent)) {
+      if (key.getFields().size() != 1) {
+        continue; // entities are referred to by their identifiers alone.
+      }
+      Field<Integer> field = (Field<Integer>) key.getFields().get(0);
+      if (field.getDataType().nullable()) {
+        tx.update(child).set(field, (Integer) null).where(field.eq(DSL.any(ids))).execute();
+      } else {
+        tx.deleteFrom(child).where(field.eq(DSL.any(ids))).execute();
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package io.dsub.discogs.batch.job.prune;
+
+import io.dsub.discogs.batch.job.registry.ConcurrentIdBitSet;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.EntityIdTables;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Identifiers of the entities read from the dumps of this run, regardless of whether they have
+ * been written. Unlike the id registry, which may also hold identifiers fetched from the database,
+ * these are exactly the entities the dumps still have. Nothing is tracked unless enabled.
+ */
+public class SeenIds {
+
+  private final Map<Type, ConcurrentIdBitSet> seen = new EnumMap<>(Type.class);
+  private volatile boolean enabled;
+
+  public SeenIds() {
+    for (Type type : Type.values()) {
+      if (EntityIdTables.isSupported(type)) {
+        seen.put(type, new ConcurrentIdBitSet());
+      }
+    }
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void add(Type type, Integer id) {
+    if (enabled && id != null && id >= 0) {
+      seen.get(type).add(id);
+    }
+  }
+
+  public ConcurrentIdBitSet get(Type type) {
+    return seen.get(type);
+  }
+
+  public void clear(Type type) {
+    seen.get(type).clear();
+  }
+}
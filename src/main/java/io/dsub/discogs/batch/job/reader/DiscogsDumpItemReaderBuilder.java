@@ -1,9 +1,19 @@
 package io.dsub.discogs.batch.job.reader;
 
 import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.job.delta.DeltaItemStreamReader;
+import io.dsub.discogs.batch.job.delta.EntityFingerprints;
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinder;
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinders;
+import io.dsub.discogs.batch.job.reader.partition.DumpBlocks;
+import io.dsub.discogs.batch.job.reader.partition.DumpPartition;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionSpillReader;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionSpills;
 import io.dsub.discogs.batch.util.FileUtil;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.support.SynchronizedItemStreamReader;
 import org.springframework.util.Assert;
 
@@ -14,22 +24,136 @@ import org.springframework.util.Assert;
 public class DiscogsDumpItemReaderBuilder {
 
   private final FileUtil fileUtil;
+  private DumpInputMode inputMode = DumpInputMode.STREAM;
+  private boolean transcoding;
+  private EntityFingerprints fingerprints;
+  private Consumer<Object> unchangedConsumer;
 
+  /**
+   * Sets how whole dumps are read. Partitions are always streamed, as each of them is read by a
+   * thread of its own already.
+   */
+  public void setInputMode(DumpInputMode inputMode) {
+    Assert.notNull(inputMode, "inputMode cannot be null");
+    this.inputMode = inputMode;
+  }
+
+  /**
+   * Sets whether readers of core items spill the core items too, so that later runs of the same
+   * dumps read the spills instead of parsing the dumps.
+   */
+  public void setTranscoding(boolean transcoding) {
+    this.transcoding = transcoding;
+  }
+
+  /**
+   * Sets the fingerprints to skip items with, if enabled. Each core item skipped is handed to
+   * given consumer, as it will not be processed.
+   */
+  public void setDelta(EntityFingerprints fingerprints, Consumer<Object> unchangedConsumer) {
+    this.fingerprints = fingerprints;
+    this.unchangedConsumer = unchangedConsumer;
+  }
+
+  /**
+   * Builds a reader that binds items from a stream cursor if the mapped class has a {@link
+   * StaxItemBinder}, or with JAXB otherwise.
+   *
+   * <p>With a cursor, a reader of core items also spills the other items of each entity, and a
+   * reader of those items reads the spill if there is one. Hence, each dump is parsed only once.
+   * If transcoding, the core items are spilled as well, to be read likewise by later runs.
+   */
   public <T> SynchronizedItemStreamReader<T> build(Class<T> mappedClass, DiscogsDump dump)
       throws Exception {
+    return build(mappedClass, dump, XmlBindingMode.CURSOR);
+  }
+
+  /**
+   * Builds a reader of given partition of the dump, or of the whole dump if the partition is
+   * null.
+   */
+  public <T> SynchronizedItemStreamReader<T> build(
+      Class<T> mappedClass, DiscogsDump dump, DumpPartition partition) throws Exception {
+    return build(mappedClass, dump, XmlBindingMode.CURSOR, partition);
+  }
+
+  public <T> SynchronizedItemStreamReader<T> build(
+      Class<T> mappedClass, DiscogsDump dump, XmlBindingMode bindingMode) throws Exception {
+    return build(mappedClass, dump, bindingMode, null);
+  }
+
+  public <T> SynchronizedItemStreamReader<T> build(
+      Class<T> mappedClass, DiscogsDump dump, XmlBindingMode bindingMode, DumpPartition partition)
+      throws Exception {
     Assert.notNull(dump.getFileName(), "fileName of DiscogsDump cannot be null");
     Assert.notNull(dump.getType(), "type of DiscogsDump cannot be null");
+    Assert.notNull(bindingMode, "bindingMode cannot be null");
 
     Path filePath = fileUtil.getFilePath(dump.getFileName());
 
-    ProgressBarStaxEventItemReader<T> delegate;
-    delegate =
-        new ProgressBarStaxEventItemReader<>(mappedClass, filePath, dump.getType().toString());
-    delegate.afterPropertiesSet();
+    ItemStreamReader<T> delegate;
+    if (bindingMode == XmlBindingMode.CURSOR) {
+      delegate = buildCursorReader(mappedClass, dump, filePath, partition);
+    } else {
+      delegate = buildXmlReader(mappedClass, dump, filePath, partition, null, null);
+    }
+    if (delegate instanceof ProgressBarStaxEventItemReader<T> xmlReader) {
+      xmlReader.afterPropertiesSet();
+    }
+    // items are skipped outside of the reader, so that its checkpoint counts every item.
+    if (fingerprints != null
+        && fingerprints.isEnabled()
+        && EntityFingerprints.supports(mappedClass)) {
+      delegate =
+          new DeltaItemStreamReader<>(
+              delegate, mappedClass, EntityFingerprints::getId, fingerprints, unchangedConsumer);
+    }
 
     SynchronizedItemStreamReader<T> reader = new SynchronizedItemStreamReader<>();
     reader.setDelegate(delegate);
     reader.afterPropertiesSet(); // this won't trigger that of delegate's.
     return reader;
   }
+
+  private <T> ItemStreamReader<T> buildCursorReader(
+      Class<T> mappedClass, DiscogsDump dump, Path filePath, DumpPartition partition)
+      throws Exception {
+    ProjectionSpillReader<T> spillReader =
+        ProjectionSpills.getReader(fileUtil, dump, partition, mappedClass);
+    if (spillReader != null) {
+      return spillReader;
+    }
+
+    ProjectionSpills spills = null;
+    StaxItemBinder<T> binder = null;
+    if (ProjectionSpills.isSpillable(dump)) {
+      spills = new ProjectionSpills(fileUtil, dump, partition);
+      binder =
+          transcoding
+              ? StaxItemBinders.getTranscoder(mappedClass, spills)
+              : StaxItemBinders.getFanOut(mappedClass, spills);
+    }
+    if (binder == null) {
+      spills = null;
+      binder = StaxItemBinders.get(mappedClass);
+    }
+    return buildXmlReader(mappedClass, dump, filePath, partition, binder, spills);
+  }
+
+  private <T> ProgressBarStaxEventItemReader<T> buildXmlReader(
+      Class<T> mappedClass,
+      DiscogsDump dump,
+      Path filePath,
+      DumpPartition partition,
+      StaxItemBinder<T> binder,
+      ProjectionSpills spills)
+      throws Exception {
+    String rootElement = dump.getType().toString();
+    if (partition == null) {
+      return new ProgressBarStaxEventItemReader<>(
+          mappedClass, filePath, inputMode, binder, spills, rootElement);
+    }
+    return new ProgressBarStaxEventItemReader<>(
+        mappedClass, DumpBlocks.getRange(fileUtil, dump, partition), binder, spills, rootElement);
+  }
 }
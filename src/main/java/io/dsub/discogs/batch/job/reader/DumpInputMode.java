@@ -0,0 +1,15 @@
+package io.dsub.discogs.batch.job.reader;
+
+/**
+ * How a {@link ProgressBarStaxEventItemReader} reads and decompresses a dump.
+ */
+public enum DumpInputMode {
+  /**
+   * Read and inflate the dump on the thread of the parser, as the parser pulls bytes.
+   */
+  STREAM,
+  /**
+   * Read and inflate the dump ahead of the parser, on a thread of its own.
+   */
+  PIPELINED
+}
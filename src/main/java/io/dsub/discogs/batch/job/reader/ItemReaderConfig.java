@@ -14,6 +14,7 @@ import io.dsub.discogs.batch.dump.EntityType;
 import io.dsub.discogs.batch.dump.service.DiscogsDumpService;
 import io.dsub.discogs.batch.exception.DumpNotFoundException;
 import io.dsub.discogs.batch.exception.InitializationFailureException;
+import io.dsub.discogs.batch.job.reader.partition.DumpPartition;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.configuration.annotation.JobScope;
@@ -32,6 +33,8 @@ public class ItemReaderConfig {
   private static final String LABEL_ETAG = "#{jobParameters['label']}";
   private static final String MASTER_ETAG = "#{jobParameters['master']}";
   private static final String RELEASE_ITEM_ETAG = "#{jobParameters['release']}";
+  private static final String FIRST_BLOCK = "#{stepExecutionContext['firstBlock']}";
+  private static final String LAST_BLOCK = "#{stepExecutionContext['lastBlock']}";
 
   private final DiscogsDumpItemReaderBuilder readerBuilder;
   private final DiscogsDumpService dumpService;
@@ -116,9 +119,11 @@ public class ItemReaderConfig {
 
   @Bean
   @StepScope
-  public SynchronizedItemStreamReader<ReleaseItemXML> releaseItemStreamReader() {
+  public SynchronizedItemStreamReader<ReleaseItemXML> releaseItemStreamReader(
+      @Value(FIRST_BLOCK) Integer firstBlock, @Value(LAST_BLOCK) Integer lastBlock) {
     try {
-      return readerBuilder.build(ReleaseItemXML.class, releaseItemDump(null));
+      return readerBuilder.build(ReleaseItemXML.class, releaseItemDump(null),
+          DumpPartition.of(firstBlock, lastBlock));
     } catch (Exception e) {
       throw new InitializationFailureException(
           "failed to initialize release stream reader: " + e.getMessage());
@@ -127,9 +132,11 @@ public class ItemReaderConfig {
 
   @Bean
   @StepScope
-  public SynchronizedItemStreamReader<ReleaseItemSubItemsXML> releaseItemSubItemsStreamReader() {
+  public SynchronizedItemStreamReader<ReleaseItemSubItemsXML> releaseItemSubItemsStreamReader(
+      @Value(FIRST_BLOCK) Integer firstBlock, @Value(LAST_BLOCK) Integer lastBlock) {
     try {
-      return readerBuilder.build(ReleaseItemSubItemsXML.class, releaseItemDump(null));
+      return readerBuilder.build(ReleaseItemSubItemsXML.class, releaseItemDump(null),
+          DumpPartition.of(firstBlock, lastBlock));
     } catch (Exception e) {
       throw new InitializationFailureException(
           "failed to initialize release stream reader: " + e.getMessage());
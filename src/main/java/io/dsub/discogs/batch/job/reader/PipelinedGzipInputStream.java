@@ -0,0 +1,312 @@
+package io.dsub.discogs.batch.job.reader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import me.tongfei.progressbar.ProgressBar;
+
+/**
+ * Decompresses a gzip file ahead of its reader, on a thread of its own. The file is read through a
+ * {@link FileChannel} into a direct buffer, which is inflated into a bounded ring of chunks. Filled
+ * chunks are handed to the reader and handed back once drained, hence reading from the disk,
+ * inflating and parsing run on separate cores.
+ *
+ * <p>Concatenated gzip members are read one after another, as {@link
+ * java.util.zip.GZIPInputStream} does.
+ */
+public class PipelinedGzipInputStream extends InputStream {
+
+  public static final int DEFAULT_INPUT_BUFFER_SIZE = 1 << 20;
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+  public static final int DEFAULT_DEPTH = 4;
+
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private final FileChannel channel;
+  private final ProgressBar progressBar;
+  private final int inputBufferSize;
+  private final BlockingQueue<Chunk> filled;
+  private final BlockingQueue<Chunk> drained;
+  private final Thread inflaterThread;
+  private Chunk current;
+  private volatile boolean closed;
+
+  public PipelinedGzipInputStream(Path path, ProgressBar progressBar) throws IOException {
+    this(path, progressBar, DEFAULT_INPUT_BUFFER_SIZE, DEFAULT_CHUNK_SIZE, DEFAULT_DEPTH);
+  }
+
+  /**
+   * Opens given file. Decompression starts on the first read.
+   *
+   * @param path            gzip file to be read.
+   * @param progressBar     to be stepped by compressed bytes read, and closed along with the stream.
+   *                        Can be null.
+   * @param inputBufferSize size of the direct buffer the file is read into.
+   * @param chunkSize       size of each chunk of decompressed bytes.
+   * @param depth           number of chunks in the ring.
+   * @throws IOException if the file cannot be opened.
+   */
+  public PipelinedGzipInputStream(
+      Path path, ProgressBar progressBar, int inputBufferSize, int chunkSize, int depth)
+      throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.progressBar = progressBar;
+    this.inputBufferSize = inputBufferSize;
+    this.filled = new ArrayBlockingQueue<>(depth + 1); // the end of stream or a failure on top.
+    this.drained = new ArrayBlockingQueue<>(depth);
+    for (int i = 0; i < depth; i++) {
+      this.drained.add(new Chunk(new byte[chunkSize]));
+    }
+    this.inflaterThread = new Thread(this::run, "inflater-" + path.getFileName());
+    this.inflaterThread.setDaemon(true);
+  }
+
+  @Override
+  public int read() throws IOException {
+    Chunk chunk = next();
+    if (chunk == null) {
+      return -1;
+    }
+    return chunk.data[chunk.position++] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    Chunk chunk = next();
+    if (chunk == null) {
+      return -1;
+    }
+    int n = Math.min(len, chunk.length - chunk.position);
+    System.arraycopy(chunk.data, chunk.position, b, off, n);
+    chunk.position += n;
+    return n;
+  }
+
+  @Override
+  public int available() {
+    Chunk chunk = current;
+    return chunk == null || chunk.data == null ? 0 : chunk.length - chunk.position;
+  }
+
+  // returns a chunk with bytes left, or null at the end of stream.
+  private Chunk next() throws IOException {
+    if (closed) {
+      throw new IOException("stream closed");
+    }
+    if (current == null) {
+      inflaterThread.start();
+    } else if (current.failure != null) {
+      throw new IOException("failed to inflate", current.failure);
+    } else if (current.position < current.length) {
+      return current;
+    } else if (current.data == null) {
+      return null;
+    } else {
+      drained.add(current.clear());
+    }
+    try {
+      current = filled.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while waiting for inflater");
+    }
+    if (current.failure != null) {
+      throw new IOException("failed to inflate", current.failure);
+    }
+    return current.data == null ? null : current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      inflaterThread.interrupt();
+      channel.close();
+    } finally {
+      if (progressBar != null) {
+        progressBar.close();
+      }
+    }
+  }
+
+  private void run() {
+    Inflater inflater = new Inflater(true);
+    try {
+      ByteBuffer input = ByteBuffer.allocateDirect(inputBufferSize).flip();
+      boolean first = true;
+      while (readHeader(input, first)) {
+        inflate(input, inflater);
+        first = false;
+      }
+      filled.put(Chunk.END);
+    } catch (InterruptedException ignored) {
+      // closed by the reader.
+    } catch (Exception e) {
+      if (!closed) {
+        filled.offer(Chunk.failed(e));
+      }
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private void inflate(ByteBuffer input, Inflater inflater)
+      throws IOException, InterruptedException, DataFormatException {
+    CRC32 crc = new CRC32();
+    inflater.reset();
+    Chunk chunk = drained.take();
+    while (!inflater.finished()) {
+      if (inflater.needsInput()) {
+        if (!input.hasRemaining() && !fill(input)) {
+          throw new EOFException("unexpected end of gzip stream");
+        }
+        inflater.setInput(input);
+      }
+      int n = inflater.inflate(chunk.data, chunk.length, chunk.data.length - chunk.length);
+      if (n == 0 && inflater.needsDictionary()) {
+        throw new ZipException("unexpected dictionary in gzip stream");
+      }
+      crc.update(chunk.data, chunk.length, n);
+      chunk.length += n;
+      if (chunk.length == chunk.data.length) {
+        filled.put(chunk);
+        chunk = drained.take();
+      }
+    }
+    if (chunk.length > 0) {
+      filled.put(chunk);
+    } else {
+      drained.put(chunk);
+    }
+    if (readIntLE(input) != (int) crc.getValue()
+        || readIntLE(input) != (int) inflater.getBytesWritten()) {
+      throw new ZipException("corrupt gzip trailer");
+    }
+  }
+
+  // returns false if there is no member left.
+  private boolean readHeader(ByteBuffer input, boolean first) throws IOException {
+    int id1 = readByte(input);
+    if (id1 < 0 && !first) {
+      return false;
+    }
+    if (id1 != 0x1f || readByte(input) != 0x8b || readByte(input) != 8) {
+      if (first) {
+        throw new ZipException("not in gzip format");
+      }
+      return false; // trailing garbage, which GZIPInputStream ignores as well.
+    }
+    int flags = readByte(input);
+    skip(input, 6); // mtime, xfl and os.
+    if ((flags & FEXTRA) != 0) {
+      skip(input, readByte(input) | readByte(input) << 8);
+    }
+    if ((flags & FNAME) != 0) {
+      skipString(input);
+    }
+    if ((flags & FCOMMENT) != 0) {
+      skipString(input);
+    }
+    if ((flags & FHCRC) != 0) {
+      skip(input, 2);
+    }
+    return true;
+  }
+
+  private int readByte(ByteBuffer input) throws IOException {
+    if (!input.hasRemaining() && !fill(input)) {
+      return -1;
+    }
+    return input.get() & 0xff;
+  }
+
+  private int readIntLE(ByteBuffer input) throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int b = readByte(input);
+      if (b < 0) {
+        throw new EOFException("unexpected end of gzip trailer");
+      }
+      value |= b << (8 * i);
+    }
+    return value;
+  }
+
+  private void skip(ByteBuffer input, int n) throws IOException {
+    for (int i = 0; i < n; i++) {
+      if (readByte(input) < 0) {
+        throw new EOFException("unexpected end of gzip header");
+      }
+    }
+  }
+
+  private void skipString(ByteBuffer input) throws IOException {
+    int b;
+    do {
+      b = readByte(input);
+      if (b < 0) {
+        throw new EOFException("unexpected end of gzip header");
+      }
+    } while (b != 0);
+  }
+
+  private boolean fill(ByteBuffer input) throws IOException {
+    input.compact();
+    int n;
+    try {
+      n = channel.read(input);
+    } finally {
+      input.flip();
+    }
+    if (n > 0 && progressBar != null) {
+      progressBar.stepBy(n);
+    }
+    return n > 0;
+  }
+
+  private static final class Chunk {
+
+    private static final Chunk END = new Chunk(null);
+
+    private final byte[] data;
+    private Throwable failure;
+    private int length;
+    private int position;
+
+    private Chunk(byte[] data) {
+      this.data = data;
+    }
+
+    private static Chunk failed(Throwable failure) {
+      Chunk chunk = new Chunk(null);
+      chunk.failure = failure;
+      return chunk;
+    }
+
+    private Chunk clear() {
+      length = 0;
+      position = 0;
+      return this;
+    }
+  }
+}
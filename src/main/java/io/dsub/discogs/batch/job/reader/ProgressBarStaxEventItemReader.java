@@ -1,5 +1,8 @@
 package io.dsub.discogs.batch.job.reader;
 
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinder;
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockRange;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionSpills;
 import io.dsub.discogs.batch.util.ProgressBarUtil;
 import io.dsub.discogs.batch.util.ToggleProgressBarConsumer;
 import java.io.IOException;
@@ -15,16 +18,25 @@ import me.tongfei.progressbar.wrapped.ProgressBarWrappedInputStream;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.batch.item.xml.StaxEventItemReader;
 import org.springframework.batch.item.xml.builder.StaxEventItemReaderBuilder;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
 import org.springframework.oxm.Unmarshaller;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.util.Assert;
 
 /**
- * Decorated ItemReader to show progress bar.
+ * Decorated ItemReader to show progress bar. Fragments are unmarshalled with JAXB, unless a {@link
+ * StaxItemBinder} is given, in which case they are bound from a stream cursor.
+ *
+ * <p>The reader reads either a whole dump, or a {@link DumpBlockRange} of it for a partition. A
+ * whole dump can also be decompressed ahead of the parser, as of {@link DumpInputMode#PIPELINED}.
+ *
+ * <p>A {@link ReadCheckpoint} is saved on each commit. If the step is restarted, a block range is
+ * re-opened from the block holding the checkpoint, and the records before it are skipped.
  *
  * @param <T> type to be read.
  */
@@ -38,14 +50,83 @@ public class ProgressBarStaxEventItemReader<T> implements ItemStreamReader<T>, I
   private final Class<T> mappedClass;
   private final Path filePath;
   private final ToggleProgressBarConsumer pbConsumer = new ToggleProgressBarConsumer(System.err);
+  private final StaxItemBinder<T> binder;
+  private final ProjectionSpills projectionSpills;
+  private final DumpBlockRange blockRange;
+  private final DumpInputMode inputMode;
+  private final ReadCheckpoint checkpoint;
+  private DumpBlockRange openRange;
   private String[] fragmentRootElements;
-  private StaxEventItemReader<T> nestedReader;
+  private AbstractItemCountingItemStreamItemReader<T> nestedReader;
 
   public ProgressBarStaxEventItemReader(
       Class<T> mappedClass, Path filePath, String... fragmentRootElements) throws Exception {
+    this(mappedClass, filePath, null, fragmentRootElements);
+  }
+
+  public ProgressBarStaxEventItemReader(
+      Class<T> mappedClass,
+      Path filePath,
+      StaxItemBinder<T> binder,
+      String... fragmentRootElements)
+      throws Exception {
+    this(mappedClass, filePath, binder, null, fragmentRootElements);
+  }
+
+  public ProgressBarStaxEventItemReader(
+      Class<T> mappedClass,
+      Path filePath,
+      StaxItemBinder<T> binder,
+      ProjectionSpills projectionSpills,
+      String... fragmentRootElements)
+      throws Exception {
+    this(mappedClass, filePath, DumpInputMode.STREAM, binder, projectionSpills,
+        fragmentRootElements);
+  }
+
+  public ProgressBarStaxEventItemReader(
+      Class<T> mappedClass,
+      Path filePath,
+      DumpInputMode inputMode,
+      StaxItemBinder<T> binder,
+      ProjectionSpills projectionSpills,
+      String... fragmentRootElements)
+      throws Exception {
+    this(mappedClass, filePath, null, inputMode, binder, projectionSpills, fragmentRootElements);
+  }
+
+  public ProgressBarStaxEventItemReader(
+      Class<T> mappedClass,
+      DumpBlockRange blockRange,
+      StaxItemBinder<T> binder,
+      ProjectionSpills projectionSpills,
+      String... fragmentRootElements)
+      throws Exception {
+    this(mappedClass, blockRange.blocksPath(), blockRange, DumpInputMode.STREAM, binder,
+        projectionSpills, fragmentRootElements);
+  }
+
+  private ProgressBarStaxEventItemReader(
+      Class<T> mappedClass,
+      Path filePath,
+      DumpBlockRange blockRange,
+      DumpInputMode inputMode,
+      StaxItemBinder<T> binder,
+      ProjectionSpills projectionSpills,
+      String... fragmentRootElements)
+      throws Exception {
     this.mappedClass = mappedClass;
+    this.binder = binder;
+    this.projectionSpills = projectionSpills;
     this.filePath = filePath;
-    this.taskName = TASK_NAME_PREPEND + mappedClass.getSimpleName();
+    this.blockRange = blockRange;
+    this.openRange = blockRange;
+    this.inputMode = inputMode;
+    this.checkpoint = new ReadCheckpoint(mappedClass.getSimpleName());
+    this.taskName =
+        TASK_NAME_PREPEND
+            + mappedClass.getSimpleName()
+            + (blockRange == null ? "" : " " + blockRange.partition());
     this.pbConsumer.off();
     this.fragmentRootElements =
         Arrays.stream(fragmentRootElements)
@@ -57,14 +138,24 @@ public class ProgressBarStaxEventItemReader<T> implements ItemStreamReader<T>, I
   private void init() throws Exception {
     Assert.notNull(this.mappedClass, "clazz cannot be null");
     Assert.notNull(this.filePath, "filePath cannot be null");
+    Assert.notNull(this.inputMode, "inputMode cannot be null");
     Assert.notEmpty(this.fragmentRootElements, "at least 1 fragmentRootElement is required");
     initDelegate();
   }
 
   private void initDelegate() throws Exception {
+    if (binder != null) {
+      StaxCursorItemReader<T> cursorReader =
+          new StaxCursorItemReader<>(getDumpResource(), binder, fragmentRootElements);
+      cursorReader.setName(taskName);
+      cursorReader.setSaveState(false);
+      cursorReader.setProjectionSpills(projectionSpills);
+      this.nestedReader = cursorReader;
+      return;
+    }
     this.nestedReader =
         new StaxEventItemReaderBuilder<T>()
-            .resource(getInputStreamResource())
+            .resource(getDumpResource())
             .name(taskName)
             .addFragmentRootElements(fragmentRootElements)
             .unmarshaller(getUnmarshaller(mappedClass))
@@ -79,31 +170,90 @@ public class ProgressBarStaxEventItemReader<T> implements ItemStreamReader<T>, I
     return jaxb2Marshaller;
   }
 
-  private InputStreamResource getInputStreamResource() throws IOException {
-    InputStream in = Files.newInputStream(filePath);
+  // the stream is opened along with the nested reader, by when the range to be read is known.
+  private Resource getDumpResource() {
+    return new AbstractResource() {
+      @Override
+      public boolean exists() {
+        return true;
+      }
+
+      @Override
+      public String getDescription() {
+        return "dump stream [" + filePath + "]";
+      }
+
+      @Override
+      public InputStream getInputStream() throws IOException {
+        return openInputStream();
+      }
+    };
+  }
+
+  private InputStream openInputStream() throws IOException {
+    if (openRange != null) {
+      ProgressBar pb = ProgressBarUtil.get(taskName, openRange.getUncompressedSize(), pbConsumer);
+      return new ProgressBarWrappedInputStream(openRange.open(), pb);
+    }
     ProgressBar pb = ProgressBarUtil.get(taskName, Files.size(filePath), pbConsumer);
-    return new InputStreamResource(new GZIPInputStream(new ProgressBarWrappedInputStream(in, pb)));
+    if (inputMode == DumpInputMode.PIPELINED) {
+      return new PipelinedGzipInputStream(filePath, pb);
+    }
+    InputStream in = Files.newInputStream(filePath);
+    return new GZIPInputStream(new ProgressBarWrappedInputStream(in, pb));
   }
 
   @Override
   public synchronized T read() throws Exception {
-    return nestedReader.read();
+    T item = nestedReader.read();
+    if (item != null) {
+      checkpoint.read();
+    }
+    return item;
   }
 
   @Override
   public void afterPropertiesSet() throws Exception {
-    nestedReader.afterPropertiesSet();
+    if (nestedReader instanceof InitializingBean bean) {
+      bean.afterPropertiesSet();
+    }
   }
 
   @Override
   public synchronized void open(ExecutionContext executionContext) throws ItemStreamException {
+    long resumeFrom = checkpoint.restore(executionContext);
+    long skipCount = resumeFrom;
+    if (resumeFrom > 0 && blockRange != null) {
+      openRange = blockRange.from(resumeFrom);
+      skipCount = resumeFrom - (openRange.getFirstRecord() - blockRange.getFirstRecord());
+      if (openRange != blockRange && nestedReader instanceof StaxCursorItemReader<T> reader) {
+        reader.setPartial(true);
+      }
+    }
     this.pbConsumer.on();
     nestedReader.open(executionContext);
+    if (resumeFrom > 0) {
+      log.info("resuming {} from record {}", taskName, resumeFrom);
+      skip(skipCount);
+    }
+  }
+
+  // records are bound while skipped, so that any projections of them are spilled as usual.
+  private void skip(long count) {
+    try {
+      long skipped = 0;
+      while (skipped < count && nestedReader.read() != null) {
+        skipped++;
+      }
+    } catch (Exception e) {
+      throw new ItemStreamException("failed to skip to checkpoint of " + taskName, e);
+    }
   }
 
   @Override
   public synchronized void update(ExecutionContext executionContext) throws ItemStreamException {
     nestedReader.update(executionContext);
+    checkpoint.save(executionContext);
   }
 
   @Override
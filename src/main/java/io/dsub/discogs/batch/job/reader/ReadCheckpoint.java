@@ -0,0 +1,61 @@
+package io.dsub.discogs.batch.job.reader;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Ordinal of the first record a reader must resume from, such that every record before it has
+ * been committed.
+ *
+ * <p>A reader shared by the threads of a step hands out records to whichever thread asks first,
+ * and the chunks of the threads commit in any order. Hence, the count of records read is not a
+ * position to resume from. Instead, the lowest ordinal read by each thread since its last commit
+ * is kept, and the least of them (or the next ordinal if none) is saved on each commit.
+ */
+public class ReadCheckpoint {
+
+  private static final String SUFFIX = ".checkpoint";
+
+  private final String key;
+  private final Map<Thread, Long> inFlight = new HashMap<>();
+  private long next;
+
+  public ReadCheckpoint(String name) {
+    this.key = name + SUFFIX;
+  }
+
+  /**
+   * Restores the checkpoint saved by a previous execution of the step, if any.
+   *
+   * @param executionContext of the step.
+   * @return ordinal of the record to resume from, or 0 if the step is not being restarted.
+   */
+  public synchronized long restore(ExecutionContext executionContext) {
+    inFlight.clear();
+    next = executionContext.getLong(key, 0L);
+    return next;
+  }
+
+  /**
+   * Marks the next record as read by the current thread.
+   */
+  public synchronized void read() {
+    inFlight.putIfAbsent(Thread.currentThread(), next++);
+  }
+
+  /**
+   * Saves the checkpoint. It is called within the transaction of the chunk the current thread has
+   * just written, hence the records read by the thread are committed along with it.
+   *
+   * @param executionContext of the step.
+   */
+  public synchronized void save(ExecutionContext executionContext) {
+    inFlight.remove(Thread.currentThread());
+    executionContext.putLong(key, get());
+  }
+
+  synchronized long get() {
+    return inFlight.values().stream().mapToLong(Long::longValue).min().orElse(next);
+  }
+}
@@ -0,0 +1,107 @@
+package io.dsub.discogs.batch.job.reader;
+
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinder;
+import io.dsub.discogs.batch.job.reader.projection.ProjectionSpills;
+import java.io.InputStream;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.xml.StaxUtils;
+
+/**
+ * Counterpart of {@link org.springframework.batch.item.xml.StaxEventItemReader} that binds each
+ * fragment with a {@link StaxItemBinder} straight from an {@link XMLStreamReader} cursor. Unlike
+ * the event reader, no event objects are allocated and no unmarshaller is involved.
+ *
+ * <p>If the binder fans out to {@link ProjectionSpills}, the spills are published only if the
+ * document is read from its start to its end.
+ *
+ * @param <T> type to be read.
+ */
+public class StaxCursorItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+  private final Resource resource;
+  private final Set<String> fragmentRootElements;
+  private final StaxItemBinder<T> binder;
+  private InputStream inputStream;
+  private XMLStreamReader reader;
+  private ProjectionSpills projectionSpills;
+  private boolean exhausted;
+  private boolean partial;
+
+  public StaxCursorItemReader(
+      Resource resource, StaxItemBinder<T> binder, String... fragmentRootElements) {
+    Assert.notNull(resource, "resource cannot be null");
+    Assert.notNull(binder, "binder cannot be null");
+    Assert.notEmpty(fragmentRootElements, "at least 1 fragmentRootElement is required");
+    this.resource = resource;
+    this.binder = binder;
+    this.fragmentRootElements = Set.of(fragmentRootElements);
+    this.setName(ClassUtils.getShortName(StaxCursorItemReader.class));
+  }
+
+  public void setProjectionSpills(ProjectionSpills projectionSpills) {
+    this.projectionSpills = projectionSpills;
+  }
+
+  /**
+   * Marks the document as missing some of its fragments, i.e. if it is resumed from the middle of
+   * a dump, so that the spills are discarded even if the document is read to its end.
+   */
+  public void setPartial(boolean partial) {
+    this.partial = partial;
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    Assert.state(reader == null, "reader is already open");
+    XMLInputFactory factory = StaxUtils.createDefensiveInputFactory();
+    inputStream = resource.getInputStream();
+    reader = factory.createXMLStreamReader(inputStream);
+    exhausted = false;
+    if (projectionSpills != null) {
+      projectionSpills.open();
+    }
+  }
+
+  @Override
+  protected T doRead() throws Exception {
+    // a fragment is consumed up to its end by the binder, hence nested elements of the same name
+    // are never taken as fragments.
+    while (reader.hasNext()) {
+      if (reader.next() == XMLStreamConstants.START_ELEMENT
+          && fragmentRootElements.contains(reader.getLocalName())) {
+        return binder.bind(reader);
+      }
+    }
+    exhausted = true;
+    return null;
+  }
+
+  @Override
+  protected void doClose() throws Exception {
+    try {
+      if (projectionSpills != null) {
+        if (exhausted && !partial) {
+          projectionSpills.complete();
+        } else {
+          projectionSpills.discard();
+        }
+      }
+      if (reader != null) {
+        reader.close();
+      }
+      if (inputStream != null) {
+        inputStream.close();
+      }
+    } finally {
+      reader = null;
+      inputStream = null;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package io.dsub.discogs.batch.job.reader;
+
+/**
+ * How a {@link ProgressBarStaxEventItemReader} binds each fragment to an item.
+ */
+public enum XmlBindingMode {
+  /**
+   * Unmarshal each fragment with JAXB, from XML events.
+   */
+  JAXB,
+  /**
+   * Bind each fragment with a {@link io.dsub.discogs.batch.job.reader.binder.StaxItemBinder},
+   * straight from a stream cursor.
+   */
+  CURSOR
+}
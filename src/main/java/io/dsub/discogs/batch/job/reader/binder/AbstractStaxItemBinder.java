@@ -0,0 +1,80 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import java.util.Set;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Base of the binders that fill an item from the attributes and the child elements of a fragment.
+ * Splitting the binding by child lets a {@link FanOutStaxItemBinder} bind several items from a
+ * single pass over the fragment.
+ *
+ * <p>Each binder declares the child elements it reads, so that any other subtree is skipped by the
+ * cursor before a binder sees it, rather than offered to every binder in turn.
+ *
+ * @param <T> type to be bound.
+ */
+public abstract class AbstractStaxItemBinder<T> implements StaxItemBinder<T> {
+
+  private final Set<String> elements;
+
+  /**
+   * @param elements local names of the child elements bound by {@link #bindChild(XMLStreamReader,
+   *                 String, Object)}.
+   */
+  protected AbstractStaxItemBinder(String... elements) {
+    this.elements = Set.of(elements);
+  }
+
+  /**
+   * @return local names of the child elements this binder reads.
+   */
+  public Set<String> getElements() {
+    return elements;
+  }
+
+  @Override
+  public T bind(XMLStreamReader reader) throws XMLStreamException {
+    T item = create();
+    bindAttributes(reader, item);
+    StaxBindings.forEachChild(
+        reader,
+        elements,
+        name -> {
+          if (!bindChild(reader, name, item)) {
+            StaxBindings.skip(reader);
+          }
+        });
+    return item;
+  }
+
+  /**
+   * Creates an empty item.
+   *
+   * @return the item.
+   */
+  protected abstract T create();
+
+  /**
+   * Binds the attributes of the fragment root. Attributes can be read any number of times, hence
+   * may be bound by several binders.
+   *
+   * @param reader positioned at the START_ELEMENT of the fragment root.
+   * @param item   to be filled.
+   */
+  protected void bindAttributes(XMLStreamReader reader, T item) {
+  }
+
+  /**
+   * Binds a child element of the fragment root, if it is mapped.
+   *
+   * @param reader positioned at the START_ELEMENT of the child.
+   * @param name   local name of the child, which is one of {@link #getElements()}.
+   * @param item   to be filled.
+   * @return true if the child was bound, in which case the reader is left at its END_ELEMENT.
+   *     Otherwise, the reader must be left untouched.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  protected abstract boolean bindChild(XMLStreamReader reader, String name, T item)
+      throws XMLStreamException;
+}
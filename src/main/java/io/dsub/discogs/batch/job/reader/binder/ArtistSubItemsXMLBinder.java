@@ -0,0 +1,68 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.skip;
+
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistAliasXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistGroupXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistMemberXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link ArtistSubItemsXML}.
+ */
+public class ArtistSubItemsXMLBinder extends AbstractStaxItemBinder<ArtistSubItemsXML> {
+
+  public ArtistSubItemsXMLBinder() {
+    super("id", "aliases", "groups", "members", "namevariations", "urls");
+  }
+
+  @Override
+  protected ArtistSubItemsXML create() {
+    return new ArtistSubItemsXML();
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, ArtistSubItemsXML artist)
+      throws XMLStreamException {
+    switch (name) {
+      case "id" -> artist.setId(parseInteger(readText(reader)));
+      case "aliases" -> artist.setAliases(readList(reader, "name", this::bindAlias));
+      case "groups" -> artist.setGroups(readList(reader, "name", this::bindGroup));
+      case "members" -> artist.setMembers(readList(reader, "name", this::bindMember));
+      case "namevariations" -> artist.setNameVariations(
+          readList(reader, "name", StaxBindings::readText));
+      case "urls" -> artist.setUrls(readList(reader, "url", StaxBindings::readText));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ArtistAliasXML bindAlias(XMLStreamReader reader) throws XMLStreamException {
+    ArtistAliasXML alias = new ArtistAliasXML();
+    alias.setAliasId(parseInteger(getAttribute(reader, "id")));
+    skip(reader);
+    return alias;
+  }
+
+  private ArtistGroupXML bindGroup(XMLStreamReader reader) throws XMLStreamException {
+    ArtistGroupXML group = new ArtistGroupXML();
+    group.setGroupId(parseInteger(getAttribute(reader, "id")));
+    skip(reader);
+    return group;
+  }
+
+  private ArtistMemberXML bindMember(XMLStreamReader reader) throws XMLStreamException {
+    ArtistMemberXML member = new ArtistMemberXML();
+    member.setMemberId(parseInteger(getAttribute(reader, "id")));
+    skip(reader);
+    return member;
+  }
+}
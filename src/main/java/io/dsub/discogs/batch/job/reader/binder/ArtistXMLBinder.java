@@ -0,0 +1,39 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link ArtistXML}.
+ */
+public class ArtistXMLBinder extends AbstractStaxItemBinder<ArtistXML> {
+
+  public ArtistXMLBinder() {
+    super("id", "name", "realname", "profile", "data_quality");
+  }
+
+  @Override
+  protected ArtistXML create() {
+    return new ArtistXML();
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, ArtistXML artist)
+      throws XMLStreamException {
+    switch (name) {
+      case "id" -> artist.setId(parseInteger(readText(reader)));
+      case "name" -> artist.setName(readText(reader));
+      case "realname" -> artist.setRealName(readText(reader));
+      case "profile" -> artist.setProfile(readText(reader));
+      case "data_quality" -> artist.setDataQuality(readText(reader));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+}
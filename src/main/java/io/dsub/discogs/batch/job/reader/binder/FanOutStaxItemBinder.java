@@ -0,0 +1,116 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Binds a primary item along with any number of projections from a single pass over a fragment.
+ * The primary item is returned, while each projection is handed to its sink.
+ *
+ * <p>A child element is bound by the first binder that maps it, the primary one first, and is
+ * handed to that binder alone. Children no binder reads are skipped without being bound. Values
+ * mapped by several items (i.e. the identifier of the entity) must be copied from the primary item
+ * to the projection by its sharer.
+ *
+ * @param <T> type of the primary item.
+ */
+public class FanOutStaxItemBinder<T> implements StaxItemBinder<T> {
+
+  private static final int PRIMARY = -1;
+
+  private final AbstractStaxItemBinder<T> primary;
+  private final List<Projection<T, ?>> projections = new ArrayList<>();
+  // index of the projection binding each child element, or PRIMARY.
+  private final Map<String, Integer> owners = new HashMap<>();
+  private Consumer<T> primarySink;
+
+  public FanOutStaxItemBinder(AbstractStaxItemBinder<T> primary) {
+    this.primary = primary;
+    primary.getElements().forEach(name -> owners.put(name, PRIMARY));
+  }
+
+  /**
+   * Adds a projection to be bound along with the primary item.
+   *
+   * @param binder binder of the projection.
+   * @param sharer to copy the values mapped by both the primary item and the projection.
+   * @param sink   to receive each bound projection.
+   * @return this binder.
+   */
+  public <P> FanOutStaxItemBinder<T> project(
+      AbstractStaxItemBinder<P> binder, BiConsumer<T, P> sharer, Consumer<P> sink) {
+    int index = projections.size();
+    binder.getElements().forEach(name -> owners.putIfAbsent(name, index));
+    projections.add(new Projection<>(binder, sharer, sink));
+    return this;
+  }
+
+  /**
+   * Hands each primary item to given sink as well, once it is bound.
+   *
+   * @param sink to receive each bound primary item.
+   * @return this binder.
+   */
+  public FanOutStaxItemBinder<T> tee(Consumer<T> sink) {
+    this.primarySink = sink;
+    return this;
+  }
+
+  @Override
+  public T bind(XMLStreamReader reader) throws XMLStreamException {
+    T item = primary.create();
+    primary.bindAttributes(reader, item);
+    Object[] projected = new Object[projections.size()];
+    for (int i = 0; i < projected.length; i++) {
+      projected[i] = projections.get(i).create(reader);
+    }
+    StaxBindings.forEachChild(
+        reader,
+        owners.keySet(),
+        name -> {
+          int owner = owners.get(name);
+          boolean bound =
+              owner == PRIMARY
+                  ? primary.bindChild(reader, name, item)
+                  : projections.get(owner).bindChild(reader, name, projected[owner]);
+          if (!bound) {
+            StaxBindings.skip(reader);
+          }
+        });
+    for (int i = 0; i < projected.length; i++) {
+      projections.get(i).publish(item, projected[i]);
+    }
+    if (primarySink != null) {
+      primarySink.accept(item);
+    }
+    return item;
+  }
+
+  private record Projection<T, P>(
+      AbstractStaxItemBinder<P> binder, BiConsumer<T, P> sharer, Consumer<P> sink) {
+
+    private P create(XMLStreamReader reader) {
+      P projection = binder.create();
+      binder.bindAttributes(reader, projection);
+      return projection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean bindChild(XMLStreamReader reader, String name, Object projection)
+        throws XMLStreamException {
+      return binder.bindChild(reader, name, (P) projection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publish(T item, Object projection) {
+      sharer.accept(item, (P) projection);
+      sink.accept((P) projection);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML.LabelSubLabelXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link LabelSubItemsXML}. Lists absent from the element keep their initial
+ * (empty) value, as they do with JAXB.
+ */
+public class LabelSubItemsXMLBinder extends AbstractStaxItemBinder<LabelSubItemsXML> {
+
+  public LabelSubItemsXMLBinder() {
+    super("id", "sublabels", "urls");
+  }
+
+  @Override
+  protected LabelSubItemsXML create() {
+    return new LabelSubItemsXML();
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, LabelSubItemsXML label)
+      throws XMLStreamException {
+    switch (name) {
+      case "id" -> label.setId(parseInteger(readText(reader)));
+      case "sublabels" -> label.setLabelSubLabels(readList(reader, "label", this::bindSubLabel));
+      case "urls" -> label.setUrls(readList(reader, "url", StaxBindings::readText));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private LabelSubLabelXML bindSubLabel(XMLStreamReader reader) throws XMLStreamException {
+    LabelSubLabelXML subLabel = new LabelSubLabelXML();
+    subLabel.setSubLabelId(parseInteger(getAttribute(reader, "id")));
+    subLabel.setName(readText(reader));
+    return subLabel;
+  }
+}
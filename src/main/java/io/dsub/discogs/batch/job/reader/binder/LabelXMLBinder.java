@@ -0,0 +1,39 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link LabelXML}.
+ */
+public class LabelXMLBinder extends AbstractStaxItemBinder<LabelXML> {
+
+  public LabelXMLBinder() {
+    super("id", "name", "contactinfo", "profile", "data_quality");
+  }
+
+  @Override
+  protected LabelXML create() {
+    return new LabelXML();
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, LabelXML label)
+      throws XMLStreamException {
+    switch (name) {
+      case "id" -> label.setId(parseInteger(readText(reader)));
+      case "name" -> label.setName(readText(reader));
+      case "contactinfo" -> label.setContactInfo(readText(reader));
+      case "profile" -> label.setProfile(readText(reader));
+      case "data_quality" -> label.setDataQuality(readText(reader));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,39 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link MasterMainReleaseXML}.
+ */
+public class MasterMainReleaseXMLBinder extends AbstractStaxItemBinder<MasterMainReleaseXML> {
+
+  public MasterMainReleaseXMLBinder() {
+    super("main_release");
+  }
+
+  @Override
+  protected MasterMainReleaseXML create() {
+    return new MasterMainReleaseXML();
+  }
+
+  @Override
+  protected void bindAttributes(XMLStreamReader reader, MasterMainReleaseXML master) {
+    master.setId(parseInteger(getAttribute(reader, "id")));
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, MasterMainReleaseXML master)
+      throws XMLStreamException {
+    if (!name.equals("main_release")) {
+      return false;
+    }
+    master.setMainReleaseId(parseInteger(readText(reader)));
+    return true;
+  }
+}
@@ -0,0 +1,78 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.forEachChild;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.skip;
+
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML.MasterArtistXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML.MasterVideoXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link MasterSubItemsXML}.
+ */
+public class MasterSubItemsXMLBinder extends AbstractStaxItemBinder<MasterSubItemsXML> {
+
+  public MasterSubItemsXMLBinder() {
+    super("artists", "genres", "styles", "videos");
+  }
+
+  @Override
+  protected MasterSubItemsXML create() {
+    return new MasterSubItemsXML();
+  }
+
+  @Override
+  protected void bindAttributes(XMLStreamReader reader, MasterSubItemsXML master) {
+    master.setId(parseInteger(getAttribute(reader, "id")));
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, MasterSubItemsXML master)
+      throws XMLStreamException {
+    switch (name) {
+      case "artists" -> master.setMasterArtists(readList(reader, "artist", this::bindArtist));
+      case "genres" -> master.setGenres(readList(reader, "genre", StaxBindings::readText));
+      case "styles" -> master.setStyles(readList(reader, "style", StaxBindings::readText));
+      case "videos" -> master.setMasterVideos(readList(reader, "video", this::bindVideo));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private MasterArtistXML bindArtist(XMLStreamReader reader) throws XMLStreamException {
+    MasterArtistXML artist = new MasterArtistXML();
+    forEachChild(
+        reader,
+        name -> {
+          if (name.equals("id")) {
+            artist.setArtistId(parseInteger(readText(reader)));
+          } else {
+            skip(reader);
+          }
+        });
+    return artist;
+  }
+
+  private MasterVideoXML bindVideo(XMLStreamReader reader) throws XMLStreamException {
+    MasterVideoXML video = new MasterVideoXML();
+    video.setUrl(getAttribute(reader, "src"));
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "title" -> video.setTitle(readText(reader));
+            case "description" -> video.setDescription(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return video;
+  }
+}
@@ -0,0 +1,48 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseShort;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link MasterXML}.
+ */
+public class MasterXMLBinder extends AbstractStaxItemBinder<MasterXML> {
+
+  public MasterXMLBinder() {
+    super("year", "title", "main_release", "data_quality", "genres", "styles");
+  }
+
+  @Override
+  protected MasterXML create() {
+    return new MasterXML();
+  }
+
+  @Override
+  protected void bindAttributes(XMLStreamReader reader, MasterXML master) {
+    master.setId(parseInteger(getAttribute(reader, "id")));
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, MasterXML master)
+      throws XMLStreamException {
+    switch (name) {
+      case "year" -> master.setYear(parseShort(readText(reader)));
+      case "title" -> master.setTitle(readText(reader));
+      case "main_release" -> master.setMainReleaseId(parseInteger(readText(reader)));
+      case "data_quality" -> master.setDataQuality(readText(reader));
+      case "genres" -> master.setGenres(readList(reader, "genre", StaxBindings::readText));
+      case "styles" -> master.setStyles(readList(reader, "style", StaxBindings::readText));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,17 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import java.util.function.Consumer;
+
+/**
+ * Supplies where each projection bound by a {@link FanOutStaxItemBinder} goes.
+ */
+public interface ProjectionSinks {
+
+  /**
+   * Finds the sink of given projection type.
+   *
+   * @param projectionClass type of the projection.
+   * @return the sink.
+   */
+  <P> Consumer<P> get(Class<P> projectionClass);
+}
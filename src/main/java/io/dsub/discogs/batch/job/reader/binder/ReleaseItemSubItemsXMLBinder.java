@@ -0,0 +1,175 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.forEachChild;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.skip;
+
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.LabelItemRelease;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseAlbumArtist;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseCreditedArtist;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseFormat;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseIdentifier;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseTrack;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseVideo;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseWork;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link ReleaseItemSubItemsXML}.
+ */
+public class ReleaseItemSubItemsXMLBinder extends AbstractStaxItemBinder<ReleaseItemSubItemsXML> {
+
+  public ReleaseItemSubItemsXMLBinder() {
+    super(
+        "artists", "extraartists", "labels", "formats", "tracklist", "identifiers", "companies",
+        "videos", "genres", "styles");
+  }
+
+  @Override
+  protected ReleaseItemSubItemsXML create() {
+    return new ReleaseItemSubItemsXML();
+  }
+
+  @Override
+  protected void bindAttributes(XMLStreamReader reader, ReleaseItemSubItemsXML release) {
+    release.setId(parseInteger(getAttribute(reader, "id")));
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, ReleaseItemSubItemsXML release)
+      throws XMLStreamException {
+    switch (name) {
+      case "artists" -> release.setReleaseAlbumArtists(
+          readList(reader, "artist", this::bindAlbumArtist));
+      case "extraartists" -> release.setReleaseCreditedArtists(
+          readList(reader, "artist", this::bindCreditedArtist));
+      case "labels" -> release.setLabelReleaseLabels(readList(reader, "label", this::bindLabel));
+      case "formats" -> release.setReleaseFormats(readList(reader, "format", this::bindFormat));
+      case "tracklist" -> release.setReleaseTracks(readList(reader, "track", this::bindTrack));
+      case "identifiers" -> release.setReleaseIdentifiers(
+          readList(reader, "identifier", this::bindIdentifier));
+      case "companies" -> release.setCompanies(readList(reader, "company", this::bindWork));
+      case "videos" -> release.setReleaseVideos(readList(reader, "video", this::bindVideo));
+      case "genres" -> release.setGenres(readList(reader, "genre", StaxBindings::readText));
+      case "styles" -> release.setStyles(readList(reader, "style", StaxBindings::readText));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private ReleaseAlbumArtist bindAlbumArtist(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseAlbumArtist artist = new ReleaseAlbumArtist();
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "id" -> artist.setArtistId(parseInteger(readText(reader)));
+            case "name" -> artist.setName(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return artist;
+  }
+
+  private ReleaseCreditedArtist bindCreditedArtist(XMLStreamReader reader)
+      throws XMLStreamException {
+    ReleaseCreditedArtist artist = new ReleaseCreditedArtist();
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "id" -> artist.setArtistId(parseInteger(readText(reader)));
+            case "name" -> artist.setName(readText(reader));
+            case "role" -> artist.setRole(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return artist;
+  }
+
+  private LabelItemRelease bindLabel(XMLStreamReader reader) throws XMLStreamException {
+    LabelItemRelease label = new LabelItemRelease();
+    label.setCategoryNotation(getAttribute(reader, "catno"));
+    label.setLabelId(parseInteger(getAttribute(reader, "id")));
+    label.setLabelName(getAttribute(reader, "name"));
+    skip(reader);
+    return label;
+  }
+
+  private ReleaseFormat bindFormat(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseFormat format = new ReleaseFormat();
+    format.setName(getAttribute(reader, "name"));
+    format.setQuantity(parseInteger(getAttribute(reader, "qty")));
+    format.setText(getAttribute(reader, "text"));
+    forEachChild(
+        reader,
+        name -> {
+          if (name.equals("descriptions")) {
+            format.setDescriptions(readList(reader, "description", StaxBindings::readText));
+          } else {
+            skip(reader);
+          }
+        });
+    return format;
+  }
+
+  private ReleaseTrack bindTrack(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseTrack track = new ReleaseTrack();
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "position" -> track.setPosition(readText(reader));
+            case "title" -> track.setTitle(readText(reader));
+            case "duration" -> track.setDuration(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return track;
+  }
+
+  private ReleaseIdentifier bindIdentifier(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseIdentifier identifier = new ReleaseIdentifier();
+    identifier.setType(getAttribute(reader, "type"));
+    identifier.setDescription(getAttribute(reader, "description"));
+    identifier.setValue(getAttribute(reader, "value"));
+    skip(reader);
+    return identifier;
+  }
+
+  private ReleaseWork bindWork(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseWork work = new ReleaseWork();
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "id" -> work.setId(parseInteger(readText(reader)));
+            case "entity_type_name" -> work.setWork(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return work;
+  }
+
+  private ReleaseVideo bindVideo(XMLStreamReader reader) throws XMLStreamException {
+    ReleaseVideo video = new ReleaseVideo();
+    video.setUrl(getAttribute(reader, "src"));
+    forEachChild(
+        reader,
+        name -> {
+          switch (name) {
+            case "title" -> video.setTitle(readText(reader));
+            case "description" -> video.setDescription(readText(reader));
+            default -> skip(reader);
+          }
+        });
+    return video;
+  }
+}
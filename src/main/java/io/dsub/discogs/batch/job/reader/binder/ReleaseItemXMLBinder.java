@@ -0,0 +1,59 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.getAttribute;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseBoolean;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.parseInteger;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readList;
+import static io.dsub.discogs.batch.job.reader.binder.StaxBindings.readText;
+
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML.Master;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor binder of {@link ReleaseItemXML}.
+ */
+public class ReleaseItemXMLBinder extends AbstractStaxItemBinder<ReleaseItemXML> {
+
+  public ReleaseItemXMLBinder() {
+    super("title", "country", "notes", "data_quality", "released", "master_id", "genres", "styles");
+  }
+
+  @Override
+  protected ReleaseItemXML create() {
+    return new ReleaseItemXML();
+  }
+
+  @Override
+  protected void bindAttributes(XMLStreamReader reader, ReleaseItemXML release) {
+    release.setId(parseInteger(getAttribute(reader, "id")));
+    release.setStatus(getAttribute(reader, "status"));
+  }
+
+  @Override
+  protected boolean bindChild(XMLStreamReader reader, String name, ReleaseItemXML release)
+      throws XMLStreamException {
+    switch (name) {
+      case "title" -> release.setTitle(readText(reader));
+      case "country" -> release.setCountry(readText(reader));
+      case "notes" -> release.setNotes(readText(reader));
+      case "data_quality" -> release.setDataQuality(readText(reader));
+      case "released" -> release.setReleaseDate(readText(reader));
+      case "master_id" -> release.setMaster(bindMaster(reader));
+      case "genres" -> release.setGenres(readList(reader, "genre", StaxBindings::readText));
+      case "styles" -> release.setStyles(readList(reader, "style", StaxBindings::readText));
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Master bindMaster(XMLStreamReader reader) throws XMLStreamException {
+    Master master = new Master();
+    master.setMaster(parseBoolean(getAttribute(reader, "is_main_release")));
+    master.setMasterId(parseInteger(readText(reader)));
+    return master;
+  }
+}
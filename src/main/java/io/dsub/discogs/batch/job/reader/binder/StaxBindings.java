@@ -0,0 +1,222 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Cursor primitives shared by {@link StaxItemBinder} implementations. Every value conversion
+ * follows the lexical rules of the JAXB reference implementation, so that both paths produce equal
+ * objects. In particular, a malformed number yields null, as JAXB ignores the conversion error.
+ */
+public class StaxBindings {
+
+  // prevent initialize
+  private StaxBindings() {
+  }
+
+  /**
+   * Iterates the child elements of the current element. The handler must leave the reader at the
+   * END_ELEMENT of each child, i.e. by {@link #readText(XMLStreamReader)} or {@link
+   * #skip(XMLStreamReader)}.
+   *
+   * @param reader  positioned at a START_ELEMENT, left at its matching END_ELEMENT.
+   * @param handler to be called with the local name of each child.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  public static void forEachChild(XMLStreamReader reader, ChildHandler handler)
+      throws XMLStreamException {
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        handler.handle(reader.getLocalName());
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Iterates the child elements of the current element with given names. Any other child is
+   * skipped along with its descendants before reaching the handler, hence is never bound.
+   *
+   * @param reader  positioned at a START_ELEMENT, left at its matching END_ELEMENT.
+   * @param names   local names of the children to be handled.
+   * @param handler to be called with the local name of each child to be handled.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  public static void forEachChild(XMLStreamReader reader, Set<String> names, ChildHandler handler)
+      throws XMLStreamException {
+    forEachChild(
+        reader,
+        name -> {
+          if (names.contains(name)) {
+            handler.handle(name);
+          } else {
+            skip(reader);
+          }
+        });
+  }
+
+  /**
+   * Reads the items of a wrapper element, as JAXB does with {@code @XmlElementWrapper}. Children
+   * with other names are skipped. The list is created even if the wrapper holds no item.
+   *
+   * @param reader     positioned at the START_ELEMENT of the wrapper.
+   * @param itemName   local name of the items.
+   * @param itemBinder to bind each item.
+   * @return the items.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  public static <T> List<T> readList(
+      XMLStreamReader reader, String itemName, StaxItemBinder<T> itemBinder)
+      throws XMLStreamException {
+    List<T> items = new ArrayList<>();
+    forEachChild(
+        reader,
+        name -> {
+          if (name.equals(itemName)) {
+            items.add(itemBinder.bind(reader));
+          } else {
+            skip(reader);
+          }
+        });
+    return items;
+  }
+
+  /**
+   * Reads the text of the current element. Text of nested elements is ignored.
+   *
+   * @param reader positioned at a START_ELEMENT, left at its matching END_ELEMENT.
+   * @return the text, which is empty (not null) for an empty element.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  public static String readText(XMLStreamReader reader) throws XMLStreamException {
+    String text = null;
+    StringBuilder builder = null;
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.CHARACTERS,
+            XMLStreamConstants.CDATA,
+            XMLStreamConstants.SPACE,
+            XMLStreamConstants.ENTITY_REFERENCE -> {
+          // most elements hold a single text event; avoid the builder for them.
+          if (text == null) {
+            text = reader.getText();
+          } else {
+            if (builder == null) {
+              builder = new StringBuilder(text);
+            }
+            builder.append(reader.getText());
+          }
+        }
+        case XMLStreamConstants.START_ELEMENT -> skip(reader);
+        case XMLStreamConstants.END_ELEMENT -> {
+          if (builder != null) {
+            return builder.toString();
+          }
+          return text == null ? "" : text;
+        }
+        default -> {
+        }
+      }
+    }
+    throw new XMLStreamException("unexpected end of document", reader.getLocation());
+  }
+
+  /**
+   * Skips the current element along with its descendants.
+   *
+   * @param reader positioned at a START_ELEMENT, left at its matching END_ELEMENT.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  public static void skip(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT && --depth == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Reads an attribute of the current element by its local name.
+   *
+   * @param reader positioned at a START_ELEMENT.
+   * @param name   local name of the attribute.
+   * @return value of the attribute, or null if absent.
+   */
+  public static String getAttribute(XMLStreamReader reader, String name) {
+    return reader.getAttributeValue(null, name);
+  }
+
+  /**
+   * Parses an integer the way JAXB does: whitespaces are ignored anywhere, signs are accepted
+   * anywhere and an empty text is 0. Any other character makes the value null.
+   *
+   * @param text to be parsed.
+   * @return the value, or null if the text is null or malformed.
+   */
+  public static Integer parseInteger(String text) {
+    if (text == null) {
+      return null;
+    }
+    int sign = 1;
+    int value = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        value = value * 10 + (ch - '0');
+      } else if (ch == '-') {
+        sign = -1;
+      } else if (ch != '+' && !isWhiteSpace(ch)) {
+        return null;
+      }
+    }
+    return value * sign;
+  }
+
+  /**
+   * Parses a short the way JAXB does, which is a narrowed {@link #parseInteger(String)}.
+   *
+   * @param text to be parsed.
+   * @return the value, or null if the text is null or malformed.
+   */
+  public static Short parseShort(String text) {
+    Integer value = parseInteger(text);
+    return value == null ? null : value.shortValue();
+  }
+
+  /**
+   * Parses a boolean the way JAXB does, accepting either true, false, 1 or 0.
+   *
+   * @param text to be parsed.
+   * @return the value, which is false for a null or malformed text.
+   */
+  public static boolean parseBoolean(String text) {
+    if (text == null) {
+      return false;
+    }
+    String trimmed = text.strip();
+    return trimmed.equals("true") || trimmed.equals("1");
+  }
+
+  private static boolean isWhiteSpace(char ch) {
+    return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+  }
+
+  /**
+   * Handles a child element by its local name.
+   */
+  @FunctionalInterface
+  public interface ChildHandler {
+
+    void handle(String name) throws XMLStreamException;
+  }
+}
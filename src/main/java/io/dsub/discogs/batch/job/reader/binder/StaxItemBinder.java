@@ -0,0 +1,25 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Binds an element to an object straight from a {@link XMLStreamReader} cursor, as a replacement
+ * of JAXB unmarshalling. Implementations must produce the same object JAXB would produce from the
+ * annotations of the bound class.
+ *
+ * @param <T> type to be bound.
+ */
+@FunctionalInterface
+public interface StaxItemBinder<T> {
+
+  /**
+   * Binds the element the reader is currently positioned at.
+   *
+   * @param reader positioned at the START_ELEMENT of the element to be bound. The reader is left
+   *               at its matching END_ELEMENT.
+   * @return the bound object.
+   * @throws XMLStreamException if the underlying reader fails.
+   */
+  T bind(XMLStreamReader reader) throws XMLStreamException;
+}
@@ -0,0 +1,125 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lookup of the {@link StaxItemBinder} of each item class read from a dump. Binders are stateless,
+ * hence shared by every reader.
+ *
+ * <p>The core item of each entity can also be bound by a {@link FanOutStaxItemBinder}, which binds
+ * the other items of the entity (i.e. sub items) from the same pass over the dump.
+ */
+public class StaxItemBinders {
+
+  private static final Map<Class<?>, StaxItemBinder<?>> BINDERS =
+      Map.of(
+          ArtistXML.class, new ArtistXMLBinder(),
+          ArtistSubItemsXML.class, new ArtistSubItemsXMLBinder(),
+          LabelXML.class, new LabelXMLBinder(),
+          LabelSubItemsXML.class, new LabelSubItemsXMLBinder(),
+          MasterXML.class, new MasterXMLBinder(),
+          MasterMainReleaseXML.class, new MasterMainReleaseXMLBinder(),
+          MasterSubItemsXML.class, new MasterSubItemsXMLBinder(),
+          ReleaseItemXML.class, new ReleaseItemXMLBinder(),
+          ReleaseItemSubItemsXML.class, new ReleaseItemSubItemsXMLBinder());
+
+  private static final Map<Class<?>, Function<ProjectionSinks, StaxItemBinder<?>>> FAN_OUTS =
+      Map.of(
+          ArtistXML.class,
+          sinks ->
+              new FanOutStaxItemBinder<>(new ArtistXMLBinder())
+                  .project(
+                      new ArtistSubItemsXMLBinder(),
+                      (artist, subItems) -> subItems.setId(artist.getId()),
+                      sinks.get(ArtistSubItemsXML.class)),
+          LabelXML.class,
+          sinks ->
+              new FanOutStaxItemBinder<>(new LabelXMLBinder())
+                  .project(
+                      new LabelSubItemsXMLBinder(),
+                      (label, subItems) -> subItems.setId(label.getId()),
+                      sinks.get(LabelSubItemsXML.class)),
+          MasterXML.class,
+          sinks ->
+              new FanOutStaxItemBinder<>(new MasterXMLBinder())
+                  .project(
+                      new MasterSubItemsXMLBinder(),
+                      (master, subItems) -> {
+                        subItems.setGenres(copyOf(master.getGenres()));
+                        subItems.setStyles(copyOf(master.getStyles()));
+                      },
+                      sinks.get(MasterSubItemsXML.class))
+                  .project(
+                      new MasterMainReleaseXMLBinder(),
+                      (master, mainRelease) ->
+                          mainRelease.setMainReleaseId(master.getMainReleaseId()),
+                      sinks.get(MasterMainReleaseXML.class)),
+          ReleaseItemXML.class,
+          sinks ->
+              new FanOutStaxItemBinder<>(new ReleaseItemXMLBinder())
+                  .project(
+                      new ReleaseItemSubItemsXMLBinder(),
+                      (release, subItems) -> {
+                        subItems.setGenres(copyOf(release.getGenres()));
+                        subItems.setStyles(copyOf(release.getStyles()));
+                      },
+                      sinks.get(ReleaseItemSubItemsXML.class)));
+
+  // prevent initialize
+  private StaxItemBinders() {
+  }
+
+  /**
+   * Finds the binder of given class.
+   *
+   * @param mappedClass class to be bound.
+   * @return the binder, or null if the class has none.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> StaxItemBinder<T> get(Class<T> mappedClass) {
+    return (StaxItemBinder<T>) BINDERS.get(mappedClass);
+  }
+
+  /**
+   * Finds the fan-out binder of given core item class.
+   *
+   * @param mappedClass core item class to be bound.
+   * @param sinks       where the other items of the entity go.
+   * @return the binder, or null if the class is not a core item.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> StaxItemBinder<T> getFanOut(Class<T> mappedClass, ProjectionSinks sinks) {
+    Function<ProjectionSinks, StaxItemBinder<?>> factory = FAN_OUTS.get(mappedClass);
+    return factory == null ? null : (StaxItemBinder<T>) factory.apply(sinks);
+  }
+
+  /**
+   * Finds the fan-out binder of given core item class, which hands the core items to the sinks as
+   * well.
+   *
+   * @param mappedClass core item class to be bound.
+   * @param sinks       where the core items and the other items of the entity go.
+   * @return the binder, or null if the class is not a core item.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> StaxItemBinder<T> getTranscoder(Class<T> mappedClass, ProjectionSinks sinks) {
+    FanOutStaxItemBinder<T> binder = (FanOutStaxItemBinder<T>) getFanOut(mappedClass, sinks);
+    return binder == null ? null : binder.tee(sinks.get(mappedClass));
+  }
+
+  private static <T> List<T> copyOf(List<T> list) {
+    return list == null ? null : new ArrayList<>(list);
+  }
+}
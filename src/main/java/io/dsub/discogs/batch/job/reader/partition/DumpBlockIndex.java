@@ -0,0 +1,163 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Index of a dump re-chunked into independently compressed blocks, each of which holds whole
+ * records only. The prolog (i.e. declaration and opening root element) and the epilog of the
+ * document are kept in blocks of their own, so that any range of record blocks can be read as a
+ * well-formed document.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DumpBlockIndex {
+
+  static final int MAGIC = 0x424C4B31;
+
+  private final String eTag;
+  private final Block prolog;
+  private final Block epilog;
+  private final List<Block> blocks;
+
+  public int getBlockCount() {
+    return blocks.size();
+  }
+
+  public long getRecordCount() {
+    return blocks.stream().mapToLong(Block::recordCount).sum();
+  }
+
+  /**
+   * Opens given range of record blocks as a document.
+   *
+   * @param blocksPath file of the blocks.
+   * @param first      index of the first record block, inclusive.
+   * @param last       index of the last record block, inclusive. The range is empty if it is less
+   *                   than first.
+   * @return decompressed document.
+   * @throws IOException if the blocks cannot be opened.
+   */
+  public InputStream open(Path blocksPath, int first, int last) throws IOException {
+    List<Block> range = new ArrayList<>();
+    range.add(prolog);
+    range.addAll(getRange(first, last));
+    range.add(epilog);
+    return new DumpBlockInputStream(FileChannel.open(blocksPath, StandardOpenOption.READ), range);
+  }
+
+  /**
+   * Sums the uncompressed size of given range of record blocks, along with the prolog and epilog.
+   *
+   * @param first index of the first record block, inclusive.
+   * @param last  index of the last record block, inclusive.
+   * @return size of the document in bytes.
+   */
+  public long getUncompressedSize(int first, int last) {
+    return prolog.uncompressedLength()
+        + epilog.uncompressedLength()
+        + getRange(first, last).stream().mapToLong(Block::uncompressedLength).sum();
+  }
+
+  private List<Block> getRange(int first, int last) {
+    if (last < first) {
+      return List.of();
+    }
+    return blocks.subList(first, last + 1);
+  }
+
+  /**
+   * Writes the index to given path. The index is written to a temporary file first, then moved to
+   * the path, so that an index is never left partially written.
+   *
+   * @param path to be written.
+   * @throws IOException if write fails.
+   */
+  public void write(Path path) throws IOException {
+    Path part = Path.of(path + ".part");
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(part)))) {
+      out.writeInt(MAGIC);
+      out.writeUTF(eTag == null ? "" : eTag);
+      writeBlock(out, prolog);
+      writeBlock(out, epilog);
+      out.writeInt(blocks.size());
+      for (Block block : blocks) {
+        writeBlock(out, block);
+      }
+    }
+    Files.move(part, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Reads an index written by {@link #write(Path)}.
+   *
+   * @param path to be read.
+   * @return the index.
+   * @throws IOException if read fails, or the file is not an index.
+   */
+  public static DumpBlockIndex read(Path path) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("not a dump block index: " + path);
+      }
+      String eTag = in.readUTF();
+      Block prolog = readBlock(in);
+      Block epilog = readBlock(in);
+      int size = in.readInt();
+      List<Block> blocks = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        blocks.add(readBlock(in));
+      }
+      return new DumpBlockIndex(eTag.isEmpty() ? null : eTag, prolog, epilog, List.copyOf(blocks));
+    }
+  }
+
+  private static void writeBlock(DataOutputStream out, Block block) throws IOException {
+    out.writeLong(block.compressedOffset());
+    out.writeInt(block.compressedLength());
+    out.writeLong(block.uncompressedOffset());
+    out.writeInt(block.uncompressedLength());
+    out.writeLong(block.firstRecord());
+    out.writeInt(block.recordCount());
+  }
+
+  private static Block readBlock(DataInputStream in) throws IOException {
+    return new Block(
+        in.readLong(), in.readInt(), in.readLong(), in.readInt(), in.readLong(), in.readInt());
+  }
+
+  /**
+   * A gzip member of the blocks file.
+   *
+   * @param compressedOffset   offset of the member in the blocks file.
+   * @param compressedLength   length of the member in the blocks file.
+   * @param uncompressedOffset offset of the first byte of the block in the original document.
+   * @param uncompressedLength length of the block in the original document.
+   * @param firstRecord        ordinal of the first record of the block.
+   * @param recordCount        number of records the block holds.
+   */
+  public record Block(
+      long compressedOffset,
+      int compressedLength,
+      long uncompressedOffset,
+      int uncompressedLength,
+      long firstRecord,
+      int recordCount) {
+
+  }
+}
@@ -0,0 +1,347 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockIndex.Block;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.springframework.util.Assert;
+
+/**
+ * Builds a {@link DumpBlockIndex} with a single sequential pass over a gzip compressed dump. The
+ * decompressed document is cut at record boundaries into blocks of roughly given size, each of
+ * which is compressed as a gzip member of its own.
+ *
+ * <p>The inflate state of a deflate stream cannot be restored from {@link java.util.zip.Inflater},
+ * hence the original stream cannot be entered at an arbitrary offset. Re-compressing the records
+ * into self-contained blocks takes the place of such access points.
+ */
+public class DumpBlockIndexer {
+
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 22;
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+  private final RecordScanner scanner;
+  private final int blockSize;
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+  private final CRC32 crc = new CRC32();
+  private final byte[] deflated = new byte[BUFFER_SIZE];
+
+  // bytes read but not yet written as a block, starting from pendingOffset of the document.
+  private byte[] pending = new byte[BUFFER_SIZE];
+  private int pendingLength;
+  private long pendingOffset;
+  private long compressedOffset;
+  private long nextRecord;
+
+  public DumpBlockIndexer(String... fragmentRootElements) {
+    this(DEFAULT_BLOCK_SIZE, fragmentRootElements);
+  }
+
+  public DumpBlockIndexer(int blockSize, String... fragmentRootElements) {
+    Assert.isTrue(blockSize > 0, "blockSize must be positive");
+    Assert.notEmpty(fragmentRootElements, "at least 1 fragmentRootElement is required");
+    this.blockSize = blockSize;
+    this.scanner = new RecordScanner(fragmentRootElements);
+  }
+
+  /**
+   * Re-chunks given dump into blocks.
+   *
+   * @param source     gzip compressed dump.
+   * @param blocksPath file to write the blocks to. The file is written to a temporary file first,
+   *                   then moved to the path.
+   * @param eTag       of the dump, to be recorded in the index.
+   * @return index of the blocks.
+   * @throws IOException if read or write fails, or the document ends prematurely.
+   */
+  public synchronized DumpBlockIndex index(Path source, Path blocksPath, String eTag)
+      throws IOException {
+    Path part = Path.of(blocksPath + ".part");
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(source), BUFFER_SIZE);
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), BUFFER_SIZE)) {
+      DumpBlockIndex index = index(in, out, eTag);
+      out.close();
+      Files.move(part, blocksPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      return index;
+    } finally {
+      Files.deleteIfExists(part);
+    }
+  }
+
+  private DumpBlockIndex index(InputStream in, OutputStream out, String eTag) throws IOException {
+    scanner.reset();
+    pendingLength = 0;
+    pendingOffset = 0;
+    compressedOffset = 0;
+    nextRecord = 0;
+
+    Block prolog = null;
+    List<Block> blocks = new ArrayList<>();
+    int recordCount = 0;
+    boolean rootEnded = false;
+
+    long position = 0;
+    int n;
+    while (!rootEnded && (n = in.readNBytes(ensureCapacity(BUFFER_SIZE), pendingLength,
+        BUFFER_SIZE)) > 0) {
+      pendingLength += n;
+      // pending bytes are shifted on each cut, hence indexed by the offset of the document.
+      for (; position < pendingOffset + pendingLength && !rootEnded; position++) {
+        int event = scanner.accept(pending[(int) (position - pendingOffset)], position);
+        if (event == RecordScanner.RECORD) {
+          long start = scanner.getMarkupStart();
+          if (prolog == null) {
+            prolog = cut(out, start, 0);
+          } else if (start - pendingOffset >= blockSize) {
+            blocks.add(cut(out, start, recordCount));
+            recordCount = 0;
+          }
+          recordCount++;
+        } else if (event == RecordScanner.ROOT_END) {
+          long start = scanner.getMarkupStart();
+          if (prolog == null) {
+            prolog = cut(out, start, 0);
+          } else {
+            blocks.add(cut(out, start, recordCount));
+          }
+          rootEnded = true;
+        }
+      }
+    }
+    if (!rootEnded && prolog != null) {
+      throw new IOException("document ended before its root element did");
+    }
+    // the rest of the document, which is the epilog unless the root element is empty.
+    while ((n = in.readNBytes(ensureCapacity(BUFFER_SIZE), pendingLength, BUFFER_SIZE)) > 0) {
+      pendingLength += n;
+    }
+    long end = pendingOffset + pendingLength;
+    if (prolog == null) {
+      prolog = cut(out, end, 0);
+    }
+    Block epilog = cut(out, end, 0);
+    return new DumpBlockIndex(eTag, prolog, epilog, List.copyOf(blocks));
+  }
+
+  private byte[] ensureCapacity(int additional) {
+    if (pending.length - pendingLength < additional) {
+      pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + additional));
+    }
+    return pending;
+  }
+
+  // writes pending bytes up to given offset of the document as a gzip member.
+  private Block cut(OutputStream out, long end, int recordCount) throws IOException {
+    int length = (int) (end - pendingOffset);
+    crc.reset();
+    crc.update(pending, 0, length);
+    deflater.reset();
+    deflater.setInput(pending, 0, length);
+    deflater.finish();
+
+    out.write(GZIP_HEADER);
+    long size = GZIP_HEADER.length;
+    while (!deflater.finished()) {
+      int n = deflater.deflate(deflated);
+      out.write(deflated, 0, n);
+      size += n;
+    }
+    writeIntLE(out, (int) crc.getValue());
+    writeIntLE(out, length);
+    size += 8;
+
+    Block block =
+        new Block(compressedOffset, (int) size, pendingOffset, length, nextRecord, recordCount);
+    compressedOffset += size;
+    nextRecord += recordCount;
+    System.arraycopy(pending, length, pending, 0, pendingLength - length);
+    pendingLength -= length;
+    pendingOffset = end;
+    return block;
+  }
+
+  private static void writeIntLE(OutputStream out, int value) throws IOException {
+    out.write(value);
+    out.write(value >>> 8);
+    out.write(value >>> 16);
+    out.write(value >>> 24);
+  }
+
+  /**
+   * Finds records (i.e. fragment root elements right under the root element) in a document fed
+   * byte by byte. Markup characters are ASCII, hence no decoding is needed to find them.
+   */
+  static class RecordScanner {
+
+    static final int NONE = 0;
+    static final int RECORD = 1;
+    static final int ROOT_END = 2;
+
+    private static final int TEXT = 0;
+    private static final int MARKUP = 1;
+    private static final int NAME = 2;
+    private static final int ATTRIBUTES = 3;
+    private static final int QUOTED = 4;
+    private static final int END_TAG = 5;
+    private static final int BANG = 6;
+    private static final int SPECIAL = 7;
+
+    private static final byte[] PI_END = "?>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] COMMENT_END = "-->".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CDATA_END = "]]>".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECLARATION_END = ">".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[][] names;
+    private final byte[] name = new byte[64];
+    private int nameLength;
+    private int state;
+    private int depth;
+    private byte quote;
+    private boolean selfClosing;
+    private byte[] terminator;
+    private int matched;
+    private long markupStart;
+
+    RecordScanner(String... fragmentRootElements) {
+      this.names =
+          Arrays.stream(fragmentRootElements)
+              .map(element -> element.getBytes(StandardCharsets.UTF_8))
+              .toArray(byte[][]::new);
+    }
+
+    void reset() {
+      state = TEXT;
+      depth = 0;
+      nameLength = 0;
+    }
+
+    /**
+     * Offset of the '<' of the markup the last event was found in.
+     */
+    long getMarkupStart() {
+      return markupStart;
+    }
+
+    int accept(byte b, long position) {
+      switch (state) {
+        case TEXT -> {
+          if (b == '<') {
+            markupStart = position;
+            state = MARKUP;
+          }
+        }
+        case MARKUP -> {
+          if (b == '/') {
+            state = END_TAG;
+          } else if (b == '?') {
+            special(PI_END);
+          } else if (b == '!') {
+            state = BANG;
+          } else {
+            nameLength = 0;
+            selfClosing = false;
+            state = NAME;
+            return name(b);
+          }
+        }
+        case NAME -> {
+          return name(b);
+        }
+        case ATTRIBUTES -> attribute(b);
+        case QUOTED -> {
+          if (b == quote) {
+            state = ATTRIBUTES;
+          }
+        }
+        case END_TAG -> {
+          if (b == '>') {
+            state = TEXT;
+            if (--depth == 0) {
+              return ROOT_END;
+            }
+          }
+        }
+        case BANG -> special(b == '-' ? COMMENT_END : b == '[' ? CDATA_END : DECLARATION_END);
+        case SPECIAL -> {
+          matched = match(b);
+          if (matched == terminator.length) {
+            state = TEXT;
+          }
+        }
+        default -> throw new IllegalStateException("unknown state: " + state);
+      }
+      return NONE;
+    }
+
+    private int name(byte b) {
+      if (b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '/' || b == '>') {
+        state = ATTRIBUTES;
+        boolean record = depth == 1 && isRecordName();
+        attribute(b);
+        return record ? RECORD : NONE;
+      }
+      if (nameLength < name.length) {
+        name[nameLength] = b;
+      }
+      nameLength++;
+      return NONE;
+    }
+
+    private void attribute(byte b) {
+      if (b == '"' || b == '\'') {
+        quote = b;
+        state = QUOTED;
+      } else if (b == '/') {
+        selfClosing = true;
+      } else if (b == '>') {
+        if (!selfClosing) {
+          depth++;
+        }
+        state = TEXT;
+      } else if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+        selfClosing = false;
+      }
+    }
+
+    private boolean isRecordName() {
+      for (byte[] candidate : names) {
+        if (nameLength == candidate.length
+            && nameLength <= name.length
+            && Arrays.equals(name, 0, nameLength, candidate, 0, nameLength)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    // terminators are at most 3 bytes long, and only their first 2 bytes may repeat.
+    private int match(byte b) {
+      if (b == terminator[matched]) {
+        return matched + 1;
+      }
+      if (b != terminator[0]) {
+        return 0;
+      }
+      return matched == 2 && terminator[1] == b ? 2 : 1;
+    }
+
+    private void special(byte[] terminator) {
+      this.terminator = terminator;
+      this.matched = 0;
+      this.state = SPECIAL;
+    }
+  }
+}
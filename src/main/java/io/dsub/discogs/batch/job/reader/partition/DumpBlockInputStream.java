@@ -0,0 +1,81 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockIndex.Block;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses a sequence of blocks one after another. Each block is loaded as a whole and
+ * inflated on its own, hence the blocks need not be adjacent in the file.
+ */
+class DumpBlockInputStream extends InputStream {
+
+  private static final int INFLATER_BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final Iterator<Block> blocks;
+  private InputStream current = InputStream.nullInputStream();
+
+  DumpBlockInputStream(FileChannel channel, List<Block> blocks) {
+    this.channel = channel;
+    this.blocks = blocks.iterator();
+  }
+
+  @Override
+  public int read() throws IOException {
+    do {
+      int b = current.read();
+      if (b >= 0) {
+        return b;
+      }
+    } while (next());
+    return -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    do {
+      int n = current.read(b, off, len);
+      if (n > 0) {
+        return n;
+      }
+    } while (next());
+    return -1;
+  }
+
+  private boolean next() throws IOException {
+    if (!blocks.hasNext()) {
+      return false;
+    }
+    Block block = blocks.next();
+    ByteBuffer buffer = ByteBuffer.allocate(block.compressedLength());
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, block.compressedOffset() + buffer.position()) < 0) {
+        throw new EOFException("block at " + block.compressedOffset() + " is truncated");
+      }
+    }
+    current.close();
+    current =
+        new GZIPInputStream(new ByteArrayInputStream(buffer.array()), INFLATER_BUFFER_SIZE);
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      current.close();
+    } finally {
+      channel.close();
+    }
+  }
+}
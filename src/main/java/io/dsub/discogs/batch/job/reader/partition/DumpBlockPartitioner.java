@@ -0,0 +1,54 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Splits the record blocks of a dump into contiguous ranges of about the same size, one per
+ * partition. Blocks are built on the first partitioning of the dump.
+ *
+ * <p>Partitioning is deterministic, hence the partitions of successive steps reading the same dump
+ * with the same grid size cover the same records.
+ */
+@RequiredArgsConstructor
+public class DumpBlockPartitioner implements Partitioner {
+
+  private static final String PARTITION_PREFIX = "partition";
+
+  private final FileUtil fileUtil;
+  private final DiscogsDump dump;
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    List<DumpPartition> partitions = split(DumpBlocks.getIndex(fileUtil, dump), gridSize);
+    Map<String, ExecutionContext> contexts = new HashMap<>();
+    for (int i = 0; i < partitions.size(); i++) {
+      ExecutionContext context = new ExecutionContext();
+      partitions.get(i).putInto(context);
+      contexts.put(PARTITION_PREFIX + i, context);
+    }
+    return contexts;
+  }
+
+  static List<DumpPartition> split(DumpBlockIndex index, int gridSize) {
+    int blockCount = index.getBlockCount();
+    if (blockCount == 0) {
+      return List.of(new DumpPartition(0, -1));
+    }
+    int count = Math.max(1, Math.min(gridSize, blockCount));
+    List<DumpPartition> partitions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int first = (int) ((long) blockCount * i / count);
+      int last = (int) ((long) blockCount * (i + 1) / count) - 1;
+      partitions.add(new DumpPartition(first, last));
+    }
+    return partitions;
+  }
+}
@@ -0,0 +1,55 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockIndex.Block;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Record blocks of a dump to be read as a document of its own.
+ *
+ * @param blocksPath file of the blocks.
+ * @param index      index of the blocks.
+ * @param partition  range of the record blocks.
+ */
+public record DumpBlockRange(Path blocksPath, DumpBlockIndex index, DumpPartition partition) {
+
+  public InputStream open() throws IOException {
+    return index.open(blocksPath, partition.firstBlock(), partition.lastBlock());
+  }
+
+  public long getUncompressedSize() {
+    return index.getUncompressedSize(partition.firstBlock(), partition.lastBlock());
+  }
+
+  /**
+   * Ordinal of the first record of the range among the records of the dump.
+   */
+  public long getFirstRecord() {
+    if (partition.lastBlock() < partition.firstBlock()) {
+      return 0;
+    }
+    return index.getBlocks().get(partition.firstBlock()).firstRecord();
+  }
+
+  /**
+   * Narrows the range to start from the block holding given record.
+   *
+   * @param ordinal of the record, counted from the first record of the range.
+   * @return the narrowed range, or this range if the record is in its first block.
+   */
+  public DumpBlockRange from(long ordinal) {
+    List<Block> blocks = index.getBlocks();
+    long firstRecord = getFirstRecord();
+    int block = partition.firstBlock();
+    while (block < partition.lastBlock()
+        && blocks.get(block + 1).firstRecord() - firstRecord <= ordinal) {
+      block++;
+    }
+    if (block == partition.firstBlock()) {
+      return this;
+    }
+    return new DumpBlockRange(blocksPath, index, new DumpPartition(block, partition.lastBlock()));
+  }
+}
@@ -0,0 +1,80 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemStreamException;
+
+/**
+ * Blocks of dumps re-chunked by {@link DumpBlockIndexer}, stored next to each dump along with
+ * their {@link DumpBlockIndex}. Blocks are built once per dump, and rebuilt only if the dump is
+ * replaced by another of different ETag.
+ */
+@Slf4j
+public class DumpBlocks {
+
+  static final String BLOCKS_SUFFIX = ".blocks";
+  static final String INDEX_SUFFIX = ".blocks.idx";
+
+  // prevent initialize
+  private DumpBlocks() {
+  }
+
+  /**
+   * Finds the index of given dump, building the blocks first if there are none.
+   *
+   * @param fileUtil to resolve the application directory.
+   * @param dump     to be indexed, which must have been fetched.
+   * @return the index.
+   */
+  public static synchronized DumpBlockIndex getIndex(FileUtil fileUtil, DiscogsDump dump) {
+    Path indexPath = getPath(fileUtil, dump, INDEX_SUFFIX);
+    try {
+      if (Files.exists(indexPath)) {
+        DumpBlockIndex index = DumpBlockIndex.read(indexPath);
+        if (Objects.equals(index.getETag(), dump.getETag())) {
+          return index;
+        }
+        log.info("found stale block index of {}. rebuilding..", dump.getFileName());
+      }
+      log.info("indexing {} for partitioned reading..", dump.getFileName());
+      DumpBlockIndex index =
+          new DumpBlockIndexer(dump.getType().toString())
+              .index(getPath(fileUtil, dump, ""), getPath(fileUtil, dump, BLOCKS_SUFFIX),
+                  dump.getETag());
+      index.write(indexPath);
+      log.info("indexed {} records of {} into {} blocks.", index.getRecordCount(),
+          dump.getFileName(), index.getBlockCount());
+      return index;
+    } catch (IOException e) {
+      throw new ItemStreamException("failed to index " + dump.getFileName(), e);
+    }
+  }
+
+  /**
+   * Resolves the blocks of given partition of a dump.
+   *
+   * @param fileUtil  to resolve the application directory.
+   * @param dump      to be read.
+   * @param partition to be read.
+   * @return the blocks.
+   */
+  public static DumpBlockRange getRange(
+      FileUtil fileUtil, DiscogsDump dump, DumpPartition partition) {
+    return new DumpBlockRange(
+        getPath(fileUtil, dump, BLOCKS_SUFFIX), getIndex(fileUtil, dump), partition);
+  }
+
+  private static Path getPath(FileUtil fileUtil, DiscogsDump dump, String suffix) {
+    try {
+      return fileUtil.getFilePath(dump.getFileName() + suffix);
+    } catch (FileException e) {
+      throw new ItemStreamException("failed to resolve path of " + dump.getFileName(), e);
+    }
+  }
+}
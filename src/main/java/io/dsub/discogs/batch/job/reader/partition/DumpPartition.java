@@ -0,0 +1,40 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * Range of record blocks of a dump to be read by a partition of a step.
+ *
+ * @param firstBlock index of the first record block, inclusive.
+ * @param lastBlock  index of the last record block, inclusive. The range is empty if it is less
+ *                   than firstBlock.
+ */
+public record DumpPartition(int firstBlock, int lastBlock) {
+
+  public static final String FIRST_BLOCK_KEY = "firstBlock";
+  public static final String LAST_BLOCK_KEY = "lastBlock";
+
+  /**
+   * Resolves a partition from the values put by {@link #putInto(ExecutionContext)}.
+   *
+   * @param firstBlock value of {@link #FIRST_BLOCK_KEY}.
+   * @param lastBlock  value of {@link #LAST_BLOCK_KEY}.
+   * @return the partition, or null if the step is not partitioned.
+   */
+  public static DumpPartition of(Integer firstBlock, Integer lastBlock) {
+    if (firstBlock == null || lastBlock == null) {
+      return null;
+    }
+    return new DumpPartition(firstBlock, lastBlock);
+  }
+
+  public void putInto(ExecutionContext executionContext) {
+    executionContext.putInt(FIRST_BLOCK_KEY, firstBlock);
+    executionContext.putInt(LAST_BLOCK_KEY, lastBlock);
+  }
+
+  @Override
+  public String toString() {
+    return firstBlock + "-" + lastBlock;
+  }
+}
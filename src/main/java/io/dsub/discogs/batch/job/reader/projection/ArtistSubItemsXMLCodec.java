@@ -0,0 +1,55 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistAliasXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistGroupXML;
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML.ArtistMemberXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link ArtistSubItemsXML}.
+ */
+public class ArtistSubItemsXMLCodec implements ProjectionCodec<ArtistSubItemsXML> {
+
+  @Override
+  public void write(ProjectionOutput out, ArtistSubItemsXML artist) throws IOException {
+    out.writeBoolean(artist.isPrepared());
+    out.writeInteger(artist.getId());
+    out.writeList(artist.getAliases(), (o, alias) -> o.writeInteger(alias.getAliasId()));
+    out.writeList(artist.getGroups(), (o, group) -> o.writeInteger(group.getGroupId()));
+    out.writeList(artist.getMembers(), (o, member) -> o.writeInteger(member.getMemberId()));
+    out.writeStrings(artist.getNameVariations());
+    out.writeStrings(artist.getUrls());
+  }
+
+  @Override
+  public ArtistSubItemsXML read(ProjectionInput in) throws IOException {
+    ArtistSubItemsXML artist = new ArtistSubItemsXML();
+    artist.setPrepared(in.readBoolean());
+    artist.setId(in.readInteger());
+    artist.setAliases(in.readList(this::readAlias));
+    artist.setGroups(in.readList(this::readGroup));
+    artist.setMembers(in.readList(this::readMember));
+    artist.setNameVariations(in.readStrings());
+    artist.setUrls(in.readStrings());
+    return artist;
+  }
+
+  private ArtistAliasXML readAlias(ProjectionInput in) throws IOException {
+    ArtistAliasXML alias = new ArtistAliasXML();
+    alias.setAliasId(in.readInteger());
+    return alias;
+  }
+
+  private ArtistGroupXML readGroup(ProjectionInput in) throws IOException {
+    ArtistGroupXML group = new ArtistGroupXML();
+    group.setGroupId(in.readInteger());
+    return group;
+  }
+
+  private ArtistMemberXML readMember(ProjectionInput in) throws IOException {
+    ArtistMemberXML member = new ArtistMemberXML();
+    member.setMemberId(in.readInteger());
+    return member;
+  }
+}
@@ -0,0 +1,30 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link ArtistXML}.
+ */
+public class ArtistXMLCodec implements ProjectionCodec<ArtistXML> {
+
+  @Override
+  public void write(ProjectionOutput out, ArtistXML artist) throws IOException {
+    out.writeInteger(artist.getId());
+    out.writeString(artist.getName());
+    out.writeString(artist.getRealName());
+    out.writeString(artist.getProfile());
+    out.writeString(artist.getDataQuality());
+  }
+
+  @Override
+  public ArtistXML read(ProjectionInput in) throws IOException {
+    ArtistXML artist = new ArtistXML();
+    artist.setId(in.readInteger());
+    artist.setName(in.readString());
+    artist.setRealName(in.readString());
+    artist.setProfile(in.readString());
+    artist.setDataQuality(in.readString());
+    return artist;
+  }
+}
@@ -0,0 +1,39 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML.LabelSubLabelXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link LabelSubItemsXML}.
+ */
+public class LabelSubItemsXMLCodec implements ProjectionCodec<LabelSubItemsXML> {
+
+  @Override
+  public void write(ProjectionOutput out, LabelSubItemsXML label) throws IOException {
+    out.writeInteger(label.getId());
+    out.writeList(label.getLabelSubLabels(), this::writeSubLabel);
+    out.writeStrings(label.getUrls());
+  }
+
+  @Override
+  public LabelSubItemsXML read(ProjectionInput in) throws IOException {
+    LabelSubItemsXML label = new LabelSubItemsXML();
+    label.setId(in.readInteger());
+    label.setLabelSubLabels(in.readList(this::readSubLabel));
+    label.setUrls(in.readStrings());
+    return label;
+  }
+
+  private void writeSubLabel(ProjectionOutput out, LabelSubLabelXML subLabel) throws IOException {
+    out.writeString(subLabel.getName());
+    out.writeInteger(subLabel.getSubLabelId());
+  }
+
+  private LabelSubLabelXML readSubLabel(ProjectionInput in) throws IOException {
+    LabelSubLabelXML subLabel = new LabelSubLabelXML();
+    subLabel.setName(in.readString());
+    subLabel.setSubLabelId(in.readInteger());
+    return subLabel;
+  }
+}
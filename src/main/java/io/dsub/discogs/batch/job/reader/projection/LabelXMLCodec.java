@@ -0,0 +1,30 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link LabelXML}.
+ */
+public class LabelXMLCodec implements ProjectionCodec<LabelXML> {
+
+  @Override
+  public void write(ProjectionOutput out, LabelXML label) throws IOException {
+    out.writeInteger(label.getId());
+    out.writeString(label.getName());
+    out.writeString(label.getContactInfo());
+    out.writeString(label.getProfile());
+    out.writeString(label.getDataQuality());
+  }
+
+  @Override
+  public LabelXML read(ProjectionInput in) throws IOException {
+    LabelXML label = new LabelXML();
+    label.setId(in.readInteger());
+    label.setName(in.readString());
+    label.setContactInfo(in.readString());
+    label.setProfile(in.readString());
+    label.setDataQuality(in.readString());
+    return label;
+  }
+}
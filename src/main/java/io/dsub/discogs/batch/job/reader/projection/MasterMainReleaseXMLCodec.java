@@ -0,0 +1,24 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link MasterMainReleaseXML}.
+ */
+public class MasterMainReleaseXMLCodec implements ProjectionCodec<MasterMainReleaseXML> {
+
+  @Override
+  public void write(ProjectionOutput out, MasterMainReleaseXML master) throws IOException {
+    out.writeInteger(master.getId());
+    out.writeInteger(master.getMainReleaseId());
+  }
+
+  @Override
+  public MasterMainReleaseXML read(ProjectionInput in) throws IOException {
+    MasterMainReleaseXML master = new MasterMainReleaseXML();
+    master.setId(in.readInteger());
+    master.setMainReleaseId(in.readInteger());
+    return master;
+  }
+}
@@ -0,0 +1,52 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML.MasterArtistXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML.MasterVideoXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link MasterSubItemsXML}.
+ */
+public class MasterSubItemsXMLCodec implements ProjectionCodec<MasterSubItemsXML> {
+
+  @Override
+  public void write(ProjectionOutput out, MasterSubItemsXML master) throws IOException {
+    out.writeInteger(master.getId());
+    out.writeList(master.getMasterArtists(), (o, artist) -> o.writeInteger(artist.getArtistId()));
+    out.writeStrings(master.getGenres());
+    out.writeStrings(master.getStyles());
+    out.writeList(master.getMasterVideos(), this::writeVideo);
+  }
+
+  @Override
+  public MasterSubItemsXML read(ProjectionInput in) throws IOException {
+    MasterSubItemsXML master = new MasterSubItemsXML();
+    master.setId(in.readInteger());
+    master.setMasterArtists(in.readList(this::readArtist));
+    master.setGenres(in.readStrings());
+    master.setStyles(in.readStrings());
+    master.setMasterVideos(in.readList(this::readVideo));
+    return master;
+  }
+
+  private MasterArtistXML readArtist(ProjectionInput in) throws IOException {
+    MasterArtistXML artist = new MasterArtistXML();
+    artist.setArtistId(in.readInteger());
+    return artist;
+  }
+
+  private void writeVideo(ProjectionOutput out, MasterVideoXML video) throws IOException {
+    out.writeString(video.getTitle());
+    out.writeString(video.getDescription());
+    out.writeString(video.getUrl());
+  }
+
+  private MasterVideoXML readVideo(ProjectionInput in) throws IOException {
+    MasterVideoXML video = new MasterVideoXML();
+    video.setTitle(in.readString());
+    video.setDescription(in.readString());
+    video.setUrl(in.readString());
+    return video;
+  }
+}
@@ -0,0 +1,34 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import java.io.IOException;
+
+/**
+ * Codec of {@link MasterXML}.
+ */
+public class MasterXMLCodec implements ProjectionCodec<MasterXML> {
+
+  @Override
+  public void write(ProjectionOutput out, MasterXML master) throws IOException {
+    out.writeInteger(master.getId());
+    out.writeShort(master.getYear());
+    out.writeString(master.getTitle());
+    out.writeInteger(master.getMainReleaseId());
+    out.writeString(master.getDataQuality());
+    out.writeStrings(master.getGenres());
+    out.writeStrings(master.getStyles());
+  }
+
+  @Override
+  public MasterXML read(ProjectionInput in) throws IOException {
+    MasterXML master = new MasterXML();
+    master.setId(in.readInteger());
+    master.setYear(in.readShort());
+    master.setTitle(in.readString());
+    master.setMainReleaseId(in.readInteger());
+    master.setDataQuality(in.readString());
+    master.setGenres(in.readStrings());
+    master.setStyles(in.readStrings());
+    return master;
+  }
+}
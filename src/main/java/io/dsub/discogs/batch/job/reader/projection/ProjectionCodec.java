@@ -0,0 +1,16 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads a projection of a dump entity. Reading must restore an object equal to the
+ * written one.
+ *
+ * @param <T> type of the projection.
+ */
+public interface ProjectionCodec<T> {
+
+  void write(ProjectionOutput out, T item) throws IOException;
+
+  T read(ProjectionInput in) throws IOException;
+}
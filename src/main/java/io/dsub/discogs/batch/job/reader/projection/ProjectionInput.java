@@ -0,0 +1,66 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the values written by {@link ProjectionOutput}, in the same order.
+ */
+@RequiredArgsConstructor
+public class ProjectionInput {
+
+  private final DataInputStream in;
+
+  public String readString() throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  public Integer readInteger() throws IOException {
+    return in.readBoolean() ? in.readInt() : null;
+  }
+
+  public Short readShort() throws IOException {
+    return in.readBoolean() ? in.readShort() : null;
+  }
+
+  public boolean readBoolean() throws IOException {
+    return in.readBoolean();
+  }
+
+  public List<String> readStrings() throws IOException {
+    return readList(ProjectionInput::readString);
+  }
+
+  public <E> List<E> readList(ElementReader<E> reader) throws IOException {
+    int size = in.readInt();
+    if (size < 0) {
+      return null;
+    }
+    List<E> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(in.readBoolean() ? reader.read(this) : null);
+    }
+    return values;
+  }
+
+  /**
+   * Reads an element of a list.
+   *
+   * @param <E> type of the element.
+   */
+  @FunctionalInterface
+  public interface ElementReader<E> {
+
+    E read(ProjectionInput in) throws IOException;
+  }
+}
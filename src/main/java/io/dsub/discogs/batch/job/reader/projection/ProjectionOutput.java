@@ -0,0 +1,75 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the values of projections in a compact binary form. Every value is nullable; lengths of
+ * -1 (or a leading false for numbers) mark null values. See {@link ProjectionInput} for the
+ * reading side.
+ */
+@RequiredArgsConstructor
+public class ProjectionOutput {
+
+  private final DataOutputStream out;
+
+  public void writeString(String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  public void writeInteger(Integer value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeInt(value);
+    }
+  }
+
+  public void writeShort(Short value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeShort(value);
+    }
+  }
+
+  public void writeBoolean(boolean value) throws IOException {
+    out.writeBoolean(value);
+  }
+
+  public void writeStrings(List<String> values) throws IOException {
+    writeList(values, ProjectionOutput::writeString);
+  }
+
+  public <E> void writeList(List<E> values, ElementWriter<E> writer) throws IOException {
+    if (values == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(values.size());
+    for (E value : values) {
+      out.writeBoolean(value != null);
+      if (value != null) {
+        writer.write(this, value);
+      }
+    }
+  }
+
+  /**
+   * Writes an element of a list.
+   *
+   * @param <E> type of the element.
+   */
+  @FunctionalInterface
+  public interface ElementWriter<E> {
+
+    void write(ProjectionOutput out, E element) throws IOException;
+  }
+}
@@ -0,0 +1,130 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.job.reader.ReadCheckpoint;
+import io.dsub.discogs.batch.util.ProgressBarUtil;
+import io.dsub.discogs.batch.util.ToggleProgressBarConsumer;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import me.tongfei.progressbar.ProgressBar;
+import me.tongfei.progressbar.wrapped.ProgressBarWrappedInputStream;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.util.Assert;
+
+/**
+ * Reads back the projections spilled by a {@link ProjectionSpillWriter}, through a memory mapping
+ * of the spill. Unless retained, the spill is deleted once it has been read to its end, as it is of
+ * no use afterwards. Until then, a {@link
+ * ReadCheckpoint} is saved on each commit, and a restarted step skips the projections before it.
+ *
+ * @param <T> type of the projection.
+ */
+@Slf4j
+public class ProjectionSpillReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+  private static final String TASK_NAME_PREPEND = "READ ";
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Path path;
+  private final ProjectionCodec<T> codec;
+  private final String taskName;
+  private final ToggleProgressBarConsumer pbConsumer = new ToggleProgressBarConsumer(System.err);
+  private DataInputStream stream;
+  private ProjectionInput in;
+  private final ReadCheckpoint checkpoint;
+  private final boolean retained;
+  private boolean exhausted;
+
+  public ProjectionSpillReader(Class<T> mappedClass, Path path, ProjectionCodec<T> codec) {
+    this(mappedClass, path, codec, false);
+  }
+
+  public ProjectionSpillReader(
+      Class<T> mappedClass, Path path, ProjectionCodec<T> codec, boolean retained) {
+    Assert.notNull(path, "path cannot be null");
+    Assert.notNull(codec, "codec cannot be null");
+    this.path = path;
+    this.codec = codec;
+    this.retained = retained;
+    this.taskName = TASK_NAME_PREPEND + mappedClass.getSimpleName();
+    this.checkpoint = new ReadCheckpoint(mappedClass.getSimpleName());
+    this.pbConsumer.off();
+    this.setName(taskName);
+    this.setSaveState(false);
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    ProgressBar pb = ProgressBarUtil.get(taskName, Files.size(path), pbConsumer);
+    stream =
+        new DataInputStream(
+            new BufferedInputStream(
+                new ProgressBarWrappedInputStream(new MappedFileInputStream(path), pb),
+                BUFFER_SIZE));
+    if (stream.readInt() != ProjectionSpillWriter.MAGIC) {
+      throw new IOException("not a projection spill: " + path);
+    }
+    in = new ProjectionInput(stream);
+    exhausted = false;
+    pbConsumer.on();
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    super.open(executionContext);
+    long resumeFrom = checkpoint.restore(executionContext);
+    if (resumeFrom > 0) {
+      log.info("resuming {} from projection {}", taskName, resumeFrom);
+      try {
+        long skipped = 0;
+        while (skipped < resumeFrom && doRead() != null) {
+          skipped++;
+        }
+      } catch (Exception e) {
+        throw new ItemStreamException("failed to skip to checkpoint of " + taskName, e);
+      }
+    }
+  }
+
+  @Override
+  public synchronized T read() throws Exception {
+    T item = super.read();
+    if (item != null) {
+      checkpoint.read();
+    }
+    return item;
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) throws ItemStreamException {
+    super.update(executionContext);
+    checkpoint.save(executionContext);
+  }
+
+  @Override
+  protected T doRead() throws Exception {
+    if (exhausted || !stream.readBoolean()) {
+      exhausted = true;
+      return null;
+    }
+    return codec.read(in);
+  }
+
+  @Override
+  protected void doClose() throws Exception {
+    pbConsumer.close();
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+    if (exhausted && !retained) {
+      Files.deleteIfExists(path);
+      log.debug("deleted consumed projection spill {}", path);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemStreamException;
+
+/**
+ * Spills projections to a file, to be read back by a {@link ProjectionSpillReader}. Records are
+ * written to a partial file, which only replaces the target once {@link #complete()} is called.
+ * Hence, a reader never sees the spill of an interrupted pass.
+ *
+ * @param <T> type of the projection.
+ */
+@Slf4j
+public class ProjectionSpillWriter<T> implements Consumer<T> {
+
+  static final int MAGIC = 0x53504C31; // SPL1
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final String PART_SUFFIX = ".part";
+
+  private final Path target;
+  private final Path part;
+  private final ProjectionCodec<T> codec;
+  private DataOutputStream stream;
+  private ProjectionOutput out;
+  private long count;
+
+  public ProjectionSpillWriter(Path target, ProjectionCodec<T> codec) {
+    this.target = target;
+    this.part = target.resolveSibling(target.getFileName() + PART_SUFFIX);
+    this.codec = codec;
+  }
+
+  public void open() {
+    try {
+      stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(part),
+          BUFFER_SIZE));
+      stream.writeInt(MAGIC);
+      out = new ProjectionOutput(stream);
+      count = 0;
+    } catch (IOException e) {
+      throw new ItemStreamException("failed to open projection spill " + part, e);
+    }
+  }
+
+  @Override
+  public void accept(T item) {
+    try {
+      stream.writeBoolean(true);
+      codec.write(out, item);
+      count++;
+    } catch (IOException e) {
+      throw new ItemStreamException("failed to spill projection to " + part, e);
+    }
+  }
+
+  /**
+   * Ends the spill and publishes it to the target path.
+   */
+  public void complete() {
+    try {
+      stream.writeBoolean(false);
+      stream.close();
+      Files.move(part, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      log.debug("spilled {} projections to {}", count, target);
+    } catch (IOException e) {
+      discard();
+      throw new ItemStreamException("failed to complete projection spill " + target, e);
+    } finally {
+      stream = null;
+    }
+  }
+
+  /**
+   * Drops the spill, leaving any previously published one untouched.
+   */
+  public void discard() {
+    try {
+      if (stream != null) {
+        stream.close();
+      }
+      Files.deleteIfExists(part);
+    } catch (IOException e) {
+      log.warn("failed to discard projection spill " + part, e);
+    } finally {
+      stream = null;
+    }
+  }
+}
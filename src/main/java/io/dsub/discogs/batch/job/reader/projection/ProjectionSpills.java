@@ -0,0 +1,163 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.artist.ArtistSubItemsXML;
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import io.dsub.discogs.batch.domain.label.LabelSubItemsXML;
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.reader.binder.ProjectionSinks;
+import io.dsub.discogs.batch.job.reader.partition.DumpPartition;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemStreamException;
+
+/**
+ * Spills of the projections bound along with the core items of a dump. While the core insertion
+ * step reads the dump, the other items of each entity are spilled to the application directory.
+ * The following steps then read the spills instead of parsing the dump again, and only after the
+ * core items they refer to are committed.
+ *
+ * <p>If the dump is read by partitions, each partition spills on its own, to be read by the same
+ * partition of the following steps.
+ *
+ * <p>The core items can be spilled as well, which transcodes the dump into a binary form. As the
+ * spills are named after the ETag of the dump, a later run of the same dump reads them instead of
+ * the dump, as long as the application directory is kept, in which case the spills are retained.
+ */
+@RequiredArgsConstructor
+public class ProjectionSpills implements ProjectionSinks {
+
+  private static final String SUFFIX = ".spill";
+  private static final Map<Class<?>, ProjectionCodec<?>> CODECS =
+      Map.of(
+          ArtistXML.class, new ArtistXMLCodec(),
+          LabelXML.class, new LabelXMLCodec(),
+          MasterXML.class, new MasterXMLCodec(),
+          ReleaseItemXML.class, new ReleaseItemXMLCodec(),
+          ArtistSubItemsXML.class, new ArtistSubItemsXMLCodec(),
+          LabelSubItemsXML.class, new LabelSubItemsXMLCodec(),
+          MasterSubItemsXML.class, new MasterSubItemsXMLCodec(),
+          MasterMainReleaseXML.class, new MasterMainReleaseXMLCodec(),
+          ReleaseItemSubItemsXML.class, new ReleaseItemSubItemsXMLCodec());
+
+  private final FileUtil fileUtil;
+  private final DiscogsDump dump;
+  private final DumpPartition partition;
+  private final List<ProjectionSpillWriter<?>> writers = new ArrayList<>();
+
+  public ProjectionSpills(FileUtil fileUtil, DiscogsDump dump) {
+    this(fileUtil, dump, null);
+  }
+
+  @Override
+  public <P> Consumer<P> get(Class<P> projectionClass) {
+    ProjectionSpillWriter<P> writer =
+        new ProjectionSpillWriter<>(getPath(fileUtil, dump, partition, projectionClass),
+            getCodec(projectionClass));
+    writers.add(writer);
+    return writer;
+  }
+
+  public void open() {
+    writers.forEach(ProjectionSpillWriter::open);
+  }
+
+  public void complete() {
+    writers.forEach(ProjectionSpillWriter::complete);
+  }
+
+  public void discard() {
+    writers.forEach(ProjectionSpillWriter::discard);
+  }
+
+  /**
+   * Checks if projections read from given dump can be spilled, which requires the dump to be
+   * identified by its ETag.
+   *
+   * @param dump to be read.
+   * @return true if spillable.
+   */
+  public static boolean isSpillable(DiscogsDump dump) {
+    return dump.getETag() != null;
+  }
+
+  /**
+   * Finds a complete spill of given projection.
+   *
+   * @param fileUtil        to resolve the application directory.
+   * @param dump            the projection was read from.
+   * @param projectionClass type of the projection.
+   * @return reader of the spill, or null if there is none.
+   */
+  public static <P> ProjectionSpillReader<P> getReader(
+      FileUtil fileUtil, DiscogsDump dump, Class<P> projectionClass) {
+    return getReader(fileUtil, dump, null, projectionClass);
+  }
+
+  /**
+   * Finds a complete spill of given projection, spilled by given partition.
+   *
+   * @param fileUtil        to resolve the application directory.
+   * @param dump            the projection was read from.
+   * @param partition       the projection was read by, or null if the dump was read as a whole.
+   * @param projectionClass type of the projection.
+   * @return reader of the spill, or null if there is none.
+   */
+  public static <P> ProjectionSpillReader<P> getReader(
+      FileUtil fileUtil, DiscogsDump dump, DumpPartition partition, Class<P> projectionClass) {
+    if (!isSpillable(dump) || !CODECS.containsKey(projectionClass)) {
+      return null;
+    }
+    Path path = getPath(fileUtil, dump, partition, projectionClass);
+    if (path == null || !Files.exists(path)) {
+      return null;
+    }
+    return new ProjectionSpillReader<>(projectionClass, path, getCodec(projectionClass),
+        !fileUtil.isTemporary());
+  }
+
+  static String getFilename(DiscogsDump dump, DumpPartition partition, Class<?> projectionClass) {
+    return dump.getType()
+        + "-"
+        + dump.getETag().replaceAll("[^A-Za-z0-9_-]", "")
+        + (partition == null ? "" : "-" + partition)
+        + "-"
+        + projectionClass.getSimpleName()
+        + SUFFIX;
+  }
+
+  private static Path getPath(
+      FileUtil fileUtil, DiscogsDump dump, DumpPartition partition, Class<?> projectionClass) {
+    try {
+      return fileUtil.getFilePath(getFilename(dump, partition, projectionClass));
+    } catch (FileException e) {
+      throw new ItemStreamException("failed to resolve projection spill path", e);
+    }
+  }
+
+  /**
+   * Returns the codec of given item class, i.e. of a core item or a projection of a dump entity.
+   *
+   * @throws IllegalArgumentException if the class has no codec.
+   */
+  @SuppressWarnings("unchecked")
+  public static <P> ProjectionCodec<P> getCodec(Class<P> projectionClass) {
+    ProjectionCodec<P> codec = (ProjectionCodec<P>) CODECS.get(projectionClass);
+    if (codec == null) {
+      throw new IllegalArgumentException("no codec for " + projectionClass.getSimpleName());
+    }
+    return codec;
+  }
+}
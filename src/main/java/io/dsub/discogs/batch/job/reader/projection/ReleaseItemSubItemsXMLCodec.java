@@ -0,0 +1,163 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.LabelItemRelease;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseAlbumArtist;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseCreditedArtist;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseFormat;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseIdentifier;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseTrack;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseVideo;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseWork;
+import java.io.IOException;
+
+/**
+ * Codec of {@link ReleaseItemSubItemsXML}.
+ */
+public class ReleaseItemSubItemsXMLCodec implements ProjectionCodec<ReleaseItemSubItemsXML> {
+
+  @Override
+  public void write(ProjectionOutput out, ReleaseItemSubItemsXML release) throws IOException {
+    out.writeInteger(release.getId());
+    out.writeList(release.getReleaseAlbumArtists(), this::writeAlbumArtist);
+    out.writeList(release.getReleaseCreditedArtists(), this::writeCreditedArtist);
+    out.writeList(release.getLabelReleaseLabels(), this::writeLabel);
+    out.writeList(release.getReleaseFormats(), this::writeFormat);
+    out.writeList(release.getReleaseTracks(), this::writeTrack);
+    out.writeList(release.getReleaseIdentifiers(), this::writeIdentifier);
+    out.writeList(release.getCompanies(), this::writeWork);
+    out.writeList(release.getReleaseVideos(), this::writeVideo);
+    out.writeStrings(release.getGenres());
+    out.writeStrings(release.getStyles());
+  }
+
+  @Override
+  public ReleaseItemSubItemsXML read(ProjectionInput in) throws IOException {
+    ReleaseItemSubItemsXML release = new ReleaseItemSubItemsXML();
+    release.setId(in.readInteger());
+    release.setReleaseAlbumArtists(in.readList(this::readAlbumArtist));
+    release.setReleaseCreditedArtists(in.readList(this::readCreditedArtist));
+    release.setLabelReleaseLabels(in.readList(this::readLabel));
+    release.setReleaseFormats(in.readList(this::readFormat));
+    release.setReleaseTracks(in.readList(this::readTrack));
+    release.setReleaseIdentifiers(in.readList(this::readIdentifier));
+    release.setCompanies(in.readList(this::readWork));
+    release.setReleaseVideos(in.readList(this::readVideo));
+    release.setGenres(in.readStrings());
+    release.setStyles(in.readStrings());
+    return release;
+  }
+
+  private void writeAlbumArtist(ProjectionOutput out, ReleaseAlbumArtist artist)
+      throws IOException {
+    out.writeInteger(artist.getArtistId());
+    out.writeString(artist.getName());
+  }
+
+  private ReleaseAlbumArtist readAlbumArtist(ProjectionInput in) throws IOException {
+    ReleaseAlbumArtist artist = new ReleaseAlbumArtist();
+    artist.setArtistId(in.readInteger());
+    artist.setName(in.readString());
+    return artist;
+  }
+
+  private void writeCreditedArtist(ProjectionOutput out, ReleaseCreditedArtist artist)
+      throws IOException {
+    out.writeInteger(artist.getArtistId());
+    out.writeString(artist.getName());
+    out.writeString(artist.getRole());
+  }
+
+  private ReleaseCreditedArtist readCreditedArtist(ProjectionInput in) throws IOException {
+    ReleaseCreditedArtist artist = new ReleaseCreditedArtist();
+    artist.setArtistId(in.readInteger());
+    artist.setName(in.readString());
+    artist.setRole(in.readString());
+    return artist;
+  }
+
+  private void writeLabel(ProjectionOutput out, LabelItemRelease label) throws IOException {
+    out.writeString(label.getCategoryNotation());
+    out.writeInteger(label.getLabelId());
+    out.writeString(label.getLabelName());
+  }
+
+  private LabelItemRelease readLabel(ProjectionInput in) throws IOException {
+    LabelItemRelease label = new LabelItemRelease();
+    label.setCategoryNotation(in.readString());
+    label.setLabelId(in.readInteger());
+    label.setLabelName(in.readString());
+    return label;
+  }
+
+  private void writeFormat(ProjectionOutput out, ReleaseFormat format) throws IOException {
+    out.writeString(format.getName());
+    out.writeInteger(format.getQuantity());
+    out.writeString(format.getText());
+    out.writeStrings(format.getDescriptions());
+  }
+
+  private ReleaseFormat readFormat(ProjectionInput in) throws IOException {
+    ReleaseFormat format = new ReleaseFormat();
+    format.setName(in.readString());
+    format.setQuantity(in.readInteger());
+    format.setText(in.readString());
+    format.setDescriptions(in.readStrings());
+    return format;
+  }
+
+  private void writeTrack(ProjectionOutput out, ReleaseTrack track) throws IOException {
+    out.writeString(track.getPosition());
+    out.writeString(track.getTitle());
+    out.writeString(track.getDuration());
+  }
+
+  private ReleaseTrack readTrack(ProjectionInput in) throws IOException {
+    ReleaseTrack track = new ReleaseTrack();
+    track.setPosition(in.readString());
+    track.setTitle(in.readString());
+    track.setDuration(in.readString());
+    return track;
+  }
+
+  private void writeIdentifier(ProjectionOutput out, ReleaseIdentifier identifier)
+      throws IOException {
+    out.writeString(identifier.getType());
+    out.writeString(identifier.getDescription());
+    out.writeString(identifier.getValue());
+  }
+
+  private ReleaseIdentifier readIdentifier(ProjectionInput in) throws IOException {
+    ReleaseIdentifier identifier = new ReleaseIdentifier();
+    identifier.setType(in.readString());
+    identifier.setDescription(in.readString());
+    identifier.setValue(in.readString());
+    return identifier;
+  }
+
+  private void writeWork(ProjectionOutput out, ReleaseWork work) throws IOException {
+    out.writeInteger(work.getId());
+    out.writeString(work.getWork());
+  }
+
+  private ReleaseWork readWork(ProjectionInput in) throws IOException {
+    ReleaseWork work = new ReleaseWork();
+    work.setId(in.readInteger());
+    work.setWork(in.readString());
+    return work;
+  }
+
+  private void writeVideo(ProjectionOutput out, ReleaseVideo video) throws IOException {
+    out.writeString(video.getTitle());
+    out.writeString(video.getDescription());
+    out.writeString(video.getUrl());
+  }
+
+  private ReleaseVideo readVideo(ProjectionInput in) throws IOException {
+    ReleaseVideo video = new ReleaseVideo();
+    video.setTitle(in.readString());
+    video.setDescription(in.readString());
+    video.setUrl(in.readString());
+    return video;
+  }
+}
@@ -0,0 +1,51 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML.Master;
+import java.io.IOException;
+
+/**
+ * Codec of {@link ReleaseItemXML}.
+ */
+public class ReleaseItemXMLCodec implements ProjectionCodec<ReleaseItemXML> {
+
+  @Override
+  public void write(ProjectionOutput out, ReleaseItemXML release) throws IOException {
+    out.writeInteger(release.getId());
+    out.writeString(release.getStatus());
+    out.writeString(release.getTitle());
+    out.writeString(release.getCountry());
+    out.writeString(release.getNotes());
+    out.writeString(release.getDataQuality());
+    out.writeString(release.getReleaseDate());
+    Master master = release.getMaster();
+    out.writeBoolean(master != null);
+    if (master != null) {
+      out.writeInteger(master.getMasterId());
+      out.writeBoolean(master.isMaster());
+    }
+    out.writeStrings(release.getGenres());
+    out.writeStrings(release.getStyles());
+  }
+
+  @Override
+  public ReleaseItemXML read(ProjectionInput in) throws IOException {
+    ReleaseItemXML release = new ReleaseItemXML();
+    release.setId(in.readInteger());
+    release.setStatus(in.readString());
+    release.setTitle(in.readString());
+    release.setCountry(in.readString());
+    release.setNotes(in.readString());
+    release.setDataQuality(in.readString());
+    release.setReleaseDate(in.readString());
+    if (in.readBoolean()) {
+      Master master = new Master();
+      master.setMasterId(in.readInteger());
+      master.setMaster(in.readBoolean());
+      release.setMaster(master);
+    }
+    release.setGenres(in.readStrings());
+    release.setStyles(in.readStrings());
+    return release;
+  }
+}
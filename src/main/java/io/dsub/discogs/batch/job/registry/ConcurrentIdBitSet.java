@@ -0,0 +1,288 @@
+package io.dsub.discogs.batch.job.registry;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Lock-free bitmap of non-negative int identifiers. Each identifier costs a single bit, and the
+ * bitmap grows in fixed-size segments which are allocated on first write. Membership updates are
+ * done by word-level CAS on {@link AtomicLongArray}, hence no boxing or locking is involved.
+ *
+ * <p>Segment size is 2^20 bits (128KB), and the directory covers the whole non-negative int
+ * range. A set of 30 million dense identifiers therefore costs about 4MB.
+ */
+public class ConcurrentIdBitSet {
+
+  static final int SEGMENT_SHIFT = 20;
+  static final int SEGMENT_BITS = 1 << SEGMENT_SHIFT;
+  static final int SEGMENT_MASK = SEGMENT_BITS - 1;
+  static final int WORDS_PER_SEGMENT = SEGMENT_BITS >>> 6;
+  static final int SEGMENT_COUNT = 1 << (31 - SEGMENT_SHIFT);
+
+  // object headers plus the backing array; references assumed to be compressed.
+  private static final long DIRECTORY_HEAP_BYTES = 32L + 4L * SEGMENT_COUNT;
+  private static final long SEGMENT_HEAP_BYTES = 32L + 8L * WORDS_PER_SEGMENT;
+
+  private final AtomicReferenceArray<AtomicLongArray> segments =
+      new AtomicReferenceArray<>(SEGMENT_COUNT);
+
+  /**
+   * Sets the bit for given id.
+   *
+   * @param id non-negative identifier.
+   * @return true if the bit was not previously set.
+   */
+  public boolean add(int id) {
+    checkId(id);
+    AtomicLongArray segment = getOrCreateSegment(id >>> SEGMENT_SHIFT);
+    int wordIdx = (id & SEGMENT_MASK) >>> 6;
+    long mask = 1L << id; // shift distance is masked to the lower 6 bits.
+    long prev;
+    do {
+      prev = segment.get(wordIdx);
+      if ((prev & mask) != 0) {
+        return false;
+      }
+    } while (!segment.compareAndSet(wordIdx, prev, prev | mask));
+    return true;
+  }
+
+  /**
+   * Sets the bits for the first {@code length} ids of given array. The range is sorted in place so
+   * that ids sharing a word are merged into a single CAS.
+   *
+   * @param ids    non-negative identifiers. The array is reordered.
+   * @param length number of ids to be added from the start of the array.
+   */
+  public void addAll(int[] ids, int length) {
+    Arrays.sort(ids, 0, length);
+    int i = 0;
+    while (i < length) {
+      int id = ids[i];
+      checkId(id);
+      int word = id >>> 6;
+      long mask = 0;
+      while (i < length && ids[i] >>> 6 == word) {
+        mask |= 1L << ids[i++];
+      }
+      AtomicLongArray segment = getOrCreateSegment(id >>> SEGMENT_SHIFT);
+      int wordIdx = (id & SEGMENT_MASK) >>> 6;
+      if ((segment.get(wordIdx) & mask) != mask) {
+        segment.getAndAccumulate(wordIdx, mask, (prev, bits) -> prev | bits);
+      }
+    }
+  }
+
+  /**
+   * Clears the bit for given id.
+   *
+   * @param id non-negative identifier.
+   * @return true if the bit was previously set.
+   */
+  public boolean remove(int id) {
+    checkId(id);
+    AtomicLongArray segment = segments.get(id >>> SEGMENT_SHIFT);
+    if (segment == null) {
+      return false;
+    }
+    int wordIdx = (id & SEGMENT_MASK) >>> 6;
+    long mask = 1L << id;
+    long prev;
+    do {
+      prev = segment.get(wordIdx);
+      if ((prev & mask) == 0) {
+        return false;
+      }
+    } while (!segment.compareAndSet(wordIdx, prev, prev & ~mask));
+    return true;
+  }
+
+  public boolean contains(int id) {
+    if (id < 0) {
+      return false;
+    }
+    AtomicLongArray segment = segments.get(id >>> SEGMENT_SHIFT);
+    if (segment == null) {
+      return false;
+    }
+    return (segment.get((id & SEGMENT_MASK) >>> 6) & (1L << id)) != 0;
+  }
+
+  /**
+   * Counts the bits currently set. The result is only a snapshot if the set is concurrently
+   * modified.
+   *
+   * @return number of identifiers in this set.
+   */
+  public long cardinality() {
+    long count = 0;
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment == null) {
+        continue;
+      }
+      for (int w = 0; w < WORDS_PER_SEGMENT; w++) {
+        count += Long.bitCount(segment.get(w));
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Sums the identifiers currently set, to be compared with {@link IdSnapshotFingerprint#idSum()}.
+   *
+   * @return sum of the identifiers in this set.
+   */
+  public long sum() {
+    long[] sum = new long[1];
+    forEach(id -> sum[0] += id);
+    return sum[0];
+  }
+
+  public boolean isEmpty() {
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment == null) {
+        continue;
+      }
+      for (int w = 0; w < WORDS_PER_SEGMENT; w++) {
+        if (segment.get(w) != 0) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Estimates the heap held by this set, which is the directory plus every allocated segment.
+   *
+   * @return estimated size in bytes.
+   */
+  public long estimatedBytes() {
+    long bytes = DIRECTORY_HEAP_BYTES;
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      if (segments.get(i) != null) {
+        bytes += SEGMENT_HEAP_BYTES;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Finds the highest identifier present in this set.
+   *
+   * @return the highest set bit, or -1 if the set is empty.
+   */
+  public int max() {
+    for (int i = SEGMENT_COUNT - 1; i >= 0; i--) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment == null) {
+        continue;
+      }
+      for (int w = WORDS_PER_SEGMENT - 1; w >= 0; w--) {
+        long word = segment.get(w);
+        if (word != 0) {
+          return (i << SEGMENT_SHIFT) + (w << 6) + (63 - Long.numberOfLeadingZeros(word));
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Iterates every identifier in ascending order.
+   *
+   * @param consumer to be called for each identifier.
+   */
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment == null) {
+        continue;
+      }
+      int base = i << SEGMENT_SHIFT;
+      for (int w = 0; w < WORDS_PER_SEGMENT; w++) {
+        long word = segment.get(w);
+        while (word != 0) {
+          int bit = Long.numberOfTrailingZeros(word);
+          consumer.accept(base + (w << 6) + bit);
+          word &= word - 1;
+        }
+      }
+    }
+  }
+
+  /**
+   * Releases every segment so that the memory can be reclaimed.
+   */
+  public void clear() {
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments.set(i, null);
+    }
+  }
+
+  /**
+   * Iterates every allocated segment in ascending order, along with its index in the directory.
+   * Segments are handed out as-is, so that they can be serialized without copying.
+   *
+   * @param consumer to be called for each allocated segment.
+   */
+  void forEachSegment(ObjIntConsumer<AtomicLongArray> consumer) {
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      AtomicLongArray segment = segments.get(i);
+      if (segment != null) {
+        consumer.accept(segment, i);
+      }
+    }
+  }
+
+  /**
+   * Merges given words into the segment of given index, allocating the segment if required.
+   *
+   * @param segmentIdx index of the segment in the directory.
+   * @param words      {@link #WORDS_PER_SEGMENT} words to be merged.
+   */
+  void orSegment(int segmentIdx, LongBuffer words) {
+    if (segmentIdx < 0 || segmentIdx >= SEGMENT_COUNT) {
+      throw new IllegalArgumentException("segment index out of range: " + segmentIdx);
+    }
+    if (words.remaining() < WORDS_PER_SEGMENT) {
+      throw new IllegalArgumentException("insufficient words for a segment: " + words.remaining());
+    }
+    AtomicLongArray segment = null;
+    int offset = words.position();
+    for (int w = 0; w < WORDS_PER_SEGMENT; w++) {
+      long word = words.get(offset + w);
+      if (word == 0) {
+        continue;
+      }
+      if (segment == null) {
+        segment = getOrCreateSegment(segmentIdx);
+      }
+      segment.getAndAccumulate(w, word, (prev, bits) -> prev | bits);
+    }
+  }
+
+  private AtomicLongArray getOrCreateSegment(int segmentIdx) {
+    AtomicLongArray segment = segments.get(segmentIdx);
+    if (segment != null) {
+      return segment;
+    }
+    AtomicLongArray created = new AtomicLongArray(WORDS_PER_SEGMENT);
+    if (segments.compareAndSet(segmentIdx, null, created)) {
+      return created;
+    }
+    return segments.get(segmentIdx);
+  }
+
+  private void checkId(int id) {
+    if (id < 0) {
+      throw new IllegalArgumentException("id cannot be negative: " + id);
+    }
+  }
+}
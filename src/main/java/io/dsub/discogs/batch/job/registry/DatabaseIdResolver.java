@@ -0,0 +1,50 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+/**
+ * Checks which of given identifiers exist in the database, with a single query per call.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DatabaseIdResolver {
+
+  private final DSLContext context;
+
+  /**
+   * Resolves given identifiers against the table of given type.
+   *
+   * @param type of the identifiers.
+   * @param ids  to be resolved.
+   * @return identifiers that exist in the table.
+   */
+  public Set<Integer> resolve(Type type, Collection<Integer> ids) {
+    Set<Integer> found = new HashSet<>();
+    if (ids.isEmpty()) {
+      return found;
+    }
+    Field<Integer> idField = EntityIdTables.getIdField(type);
+    Condition condition =
+        context.family() == SQLDialect.POSTGRES
+            ? idField.eq(DSL.any(ids.toArray(Integer[]::new)))
+            : idField.in(ids);
+    context
+        .select(idField)
+        .from(EntityIdTables.getTable(type))
+        .where(condition)
+        .fetch(idField)
+        .forEach(found::add);
+    log.debug("resolved {} of {} {} ids", found.size(), ids.size(), type.name().toLowerCase());
+    return found;
+  }
+}
@@ -1,32 +1,81 @@
 package io.dsub.discogs.batch.job.registry;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 
 @Slf4j
 public class DefaultEntityIdRegistry implements EntityIdRegistry {
 
+  private static final List<Type> ID_TYPES =
+      List.of(Type.ARTIST, Type.LABEL, Type.MASTER, Type.RELEASE);
+  private static final int RESOLVED_CACHE_CAPACITY = 1 << 17;
+  private static final int MAX_PENDING_IDS = 1 << 14;
+
   private final IdCache artistCache = new IdCache(Type.ARTIST);
   private final IdCache masterCache = new IdCache(Type.MASTER);
   private final IdCache labelCache = new IdCache(Type.LABEL);
-  private final IdCache releaseItemCache = new IdCache(Type.LABEL);
+  private final IdCache releaseItemCache = new IdCache(Type.RELEASE);
+
+  private final StringDictionary genreDictionary = new StringDictionary();
+  private final StringDictionary styleDictionary = new StringDictionary();
+
+  private final Map<Type, ResolvedIdCache> resolvedCaches = new EnumMap<>(Type.class);
+  private final ThreadLocal<Map<Type, Set<Integer>>> pendingIds =
+      ThreadLocal.withInitial(() -> new EnumMap<>(Type.class));
+  private final ThreadLocal<IdWriteBuffer> writeBuffers =
+      ThreadLocal.withInitial(IdWriteBuffer::new);
+
+  private final IdSnapshotStore snapshotStore;
+  private final DatabaseIdResolver idResolver;
+  private volatile boolean lazyResolution = false;
+
+  private final LongAdder[] hits = newCounters();
+  private final LongAdder[] misses = newCounters();
+  private final LongAdder[] inversionNanos = newCounters();
 
-  private final ConcurrentSkipListSet<String> genreSet = new ConcurrentSkipListSet<>();
-  private final ConcurrentSkipListSet<String> styleSet = new ConcurrentSkipListSet<>();
+  public DefaultEntityIdRegistry() {
+    this(null, null);
+  }
+
+  public DefaultEntityIdRegistry(IdSnapshotStore snapshotStore, DatabaseIdResolver idResolver) {
+    this.snapshotStore = snapshotStore;
+    this.idResolver = idResolver;
+    for (Type type : ID_TYPES) {
+      resolvedCaches.put(type, new ResolvedIdCache(RESOLVED_CACHE_CAPACITY));
+    }
+  }
 
   @Override
   public boolean exists(Type type, Integer id) {
     if (id == null || id < 1) {
       return false;
     }
-    return getLongIdCache(type).exists(id);
+    boolean exists =
+        getLongIdCache(type).exists(id)
+            || (lazyResolution
+                && idResolver != null
+                && EntityIdTables.isSupported(type)
+                && resolve(type, id));
+    count(type, exists);
+    return exists;
   }
 
   @Override
   public boolean exists(Type type, String id) {
-    return getStringIdSetByType(type).contains(id);
+    return getCode(type, id) != StringDictionary.NO_CODE;
+  }
+
+  private void count(Type type, boolean hit) {
+    (hit ? hits : misses)[type.ordinal()].increment();
   }
 
   @Override
@@ -39,34 +88,168 @@ public class DefaultEntityIdRegistry implements EntityIdRegistry {
   @Override
   public void put(Type type, String id) {
     if (id != null && !id.isBlank()) {
-      getStringIdSetByType(type).add(id);
+      getStringDictionary(type).encode(id);
     }
   }
 
+  @Override
+  public void bufferPut(Type type, Integer id) {
+    if (type == null || id == null || id < 0 || !ID_TYPES.contains(type)) {
+      return;
+    }
+    IdWriteBuffer buffer = writeBuffers.get();
+    if (buffer.add(type, id)) {
+      buffer.drain(type, getLongIdCache(type));
+    }
+  }
+
+  @Override
+  public void flush() {
+    IdWriteBuffer buffer = writeBuffers.get();
+    for (Type type : ID_TYPES) {
+      buffer.drain(type, getLongIdCache(type));
+    }
+  }
+
+  @Override
+  public void discard() {
+    writeBuffers.get().clear();
+  }
+
   @Override
   public void invert(Type type) {
+    long start = System.nanoTime();
     switch (type) {
       case ARTIST -> artistCache.invert();
       case LABEL -> labelCache.invert();
       case MASTER -> masterCache.invert();
     }
+    inversionNanos[type.ordinal()].add(System.nanoTime() - start);
   }
 
   @Override
   public void clearAll() {
-    for (Type t : List.of(Type.ARTIST, Type.LABEL, Type.MASTER, Type.RELEASE)) {
-      getLongIdCache(t).getConcurrentSkipListSet().clear();
+    for (Type t : ID_TYPES) {
+      getLongIdCache(t).clear();
     }
-    genreSet.clear();
-    styleSet.clear();
+    genreDictionary.clear();
+    styleDictionary.clear();
+    resolvedCaches.values().forEach(ResolvedIdCache::clear);
+    pendingIds.remove();
+    writeBuffers.remove();
+    for (LongAdder[] counters : List.of(hits, misses, inversionNanos)) {
+      Arrays.stream(counters).forEach(LongAdder::reset);
+    }
+  }
+
+  @Override
+  public void setLazyResolution(boolean enabled) {
+    this.lazyResolution = enabled;
   }
 
   @Override
-  public ConcurrentSkipListSet<String> getStringIdSetByType(Type type) {
+  public void expect(Type type, Integer id) {
+    if (!lazyResolution || id == null || id < 1 || !EntityIdTables.isSupported(type)) {
+      return;
+    }
+    if (getLongIdCache(type).exists(id) || resolvedCaches.get(type).contains(id)) {
+      return;
+    }
+    Set<Integer> ids = pendingIds.get().computeIfAbsent(type, t -> new HashSet<>());
+    if (ids.size() >= MAX_PENDING_IDS) {
+      ids.clear(); // expected ids were never checked; drop them rather than growing forever.
+    }
+    ids.add(id);
+  }
+
+  @Override
+  public void resolveExpected() {
+    Map<Type, Set<Integer>> pending = pendingIds.get();
+    if (!lazyResolution || idResolver == null || pending.isEmpty()) {
+      return;
+    }
+    for (Type type : ID_TYPES) {
+      Set<Integer> ids = pending.remove(type);
+      if (ids != null && !removeKnown(type, ids).isEmpty()) {
+        query(type, ids);
+      }
+    }
+  }
+
+  /**
+   * Resolves given id along with every id expected by the current thread, in a single query.
+   */
+  private boolean resolve(Type type, int id) {
+    Boolean known = resolvedCaches.get(type).get(id);
+    if (known != null) {
+      return known;
+    }
+    Set<Integer> ids = pendingIds.get().remove(type);
+    if (ids == null) {
+      ids = new HashSet<>();
+    }
+    removeKnown(type, ids).add(id);
+    return query(type, ids).contains(id);
+  }
+
+  /**
+   * Removes the ids either cached or resolved already.
+   *
+   * @return given ids.
+   */
+  private Set<Integer> removeKnown(Type type, Set<Integer> ids) {
+    ResolvedIdCache resolved = resolvedCaches.get(type);
+    IdCache idCache = getLongIdCache(type);
+    ids.removeIf(candidate -> idCache.exists(candidate) || resolved.contains(candidate));
+    return ids;
+  }
+
+  /**
+   * Looks up given ids in a single query, keeping the result of each.
+   *
+   * @return the ids found.
+   */
+  private Set<Integer> query(Type type, Set<Integer> ids) {
+    ResolvedIdCache resolved = resolvedCaches.get(type);
+    Set<Integer> found = idResolver.resolve(type, ids);
+    ids.forEach(candidate -> resolved.put(candidate, found.contains(candidate)));
+    return found;
+  }
+
+  @Override
+  public boolean restore(Type type, Supplier<IdSnapshotFingerprint> fingerprint) {
+    if (snapshotStore == null || !snapshotStore.isEnabled()) {
+      return false;
+    }
+    return snapshotStore.load(getLongIdCache(type), fingerprint.get());
+  }
+
+  @Override
+  public void snapshot(Type type, String eTag, Supplier<IdSnapshotFingerprint> fingerprint) {
+    if (snapshotStore == null || !snapshotStore.isEnabled() || eTag == null) {
+      return;
+    }
+    snapshotStore.save(getLongIdCache(type), eTag, fingerprint.get());
+  }
+
+  @Override
+  public int getCode(Type type, String value) {
+    int code = getStringDictionary(type).lookup(value);
+    count(type, code != StringDictionary.NO_CODE);
+    return code;
+  }
+
+  @Override
+  public String getValue(Type type, int code) {
+    return getStringDictionary(type).decode(code);
+  }
+
+  @Override
+  public StringDictionary getStringDictionary(Type type) {
     if (type.equals(Type.GENRE)) {
-      return genreSet;
+      return genreDictionary;
     }
-    return styleSet;
+    return styleDictionary;
   }
 
   @Override
@@ -79,4 +262,33 @@ public class DefaultEntityIdRegistry implements EntityIdRegistry {
     };
   }
 
-}
\ No newline at end of file
+  @Override
+  public EntityIdRegistryStats getStats(Type type) {
+    long cardinality;
+    long bytes;
+    if (ID_TYPES.contains(type)) {
+      ConcurrentIdBitSet bitSet = getLongIdCache(type).getIdBitSet();
+      ResolvedIdCache resolved = resolvedCaches.get(type);
+      cardinality = bitSet.cardinality();
+      bytes = bitSet.estimatedBytes() + resolved.size() * ResolvedIdCache.ENTRY_BYTES;
+    } else {
+      StringDictionary dictionary = getStringDictionary(type);
+      cardinality = dictionary.size();
+      bytes = dictionary.estimatedBytes();
+    }
+    int t = type.ordinal();
+    return new EntityIdRegistryStats(
+        type, cardinality, bytes, hits[t].sum(), misses[t].sum(), inversionNanos[t].sum());
+  }
+
+  @Override
+  public List<EntityIdRegistryStats> getStats() {
+    return Arrays.stream(Type.values()).map(this::getStats).collect(Collectors.toList());
+  }
+
+  private static LongAdder[] newCounters() {
+    LongAdder[] counters = new LongAdder[Type.values().length];
+    Arrays.setAll(counters, i -> new LongAdder());
+    return counters;
+  }
+}
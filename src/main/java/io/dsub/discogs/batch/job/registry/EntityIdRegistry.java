@@ -1,6 +1,7 @@
 package io.dsub.discogs.batch.job.registry;
 
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Entity ID cache to reduce DB lookups for entry.
@@ -16,14 +17,86 @@ public interface EntityIdRegistry {
 
   void put(Type type, String id);
 
+  /**
+   * Buffers given id in the current thread. Buffered ids are not visible until {@link #flush()} is
+   * called from the same thread, or the buffer fills up.
+   */
+  void bufferPut(Type type, Integer id);
+
+  /**
+   * Merges every id buffered by the current thread.
+   */
+  void flush();
+
+  /**
+   * Drops every id buffered by the current thread, i.e. when its chunk has been rolled back.
+   */
+  void discard();
+
   void invert(Type type);
 
   void clearAll();
 
-  ConcurrentSkipListSet<String> getStringIdSetByType(Type type);
+  /**
+   * Enables or disables resolving of missing identifiers against the database. If enabled, an
+   * identifier absent from the cache is looked up together with every identifier expected by the
+   * current thread, and the result is kept in a bounded LRU.
+   */
+  void setLazyResolution(boolean enabled);
+
+  /**
+   * Marks an identifier as likely to be checked by the current thread, so that it can be resolved
+   * in the same query as others. Has no effect unless lazy resolution is enabled.
+   */
+  void expect(Type type, Integer id);
+
+  /**
+   * Resolves every identifier expected by the current thread, with a single query per type. The
+   * results are shared, hence other threads checking those identifiers no longer query them. Has
+   * no effect unless lazy resolution is enabled.
+   */
+  void resolveExpected();
+
+  /**
+   * Fills the cache of given type from a previously saved snapshot, if any matches the
+   * fingerprint. The fingerprint is only fetched if snapshots are supported.
+   *
+   * @return true if the cache has been restored.
+   */
+  boolean restore(Type type, Supplier<IdSnapshotFingerprint> fingerprint);
+
+  /**
+   * Saves the cache of given type as a snapshot tagged by the dump ETag and the fingerprint. The
+   * fingerprint is only fetched if snapshots are supported.
+   */
+  void snapshot(Type type, String eTag, Supplier<IdSnapshotFingerprint> fingerprint);
+
+  /**
+   * Finds the dictionary code of given genre or style. Counted as a hit or a miss, as the value is
+   * dropped if absent.
+   *
+   * @return the code, or {@link StringDictionary#NO_CODE} if absent.
+   */
+  int getCode(Type type, String value);
+
+  /**
+   * Finds the genre or style of given dictionary code.
+   *
+   * @return the value, or null if the code is unknown.
+   */
+  String getValue(Type type, int code);
+
+  StringDictionary getStringDictionary(Type type);
 
   IdCache getLongIdCache(Type type);
 
+  EntityIdRegistryStats getStats(Type type);
+
+  /**
+   * @return statistics of every type, in order of {@link Type}.
+   */
+  List<EntityIdRegistryStats> getStats();
+
   enum Type {
     ARTIST, LABEL, MASTER, RELEASE, GENRE, STYLE
   }
@@ -0,0 +1,43 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+
+/**
+ * Point-in-time statistics of a single type held by an {@link EntityIdRegistry}.
+ *
+ * @param type           of the entries.
+ * @param cardinality    number of identifiers, or distinct values for genres and styles.
+ * @param estimatedBytes estimated heap held for the type.
+ * @param hits           number of existence checks that found the entry.
+ * @param misses         number of existence checks that did not, i.e. dropped references.
+ * @param inversionNanos total time spent inverting the cache of the type.
+ */
+public record EntityIdRegistryStats(
+    Type type,
+    long cardinality,
+    long estimatedBytes,
+    long hits,
+    long misses,
+    long inversionNanos) {
+
+  /**
+   * @param previous statistics of the same type, taken earlier.
+   * @return statistics of which the counters only cover the time since the previous ones.
+   */
+  public EntityIdRegistryStats since(EntityIdRegistryStats previous) {
+    if (previous == null) {
+      return this;
+    }
+    return new EntityIdRegistryStats(
+        type,
+        cardinality,
+        estimatedBytes,
+        hits - previous.hits,
+        misses - previous.misses,
+        inversionNanos - previous.inversionNanos);
+  }
+
+  public boolean isEmpty() {
+    return cardinality == 0 && hits == 0 && misses == 0;
+  }
+}
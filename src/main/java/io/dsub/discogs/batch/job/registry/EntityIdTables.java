@@ -0,0 +1,45 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.jooq.tables.Artist;
+import io.dsub.discogs.jooq.tables.Label;
+import io.dsub.discogs.jooq.tables.Master;
+import io.dsub.discogs.jooq.tables.ReleaseItem;
+import org.jooq.Field;
+import org.jooq.Table;
+
+/**
+ * Maps each id-typed {@link Type} to the table, and the identifier column, it refers to.
+ */
+public final class EntityIdTables {
+
+  private EntityIdTables() {
+  }
+
+  public static boolean isSupported(Type type) {
+    return switch (type) {
+      case ARTIST, LABEL, MASTER, RELEASE -> true;
+      default -> false;
+    };
+  }
+
+  public static Table<?> getTable(Type type) {
+    return switch (type) {
+      case ARTIST -> Artist.ARTIST;
+      case LABEL -> Label.LABEL;
+      case MASTER -> Master.MASTER;
+      case RELEASE -> ReleaseItem.RELEASE_ITEM;
+      default -> throw new IllegalArgumentException("no id table for " + type);
+    };
+  }
+
+  public static Field<Integer> getIdField(Type type) {
+    return switch (type) {
+      case ARTIST -> Artist.ARTIST.ID;
+      case LABEL -> Label.LABEL.ID;
+      case MASTER -> Master.MASTER.ID;
+      case RELEASE -> ReleaseItem.RELEASE_ITEM.ID;
+      default -> throw new IllegalArgumentException("no id table for " + type);
+    };
+  }
+}
@@ -1,10 +1,6 @@
 package io.dsub.discogs.batch.job.registry;
 
-import java.util.Objects;
-import java.util.OptionalInt;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
 import lombok.Getter;
 
 public class IdCache {
@@ -12,94 +8,82 @@ public class IdCache {
   @Getter
   private final DefaultEntityIdRegistry.Type type;
   @Getter
-  private final ConcurrentSkipListSet<Integer> concurrentSkipListSet;
+  private final ConcurrentIdBitSet idBitSet;
   private boolean inverted = false;
-  private AtomicInteger lastMax = null;
+  private final AtomicInteger lastMax = new AtomicInteger(-1);
 
   public IdCache(DefaultEntityIdRegistry.Type type) {
     this.type = type;
-    this.concurrentSkipListSet = new ConcurrentSkipListSet<>();
+    this.idBitSet = new ConcurrentIdBitSet();
   }
 
-  public boolean exists(Integer item) {
-    if (item == null || lastMax == null) {
-      return false;
-    }
-
-    if (item > lastMax.get()) {
-      return false;
-    }
-
-    if (inverted) {
-      return !concurrentSkipListSet.contains(item);
-    }
-    return concurrentSkipListSet.contains(item);
+  public boolean exists(int item) {
+    return idBitSet.contains(item);
   }
 
-  public void add(Integer item) {
-    if (item == null) {
+  public void add(int item) {
+    if (item < 0) {
       return;
     }
-    if (lastMax == null) {
-      lastMax = new AtomicInteger(item);
-    } else if (lastMax.get() < item) {
-      lastMax.set(item);
-    }
-    if (inverted) {
+    this.idBitSet.add(item);
+    updateMax(item);
+  }
+
+  /**
+   * Adds the first {@code length} ids of given array at once. Negative ids must be filtered out by
+   * the caller.
+   *
+   * @param items  identifiers to be added. The array is reordered.
+   * @param length number of ids to be added from the start of the array.
+   */
+  public void addAll(int[] items, int length) {
+    if (length == 0) {
       return;
     }
-    this.concurrentSkipListSet.add(item);
+    this.idBitSet.addAll(items, length);
+    updateMax(items[length - 1]); // sorted by the bitset.
   }
 
-  public boolean isInverted() {
-    return this.inverted;
+  /**
+   * @return the highest identifier added so far, or -1 if none.
+   */
+  public int getMax() {
+    return lastMax.get();
   }
 
-  public void invert() {
-    if (!this.inverted) {
-      doInvertFromNonInverted();
-    } else {
-      doInvertFromInverted();
+  private void updateMax(int item) {
+    if (lastMax.get() < item) {
+      lastMax.accumulateAndGet(item, Math::max);
     }
-    this.inverted = !inverted;
-    System.gc(); // force gc call for mem clear
   }
 
-  private void doInvertFromInverted() {
-    if (lastMax == null || lastMax.get() < 1) {
-      return;
-    }
-    flip();
+  public boolean isEmpty() {
+    return idBitSet.isEmpty();
   }
 
-  private void doInvertFromNonInverted() {
-    OptionalInt optMax =
-        this.concurrentSkipListSet.stream().filter(Objects::nonNull).mapToInt(num -> num).max();
-
-    if (optMax.isEmpty()) {
-      return;
-    }
-
-    int max = optMax.getAsInt();
-
-    if (lastMax == null) {
-      lastMax = new AtomicInteger(max);
-    } else if (lastMax.get() < max) {
-      lastMax.set(max);
-    }
+  public void clear() {
+    idBitSet.clear();
+    lastMax.set(-1);
+  }
 
-    flip();
+  /**
+   * Re-reads the highest identifier from the bitmap. Required after the bitmap was filled directly,
+   * i.e. when restored from a snapshot.
+   */
+  void syncMax() {
+    lastMax.set(idBitSet.max());
   }
 
-  private void flip() {
-    IntStream.range(1, lastMax.get() + 1).forEach(this::flipSingleValue);
+  public boolean isInverted() {
+    return this.inverted;
   }
 
-  private void flipSingleValue(int intValue) {
-    if (this.concurrentSkipListSet.contains(intValue)) {
-      this.concurrentSkipListSet.remove(intValue);
-      return;
-    }
-    this.concurrentSkipListSet.add(intValue);
+  /**
+   * Marks the cache as inverted. The bitmap costs one bit per possible id regardless of how many
+   * ids are present, hence there is nothing to gain from storing the complement. Membership is
+   * unaffected, and the call takes constant time.
+   */
+  public void invert() {
+    this.inverted = !inverted;
   }
 }
@@ -0,0 +1,35 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import java.math.BigDecimal;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * A cheap fingerprint of the identifiers stored in a table, taken by a single scan. An id snapshot
+ * is only valid while the fingerprint of its table stays the same. The sum catches identifiers
+ * deleted and inserted below the highest one, which leave both the count and the max unchanged.
+ *
+ * @param count number of rows in the table.
+ * @param maxId the highest identifier in the table, or -1 if the table is empty.
+ * @param idSum sum of the identifiers in the table.
+ */
+public record IdSnapshotFingerprint(long count, int maxId, long idSum) {
+
+  public static IdSnapshotFingerprint fetch(DSLContext context, Type type) {
+    return fetch(context, EntityIdTables.getTable(type), EntityIdTables.getIdField(type));
+  }
+
+  private static IdSnapshotFingerprint fetch(
+      DSLContext context, Table<?> table, Field<Integer> idField) {
+    Record3<Integer, Integer, BigDecimal> result =
+        context.select(DSL.count(), DSL.max(idField), DSL.sum(idField)).from(table).fetchOne();
+    if (result == null || result.value2() == null) {
+      return new IdSnapshotFingerprint(0, -1, 0);
+    }
+    return new IdSnapshotFingerprint(result.value1(), result.value2(), result.value3().longValue());
+  }
+}
@@ -0,0 +1,230 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores {@link IdCache} contents as snapshot files inside the application directory, so that the
+ * next run can map them into memory instead of querying every identifier from the database.
+ *
+ * <p>A snapshot is named after its type and the ETag of the dump that produced it, and carries the
+ * {@link IdSnapshotFingerprint} of the table at the time it was written. Only the latest snapshot
+ * of each type is kept. Snapshots are written only if the application directory is mounted, since
+ * a temporary directory is cleared after the job.
+ *
+ * <p>The layout is a fixed header followed by each allocated bitmap segment as its directory index
+ * and raw words, all in big-endian order.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdSnapshotStore {
+
+  static final int MAGIC = 0x49445331; // "IDS1"
+  static final int VERSION = 2;
+  static final String SUFFIX = ".ids";
+
+  private static final int SEGMENT_BYTES = ConcurrentIdBitSet.WORDS_PER_SEGMENT * Long.BYTES;
+
+  private final FileUtil fileUtil;
+
+  /**
+   * Snapshots are only useful if the application directory survives the job.
+   *
+   * @return true if the application directory is mounted.
+   */
+  public boolean isEnabled() {
+    return !fileUtil.isTemporary();
+  }
+
+  /**
+   * Writes given cache as the latest snapshot of its type. The cache is only written if it matches
+   * the fingerprint, i.e. it holds exactly the identifiers of the table.
+   *
+   * @param cache       to be written.
+   * @param eTag        of the dump the identifiers were read from.
+   * @param fingerprint of the table at the time of writing.
+   * @return true if the snapshot has been written.
+   */
+  public boolean save(IdCache cache, String eTag, IdSnapshotFingerprint fingerprint) {
+    String typeName = cache.getType().name().toLowerCase();
+    if (!isEnabled()) {
+      log.debug("application directory is temporary. skipping {} id snapshot", typeName);
+      return false;
+    }
+    ConcurrentIdBitSet bitSet = cache.getIdBitSet();
+    if (bitSet.cardinality() != fingerprint.count()
+        || bitSet.max() != fingerprint.maxId()
+        || bitSet.sum() != fingerprint.idSum()) {
+      log.info("{} id cache does not match the database. skipping snapshot", typeName);
+      return false;
+    }
+
+    String filename = getFilename(cache.getType(), eTag);
+    try {
+      Path target = fileUtil.getFilePath(filename);
+      Path tmp = fileUtil.getFilePath(filename + ".tmp");
+      write(tmp, cache, eTag, fingerprint);
+      Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      deleteOthers(cache.getType(), target);
+      log.info("saved {} id snapshot to {}", typeName, target);
+      return true;
+    } catch (IOException | FileException e) {
+      log.warn("failed to save " + typeName + " id snapshot", e);
+      return false;
+    }
+  }
+
+  /**
+   * Fills given cache from a snapshot whose fingerprint equals to given one.
+   *
+   * @param cache       to be filled.
+   * @param fingerprint current fingerprint of the table.
+   * @return true if a matching snapshot has been loaded.
+   */
+  public boolean load(IdCache cache, IdSnapshotFingerprint fingerprint) {
+    try {
+      for (Path path : listSnapshots(cache.getType())) {
+        if (tryLoad(path, cache, fingerprint)) {
+          cache.syncMax();
+          log.info("loaded {} id snapshot from {}", cache.getType().name().toLowerCase(), path);
+          return true;
+        }
+      }
+    } catch (IOException | FileException | IllegalArgumentException e) {
+      log.warn("failed to load " + cache.getType().name().toLowerCase() + " id snapshot", e);
+      cache.clear();
+    }
+    return false;
+  }
+
+  private void write(Path path, IdCache cache, String eTag, IdSnapshotFingerprint fingerprint)
+      throws IOException {
+    List<Integer> indexes = new ArrayList<>();
+    List<AtomicLongArray> segments = new ArrayList<>();
+    cache.getIdBitSet().forEachSegment((segment, idx) -> {
+      indexes.add(idx);
+      segments.add(segment);
+    });
+
+    byte[] eTagBytes = eTag.getBytes(StandardCharsets.UTF_8);
+    try (FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer header = ByteBuffer.allocate(headerSize(eTagBytes.length));
+      header.putInt(MAGIC)
+          .putInt(VERSION)
+          .putInt(cache.getType().ordinal())
+          .putLong(fingerprint.count())
+          .putInt(fingerprint.maxId())
+          .putLong(fingerprint.idSum())
+          .putInt(eTagBytes.length)
+          .put(eTagBytes)
+          .putInt(indexes.size())
+          .flip();
+      writeFully(channel, header);
+
+      ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + SEGMENT_BYTES);
+      for (int i = 0; i < indexes.size(); i++) {
+        AtomicLongArray segment = segments.get(i);
+        buffer.clear().putInt(indexes.get(i));
+        for (int w = 0; w < ConcurrentIdBitSet.WORDS_PER_SEGMENT; w++) {
+          buffer.putLong(segment.get(w));
+        }
+        writeFully(channel, buffer.flip());
+      }
+      channel.force(false);
+    }
+  }
+
+  private boolean tryLoad(Path path, IdCache cache, IdSnapshotFingerprint fingerprint)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < headerSize(0)) {
+        return false;
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt() != MAGIC
+          || buffer.getInt() != VERSION
+          || buffer.getInt() != cache.getType().ordinal()
+          || buffer.getLong() != fingerprint.count()
+          || buffer.getInt() != fingerprint.maxId()
+          || buffer.getLong() != fingerprint.idSum()) {
+        log.debug("snapshot {} does not match current fingerprint", path);
+        return false;
+      }
+      int eTagLength = buffer.getInt();
+      if (eTagLength < 0 || headerSize(eTagLength) > size) {
+        return false;
+      }
+      buffer.position(buffer.position() + eTagLength);
+      int segmentCount = buffer.getInt();
+      if (segmentCount < 0
+          || size != headerSize(eTagLength) + (long) segmentCount * (Integer.BYTES + SEGMENT_BYTES)) {
+        log.warn("snapshot {} is truncated. ignoring", path);
+        return false;
+      }
+
+      ConcurrentIdBitSet bitSet = cache.getIdBitSet();
+      for (int i = 0; i < segmentCount; i++) {
+        int idx = buffer.getInt();
+        bitSet.orSegment(idx, buffer.slice(buffer.position(), SEGMENT_BYTES).asLongBuffer());
+        buffer.position(buffer.position() + SEGMENT_BYTES);
+      }
+      return true;
+    }
+  }
+
+  private List<Path> listSnapshots(Type type) throws IOException, FileException {
+    List<Path> paths = new ArrayList<>();
+    Path dir = fileUtil.getAppDirectory(false);
+    if (!Files.isDirectory(dir)) {
+      return paths;
+    }
+    String glob = type.name().toLowerCase() + "-*" + SUFFIX;
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+      stream.forEach(paths::add);
+    }
+    return paths;
+  }
+
+  private void deleteOthers(Type type, Path keep) throws IOException, FileException {
+    for (Path path : listSnapshots(type)) {
+      if (!path.equals(keep)) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static int headerSize(int eTagLength) {
+    // magic, version, type, count, max id, id sum, eTag length, eTag, segment count
+    return Integer.BYTES * 3 + Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + eTagLength
+        + Integer.BYTES;
+  }
+
+  static String getFilename(Type type, String eTag) {
+    return type.name().toLowerCase() + "-" + eTag.replaceAll("[^A-Za-z0-9_-]", "") + SUFFIX;
+  }
+}
@@ -0,0 +1,45 @@
+package io.dsub.discogs.batch.job.registry;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import java.util.Arrays;
+
+/**
+ * Buffer of identifiers held by a single thread until merged into {@link IdCache}s. Not
+ * thread-safe; each worker thread owns its own instance.
+ */
+class IdWriteBuffer {
+
+  static final int CAPACITY = 4096;
+
+  private final int[][] ids = new int[Type.values().length][];
+  private final int[] sizes = new int[Type.values().length];
+
+  /**
+   * Appends given id to the buffer of its type.
+   *
+   * @return true if the buffer of the type is full, hence must be drained.
+   */
+  boolean add(Type type, int id) {
+    int t = type.ordinal();
+    if (ids[t] == null) {
+      ids[t] = new int[CAPACITY];
+    }
+    ids[t][sizes[t]++] = id;
+    return sizes[t] == CAPACITY;
+  }
+
+  /**
+   * Merges the buffered ids of given type into the cache, then empties the buffer.
+   */
+  void drain(Type type, IdCache cache) {
+    int t = type.ordinal();
+    if (sizes[t] > 0) {
+      cache.addAll(ids[t], sizes[t]);
+      sizes[t] = 0;
+    }
+  }
+
+  void clear() {
+    Arrays.fill(sizes, 0);
+  }
+}
@@ -0,0 +1,91 @@
+package io.dsub.discogs.batch.job.registry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of identifiers resolved against the database, holding both found and missing ones.
+ *
+ * <p>Identifiers are spread over segments, each of which is an LRU of its own share of the
+ * capacity behind a lock of its own. Threads looking up different identifiers hence rarely wait on
+ * each other, while the eviction order is kept within each segment only.
+ */
+class ResolvedIdCache {
+
+  // linked map entry, boxed key and table slot.
+  static final long ENTRY_BYTES = 64L;
+
+  static final int SEGMENTS = 16;
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  ResolvedIdCache(int capacity) {
+    int segmentCapacity = Math.max(1, (capacity + SEGMENTS - 1) / SEGMENTS);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(segmentCapacity);
+    }
+  }
+
+  /**
+   * @return true if found, false if missing, or null if not resolved yet.
+   */
+  Boolean get(int id) {
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      return segment.get(id);
+    }
+  }
+
+  boolean contains(int id) {
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      return segment.containsKey(id);
+    }
+  }
+
+  void put(int id, boolean exists) {
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      segment.put(id, exists);
+    }
+  }
+
+  int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  private Segment getSegment(int id) {
+    // identifiers are mostly sequential; mix them so that neighbours land on different segments.
+    int hash = id * 0x9E3779B9;
+    return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+  }
+
+  private static class Segment extends LinkedHashMap<Integer, Boolean> {
+
+    private final int capacity;
+
+    private Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+      return size() > capacity;
+    }
+  }
+}
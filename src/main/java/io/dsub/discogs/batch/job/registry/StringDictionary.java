@@ -0,0 +1,120 @@
+package io.dsub.discogs.batch.job.registry;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Dictionary that assigns a small int code to each distinct string, in order of first insertion.
+ * Lookups and decoding are lock-free; only the insertion of a new string takes a lock, which is
+ * rare since the number of distinct values (i.e. genres or styles) is small.
+ *
+ * <p>Every string is stored once, hence decoded values can be shared by any number of records.
+ */
+public class StringDictionary {
+
+  public static final int NO_CODE = -1;
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final long ENTRY_BYTES = 88L;
+
+  private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+  private volatile String[] values = new String[INITIAL_CAPACITY];
+  private int size = 0;
+
+  /**
+   * Finds the code of given value, assigning a new one if absent.
+   *
+   * @param value to be encoded.
+   * @return code of the value.
+   */
+  public int encode(String value) {
+    Integer code = codes.get(value);
+    if (code != null) {
+      return code;
+    }
+    synchronized (this) {
+      code = codes.get(value);
+      if (code != null) {
+        return code;
+      }
+      String[] arr = values;
+      if (size == arr.length) {
+        arr = Arrays.copyOf(arr, arr.length << 1);
+      }
+      arr[size] = value;
+      values = arr; // publish the value before the code becomes visible.
+      codes.put(value, size);
+      return size++;
+    }
+  }
+
+  /**
+   * Finds the code of given value without assigning one.
+   *
+   * @param value to be looked up.
+   * @return code of the value, or {@link #NO_CODE} if absent.
+   */
+  public int lookup(String value) {
+    if (value == null) {
+      return NO_CODE;
+    }
+    Integer code = codes.get(value);
+    return code == null ? NO_CODE : code;
+  }
+
+  /**
+   * Finds the value of given code.
+   *
+   * @param code previously returned by {@link #encode(String)}.
+   * @return the value, or null if the code is unknown.
+   */
+  public String decode(int code) {
+    String[] arr = values;
+    if (code < 0 || code >= arr.length) {
+      return null;
+    }
+    return arr[code];
+  }
+
+  /**
+   * Estimates the heap held by this dictionary. Each entry is counted as a compact string, its map
+   * node and boxed code.
+   *
+   * @return estimated size in bytes.
+   */
+  public long estimatedBytes() {
+    String[] arr = values;
+    long bytes = 16L + 4L * arr.length;
+    for (int code = 0; code < arr.length && arr[code] != null; code++) {
+      bytes += ENTRY_BYTES + arr[code].length();
+    }
+    return bytes;
+  }
+
+  public int size() {
+    return codes.size();
+  }
+
+  public boolean isEmpty() {
+    return codes.isEmpty();
+  }
+
+  /**
+   * Iterates every value along with its code, in order of codes.
+   *
+   * @param consumer to be called for each value.
+   */
+  public void forEach(ObjIntConsumer<String> consumer) {
+    String[] arr = values;
+    for (int code = 0; code < arr.length && arr[code] != null; code++) {
+      consumer.accept(arr[code], code);
+    }
+  }
+
+  public synchronized void clear() {
+    codes.clear();
+    values = new String[INITIAL_CAPACITY];
+    size = 0;
+  }
+}
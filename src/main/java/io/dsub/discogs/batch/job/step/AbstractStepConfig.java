@@ -8,6 +8,7 @@ import org.springframework.batch.core.job.flow.JobExecutionDecider;
 public abstract class AbstractStepConfig {
 
   protected static final String CHUNK = "#{jobParameters['chunkSize']}";
+  protected static final String PARTITIONS = "#{jobParameters['partitions']}";
   protected static final String ANY = "*";
   protected static final String FAILED = "FAILED";
   protected static final String SKIPPED = "SKIPPED";
@@ -16,6 +17,10 @@ public abstract class AbstractStepConfig {
   protected static final String MASTER = "master";
   protected static final String RELEASE = "release";
 
+  protected boolean isPartitioned(Integer partitions) {
+    return partitions != null && partitions > 1;
+  }
+
   protected JobExecutionDecider executionDecider(String etagKey) {
     return (jobExecution, stepExecution) -> {
       if (jobExecution.getExitStatus().getExitCode().equals("FAILED")) {
@@ -13,7 +13,8 @@ import org.springframework.context.annotation.Import;
         ArtistStepConfig.class,
         LabelStepConfig.class,
         MasterStepConfig.class,
-        ReleaseItemStepConfig.class
+        ReleaseItemStepConfig.class,
+        SubItemsStepBuilder.class
     })
 public class GlobalStepConfig {
 
@@ -0,0 +1,114 @@
+package io.dsub.discogs.batch.job.step;
+
+import io.dsub.discogs.batch.job.listener.IdExpectingItemReadListener;
+import io.dsub.discogs.batch.job.listener.IdResolvingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.ItemCountingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
+import io.dsub.discogs.batch.job.processor.AsyncItemProcessing;
+import io.dsub.discogs.batch.job.writer.StagingMerge;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the steps inserting the sub items of each dump, which only differ by their reader,
+ * processor and writer. With async item processing, the items are read by a single thread and
+ * processed on the pool of {@link AsyncItemProcessing}. Otherwise, the threads of the step take
+ * turns on the reader and process the items themselves.
+ *
+ * <p>Listeners of the step itself, such as the stop watch, are left to the caller, as a partitioned
+ * step registers them on its manager step instead of its workers.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubItemsStepBuilder {
+
+  private final StepBuilderFactory sbf;
+  private final ThreadPoolTaskExecutor taskExecutor;
+  private final AsyncItemProcessing asyncItemProcessing;
+  private final StringNormalizingItemReadListener stringNormalizingItemReadListener;
+  private final IdExpectingItemReadListener idExpectingItemReadListener;
+  private final IdResolvingItemProcessListener idResolvingItemProcessListener;
+  private final ItemCountingItemProcessListener itemCountingItemProcessListener;
+  private final StagingMerge stagingMerge;
+
+  /**
+   * Builds a step reading its items from every thread of the task executor, unless the items are
+   * processed asynchronously.
+   *
+   * @param name       of the step.
+   * @param chunkSize  of the step.
+   * @param retryLimit of a chunk failed by a deadlock.
+   * @param reader     of the items.
+   * @param processor  of the items.
+   * @param writer     of the processed items.
+   * @return the builder of the step.
+   */
+  public <I, O> SimpleStepBuilder<I, ?> step(
+      String name,
+      int chunkSize,
+      int retryLimit,
+      ItemReader<? extends I> reader,
+      ItemProcessor<I, O> processor,
+      ItemWriter<O> writer) {
+    SimpleStepBuilder<I, ?> builder =
+        workerStep(name, chunkSize, retryLimit, reader, processor, writer);
+    if (!asyncItemProcessing.isEnabled()) {
+      builder.taskExecutor(taskExecutor).throttleLimit(taskExecutor.getMaxPoolSize());
+    }
+    return builder;
+  }
+
+  /**
+   * Builds a step reading its items from a single thread, as the worker of a partition.
+   *
+   * @see #step(String, int, int, ItemReader, ItemProcessor, ItemWriter)
+   */
+  public <I, O> SimpleStepBuilder<I, ?> workerStep(
+      String name,
+      int chunkSize,
+      int retryLimit,
+      ItemReader<? extends I> reader,
+      ItemProcessor<I, O> processor,
+      ItemWriter<O> writer) {
+    if (asyncItemProcessing.isEnabled()) {
+      SimpleStepBuilder<I, Future<O>> builder =
+          sbf.get(name)
+              .<I, Future<O>>chunk(chunkSize)
+              .reader(reader)
+              .processor(asyncItemProcessing.processor(processor, itemCountingItemProcessListener))
+              .writer(asyncItemProcessing.writer(writer))
+              .faultTolerant()
+              .retryLimit(retryLimit)
+              .retry(DeadlockLoserDataAccessException.class)
+              .listener(stringNormalizingItemReadListener);
+      if (!stagingMerge.isEnabled()) {
+        // references of the whole chunk are resolved on the reader thread, before the pool.
+        builder.listener(idExpectingItemReadListener).listener(idResolvingItemProcessListener);
+      }
+      return builder;
+    }
+    SimpleStepBuilder<I, O> builder =
+        sbf.get(name)
+            .<I, O>chunk(chunkSize)
+            .reader(reader)
+            .processor(processor)
+            .writer(writer)
+            .faultTolerant()
+            .retryLimit(retryLimit)
+            .retry(DeadlockLoserDataAccessException.class)
+            .listener(stringNormalizingItemReadListener)
+            .listener(itemCountingItemProcessListener);
+    if (!stagingMerge.isEnabled()) {
+      builder.listener(idExpectingItemReadListener);
+    }
+    return builder;
+  }
+}
@@ -6,11 +6,15 @@ import io.dsub.discogs.batch.dump.DiscogsDump;
 import io.dsub.discogs.batch.exception.DumpNotFoundException;
 import io.dsub.discogs.batch.exception.InvalidArgumentException;
 import io.dsub.discogs.batch.job.listener.CacheInversionStepExecutionListener;
+import io.dsub.discogs.batch.job.listener.IdBufferFlushingChunkListener;
 import io.dsub.discogs.batch.job.listener.IdCachingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.IdSnapshotStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.ItemCountingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.PruningStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StopWatchStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
 import io.dsub.discogs.batch.job.step.AbstractStepConfig;
+import io.dsub.discogs.batch.job.step.SubItemsStepBuilder;
 import io.dsub.discogs.batch.job.tasklet.FileFetchTasklet;
 import io.dsub.discogs.batch.util.FileUtil;
 import io.dsub.discogs.jooq.tables.records.ArtistRecord;
@@ -57,13 +61,17 @@ public class ArtistStepConfig extends AbstractStepConfig {
   private final DiscogsDump artistDump;
   private final StepBuilderFactory sbf;
   private final ThreadPoolTaskExecutor taskExecutor;
+  private final SubItemsStepBuilder subItemsStepBuilder;
   private final JobRepository jobRepository;
   private final FileUtil fileUtil;
 
   private final StopWatchStepExecutionListener stopWatchStepExecutionListener;
   private final CacheInversionStepExecutionListener cacheInversionStepExecutionListener;
+  private final IdSnapshotStepExecutionListener idSnapshotStepExecutionListener;
+  private final PruningStepExecutionListener pruningStepExecutionListener;
   private final StringNormalizingItemReadListener stringNormalizingItemReadListener;
   private final IdCachingItemProcessListener idCachingItemProcessListener;
+  private final IdBufferFlushingChunkListener idBufferFlushingChunkListener;
   private final ItemCountingItemProcessListener itemCountingItemProcessListener;
 
   @Bean
@@ -84,7 +92,7 @@ public class ArtistStepConfig extends AbstractStepConfig {
             // from fetch
             .from(artistFileFetchStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(artistFileFetchStep())
             .on(ANY)
             .to(artistCoreInsertionStep(null))
@@ -92,13 +100,16 @@ public class ArtistStepConfig extends AbstractStepConfig {
             // from core insert
             .from(artistCoreInsertionStep(null))
             .on(FAILED)
-            .end()
+            .fail()
             .from(artistCoreInsertionStep(null))
             .on(ANY)
             .to(artistSubItemsInsertionStep(null))
 
             // from sub items insert
             .from(artistSubItemsInsertionStep(null))
+            .on(FAILED)
+            .fail()
+            .from(artistSubItemsInsertionStep(null))
             .on(ANY)
             .end()
 
@@ -128,31 +139,28 @@ public class ArtistStepConfig extends AbstractStepConfig {
         .listener(stopWatchStepExecutionListener)
         .listener(stringNormalizingItemReadListener)
         .listener(idCachingItemProcessListener)
+        .listener(idBufferFlushingChunkListener)
         .listener(itemCountingItemProcessListener)
         .listener(cacheInversionStepExecutionListener)
+        .listener(idSnapshotStepExecutionListener)
+        .listener(pruningStepExecutionListener)
         .taskExecutor(taskExecutor)
         .throttleLimit(taskExecutor.getMaxPoolSize())
-        .allowStartIfComplete(true)
         .build();
   }
 
   @Bean
   @JobScope
   public Step artistSubItemsInsertionStep(@Value(CHUNK) Integer chunkSize) {
-    return sbf.get(ARTIST_SUB_ITEMS_INSERTION_STEP)
-        .<ArtistSubItemsXML, Collection<UpdatableRecord<?>>>chunk(chunkSize)
-        .reader(artistSubItemsStreamReader)
-        .processor(artistSubItemsProcessor)
-        .writer(CollectionItemWriter)
-        .faultTolerant()
-        .retryLimit(100)
-        .retry(DeadlockLoserDataAccessException.class)
-        .listener(stringNormalizingItemReadListener)
+    return subItemsStepBuilder
+        .step(
+            ARTIST_SUB_ITEMS_INSERTION_STEP,
+            chunkSize,
+            100,
+            artistSubItemsStreamReader,
+            artistSubItemsProcessor,
+            CollectionItemWriter)
         .listener(stopWatchStepExecutionListener)
-        .listener(itemCountingItemProcessListener)
-        .taskExecutor(taskExecutor)
-        .throttleLimit(taskExecutor.getMaxPoolSize())
-        .allowStartIfComplete(true)
         .build();
   }
 
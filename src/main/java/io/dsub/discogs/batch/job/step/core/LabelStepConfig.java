@@ -6,11 +6,15 @@ import io.dsub.discogs.batch.dump.DiscogsDump;
 import io.dsub.discogs.batch.exception.DumpNotFoundException;
 import io.dsub.discogs.batch.exception.InvalidArgumentException;
 import io.dsub.discogs.batch.job.listener.CacheInversionStepExecutionListener;
+import io.dsub.discogs.batch.job.listener.IdBufferFlushingChunkListener;
 import io.dsub.discogs.batch.job.listener.IdCachingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.IdSnapshotStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.ItemCountingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.PruningStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StopWatchStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
 import io.dsub.discogs.batch.job.step.AbstractStepConfig;
+import io.dsub.discogs.batch.job.step.SubItemsStepBuilder;
 import io.dsub.discogs.batch.job.tasklet.FileFetchTasklet;
 import io.dsub.discogs.batch.util.FileUtil;
 import io.dsub.discogs.jooq.tables.records.LabelRecord;
@@ -59,13 +63,17 @@ public class LabelStepConfig extends AbstractStepConfig {
 
   private final StepBuilderFactory sbf;
   private final ThreadPoolTaskExecutor taskExecutor;
+  private final SubItemsStepBuilder subItemsStepBuilder;
   private final JobRepository jobRepository;
   private final FileUtil fileUtil;
 
   private final StopWatchStepExecutionListener stopWatchStepExecutionListener;
   private final CacheInversionStepExecutionListener cacheInversionStepExecutionListener;
+  private final IdSnapshotStepExecutionListener idSnapshotStepExecutionListener;
+  private final PruningStepExecutionListener pruningStepExecutionListener;
   private final StringNormalizingItemReadListener stringNormalizingItemReadListener;
   private final IdCachingItemProcessListener idCachingItemProcessListener;
+  private final IdBufferFlushingChunkListener idBufferFlushingChunkListener;
   private final ItemCountingItemProcessListener itemCountingItemProcessListener;
 
   @Bean
@@ -86,7 +94,7 @@ public class LabelStepConfig extends AbstractStepConfig {
             // from fetch
             .from(labelFileFetchStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(labelFileFetchStep())
             .on(ANY)
             .to(labelCoreInsertionStep(null))
@@ -94,13 +102,16 @@ public class LabelStepConfig extends AbstractStepConfig {
             // from core item insertion
             .from(labelCoreInsertionStep(null))
             .on(FAILED)
-            .end()
+            .fail()
             .from(labelCoreInsertionStep(null))
             .on(ANY)
             .to(labelSubItemsInsertionStep(null))
 
             // from sub items insertion
             .from(labelSubItemsInsertionStep(null))
+            .on(FAILED)
+            .fail()
+            .from(labelSubItemsInsertionStep(null))
             .on(ANY)
             .end()
 
@@ -130,8 +141,11 @@ public class LabelStepConfig extends AbstractStepConfig {
         .listener(stopWatchStepExecutionListener)
         .listener(stringNormalizingItemReadListener)
         .listener(idCachingItemProcessListener)
+        .listener(idBufferFlushingChunkListener)
         .listener(itemCountingItemProcessListener)
         .listener(cacheInversionStepExecutionListener)
+        .listener(idSnapshotStepExecutionListener)
+        .listener(pruningStepExecutionListener)
         .taskExecutor(taskExecutor)
         .throttleLimit(taskExecutor.getMaxPoolSize())
         .build();
@@ -140,19 +154,15 @@ public class LabelStepConfig extends AbstractStepConfig {
   @Bean
   @JobScope
   public Step labelSubItemsInsertionStep(@Value(CHUNK) Integer chunkSize) {
-    return sbf.get(LABEL_SUB_ITEMS_INSERTION_STEP)
-        .<LabelSubItemsXML, Collection<UpdatableRecord<?>>>chunk(chunkSize)
-        .reader(labelSubItemsStreamReader)
-        .processor(labelSubItemsProcessor)
-        .writer(collectionItemWriter)
-        .faultTolerant()
-        .retryLimit(10)
-        .retry(DeadlockLoserDataAccessException.class)
-        .listener(stringNormalizingItemReadListener)
+    return subItemsStepBuilder
+        .step(
+            LABEL_SUB_ITEMS_INSERTION_STEP,
+            chunkSize,
+            10,
+            labelSubItemsStreamReader,
+            labelSubItemsProcessor,
+            collectionItemWriter)
         .listener(stopWatchStepExecutionListener)
-        .listener(itemCountingItemProcessListener)
-        .taskExecutor(taskExecutor)
-        .throttleLimit(taskExecutor.getMaxPoolSize())
         .build();
   }
 
@@ -6,11 +6,15 @@ import io.dsub.discogs.batch.dump.DiscogsDump;
 import io.dsub.discogs.batch.exception.DumpNotFoundException;
 import io.dsub.discogs.batch.exception.InvalidArgumentException;
 import io.dsub.discogs.batch.job.listener.CacheInversionStepExecutionListener;
+import io.dsub.discogs.batch.job.listener.IdBufferFlushingChunkListener;
 import io.dsub.discogs.batch.job.listener.IdCachingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.IdSnapshotStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.ItemCountingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.PruningStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StopWatchStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
 import io.dsub.discogs.batch.job.step.AbstractStepConfig;
+import io.dsub.discogs.batch.job.step.SubItemsStepBuilder;
 import io.dsub.discogs.batch.job.tasklet.FileFetchTasklet;
 import io.dsub.discogs.batch.job.tasklet.GenreStyleInsertionTasklet;
 import io.dsub.discogs.batch.util.FileUtil;
@@ -61,14 +65,18 @@ public class MasterStepConfig extends AbstractStepConfig {
 
   private final StepBuilderFactory sbf;
   private final ThreadPoolTaskExecutor taskExecutor;
+  private final SubItemsStepBuilder subItemsStepBuilder;
   private final JobRepository jobRepository;
   private final FileUtil fileUtil;
   private final GenreStyleInsertionTasklet genreStyleInsertionTasklet;
 
   private final StopWatchStepExecutionListener stopWatchStepExecutionListener;
   private final CacheInversionStepExecutionListener cacheInversionStepExecutionListener;
+  private final IdSnapshotStepExecutionListener idSnapshotStepExecutionListener;
+  private final PruningStepExecutionListener pruningStepExecutionListener;
   private final StringNormalizingItemReadListener stringNormalizingItemReadListener;
   private final IdCachingItemProcessListener idCachingItemProcessListener;
+  private final IdBufferFlushingChunkListener idBufferFlushingChunkListener;
   private final ItemCountingItemProcessListener itemCountingItemProcessListener;
 
   @Bean
@@ -90,7 +98,7 @@ public class MasterStepConfig extends AbstractStepConfig {
             // from fetch
             .from(masterFileFetchStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(masterFileFetchStep())
             .on(ANY)
             .to(masterCoreInsertionStep(chunkSize))
@@ -98,7 +106,7 @@ public class MasterStepConfig extends AbstractStepConfig {
             // from core insertion
             .from(masterCoreInsertionStep(chunkSize))
             .on(FAILED)
-            .end()
+            .fail()
             .from(masterCoreInsertionStep(chunkSize))
             .on(ANY)
             .to(masterGenreStyleInsertionStep())
@@ -106,13 +114,16 @@ public class MasterStepConfig extends AbstractStepConfig {
             // from master genre style insertion step
             .from(masterGenreStyleInsertionStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(masterGenreStyleInsertionStep())
             .on(ANY)
             .to(masterSubItemsInsertionStep(chunkSize))
 
             // from sub items insertion
             .from(masterSubItemsInsertionStep(chunkSize))
+            .on(FAILED)
+            .fail()
+            .from(masterSubItemsInsertionStep(chunkSize))
             .on(ANY)
             .end()
 
@@ -150,8 +161,11 @@ public class MasterStepConfig extends AbstractStepConfig {
         .listener(stopWatchStepExecutionListener)
         .listener(stringNormalizingItemReadListener)
         .listener(idCachingItemProcessListener)
+        .listener(idBufferFlushingChunkListener)
         .listener(itemCountingItemProcessListener)
         .listener(cacheInversionStepExecutionListener)
+        .listener(idSnapshotStepExecutionListener)
+        .listener(pruningStepExecutionListener)
         .taskExecutor(taskExecutor)
         .throttleLimit(taskExecutor.getMaxPoolSize())
         .build();
@@ -160,19 +174,15 @@ public class MasterStepConfig extends AbstractStepConfig {
   @Bean
   @JobScope
   public Step masterSubItemsInsertionStep(@Value(CHUNK) Integer chunkSize) {
-    return sbf.get(MASTER_SUB_ITEMS_INSERTION_STEP)
-        .<MasterSubItemsXML, Collection<UpdatableRecord<?>>>chunk(chunkSize)
-        .reader(masterSubItemsStreamReader)
-        .processor(masterSubItemsProcessor)
-        .writer(collectionItemWriter)
-        .faultTolerant()
-        .retryLimit(10)
-        .retry(DeadlockLoserDataAccessException.class)
-        .listener(stringNormalizingItemReadListener)
+    return subItemsStepBuilder
+        .step(
+            MASTER_SUB_ITEMS_INSERTION_STEP,
+            chunkSize,
+            10,
+            masterSubItemsStreamReader,
+            masterSubItemsProcessor,
+            collectionItemWriter)
         .listener(stopWatchStepExecutionListener)
-        .listener(itemCountingItemProcessListener)
-        .taskExecutor(taskExecutor)
-        .throttleLimit(taskExecutor.getMaxPoolSize())
         .build();
   }
 
@@ -8,11 +8,16 @@ import io.dsub.discogs.batch.exception.DumpNotFoundException;
 import io.dsub.discogs.batch.exception.InvalidArgumentException;
 import io.dsub.discogs.batch.job.decider.MasterMainReleaseStepJobExecutionDecider;
 import io.dsub.discogs.batch.job.listener.CacheInversionStepExecutionListener;
+import io.dsub.discogs.batch.job.listener.IdBufferFlushingChunkListener;
 import io.dsub.discogs.batch.job.listener.IdCachingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.IdExpectingItemReadListener;
 import io.dsub.discogs.batch.job.listener.ItemCountingItemProcessListener;
+import io.dsub.discogs.batch.job.listener.PruningStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StopWatchStepExecutionListener;
 import io.dsub.discogs.batch.job.listener.StringNormalizingItemReadListener;
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockPartitioner;
 import io.dsub.discogs.batch.job.step.AbstractStepConfig;
+import io.dsub.discogs.batch.job.step.SubItemsStepBuilder;
 import io.dsub.discogs.batch.job.tasklet.FileFetchTasklet;
 import io.dsub.discogs.batch.job.tasklet.GenreStyleInsertionTasklet;
 import io.dsub.discogs.batch.util.FileUtil;
@@ -30,6 +35,7 @@ import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.job.flow.FlowStep;
 import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.support.SynchronizedItemStreamReader;
@@ -49,6 +55,10 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
   public static final String RELEASE_ITEM_CORE_INSERTION_STEP = "release item core insertion step";
   public static final String RELEASE_ITEM_SUB_ITEMS_INSERTION_STEP =
       "release item sub items insertion step";
+  public static final String RELEASE_ITEM_CORE_INSERTION_WORKER_STEP =
+      "release item core insertion worker step";
+  public static final String RELEASE_ITEM_SUB_ITEMS_INSERTION_WORKER_STEP =
+      "release item sub items insertion worker step";
   public static final String RELEASE_FILE_FETCH_STEP = "release item file fetch step";
   public static final String MASTER_MAIN_RELEASE_UPDATE_STEP = "master main release update step";
   public static final String RELEASE_GENRE_STYLE_INSERTION_STEP =
@@ -72,20 +82,24 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
 
   private final StepBuilderFactory sbf;
   private final ThreadPoolTaskExecutor taskExecutor;
+  private final SubItemsStepBuilder subItemsStepBuilder;
   private final JobRepository jobRepository;
   private final FileUtil fileUtil;
   private final GenreStyleInsertionTasklet genreStyleInsertionTasklet;
 
   private final StopWatchStepExecutionListener stopWatchStepExecutionListener;
   private final StringNormalizingItemReadListener stringNormalizingItemReadListener;
+  private final IdExpectingItemReadListener idExpectingItemReadListener;
   private final ItemCountingItemProcessListener itemCountingItemProcessListener;
   private final IdCachingItemProcessListener idCachingItemProcessListener;
+  private final IdBufferFlushingChunkListener idBufferFlushingChunkListener;
   private final CacheInversionStepExecutionListener cacheInversionStepExecutionListener;
+  private final PruningStepExecutionListener pruningStepExecutionListener;
   private final MasterMainReleaseStepJobExecutionDecider masterMainReleaseStepJobExecutionDecider;
 
   @Bean
   @JobScope
-  public Step releaseStep(@Value(CHUNK) Integer chunkSize)
+  public Step releaseStep(@Value(CHUNK) Integer chunkSize, @Value(PARTITIONS) Integer partitions)
       throws InvalidArgumentException, DumpNotFoundException {
     // @formatter:off
     Flow artistStepFlow =
@@ -101,32 +115,32 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
             // from fetch
             .from(releaseFileFetchStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(releaseFileFetchStep())
             .on(ANY)
-            .to(releaseItemCoreInsertionStep(chunkSize))
+            .to(releaseItemCoreInsertionStep(chunkSize, partitions))
 
             // from core insertion
-            .from(releaseItemCoreInsertionStep(chunkSize))
+            .from(releaseItemCoreInsertionStep(chunkSize, partitions))
             .on(FAILED)
-            .end()
-            .from(releaseItemCoreInsertionStep(chunkSize))
+            .fail()
+            .from(releaseItemCoreInsertionStep(chunkSize, partitions))
             .on(ANY)
             .to(releaseGenreStyleInsertionStep())
 
             // from genre style insertion step
             .from(releaseGenreStyleInsertionStep())
             .on(FAILED)
-            .end()
+            .fail()
             .from(releaseGenreStyleInsertionStep())
             .on(ANY)
-            .to(releaseItemSubItemsInsertionStep(chunkSize))
+            .to(releaseItemSubItemsInsertionStep(chunkSize, partitions))
 
             // from sub items insertion
-            .from(releaseItemSubItemsInsertionStep(chunkSize))
+            .from(releaseItemSubItemsInsertionStep(chunkSize, partitions))
             .on(FAILED)
-            .end()
-            .from(releaseItemSubItemsInsertionStep(chunkSize))
+            .fail()
+            .from(releaseItemSubItemsInsertionStep(chunkSize, partitions))
             .on(ANY)
             .to(masterMainReleaseStepJobExecutionDecider)
 
@@ -140,6 +154,9 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
 
             // from master main release update step
             .from(masterMainReleaseUpdateStep(chunkSize))
+            .on(FAILED)
+            .fail()
+            .from(masterMainReleaseUpdateStep(chunkSize))
             .on(ANY)
             .end()
             // conclude
@@ -154,10 +171,41 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
     return artistFlowStep;
   }
 
+  /**
+   * Inserts release items, either with a multi-threaded step or, if partitioned, with a step per
+   * partition of the dump. A partition is read by a single thread, hence the partitions take the
+   * place of the threads.
+   */
   @Bean
   @JobScope
-  public Step releaseItemCoreInsertionStep(@Value(CHUNK) Integer chunkSize) {
-    return sbf.get(RELEASE_ITEM_CORE_INSERTION_STEP)
+  public Step releaseItemCoreInsertionStep(
+      @Value(CHUNK) Integer chunkSize, @Value(PARTITIONS) Integer partitions) {
+    if (isPartitioned(partitions)) {
+      Step workerStep =
+          releaseItemCoreInsertionStepBuilder(RELEASE_ITEM_CORE_INSERTION_WORKER_STEP, chunkSize)
+              .build();
+      return sbf.get(RELEASE_ITEM_CORE_INSERTION_STEP)
+          .listener(stopWatchStepExecutionListener)
+          .listener(cacheInversionStepExecutionListener)
+          .listener(pruningStepExecutionListener)
+          .partitioner(workerStep.getName(), new DumpBlockPartitioner(fileUtil, releaseItemDump))
+          .step(workerStep)
+          .gridSize(partitions)
+          .taskExecutor(taskExecutor)
+          .build();
+    }
+    return releaseItemCoreInsertionStepBuilder(RELEASE_ITEM_CORE_INSERTION_STEP, chunkSize)
+        .listener(stopWatchStepExecutionListener)
+        .listener(cacheInversionStepExecutionListener)
+        .listener(pruningStepExecutionListener)
+        .taskExecutor(taskExecutor)
+        .throttleLimit(taskExecutor.getMaxPoolSize())
+        .build();
+  }
+
+  private SimpleStepBuilder<ReleaseItemXML, UpdatableRecord<?>>
+      releaseItemCoreInsertionStepBuilder(String name, Integer chunkSize) {
+    return sbf.get(name)
         .<ReleaseItemXML, UpdatableRecord<?>>chunk(chunkSize)
         .reader(releaseItemStreamReader)
         .processor(releaseItemCoreProcessor)
@@ -165,33 +213,47 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
         .faultTolerant()
         .retryLimit(100)
         .retry(DeadlockLoserDataAccessException.class)
-        .listener(stopWatchStepExecutionListener)
         .listener(stringNormalizingItemReadListener)
+        .listener(idExpectingItemReadListener)
         .listener(itemCountingItemProcessListener)
         .listener(idCachingItemProcessListener)
-        .listener(cacheInversionStepExecutionListener)
-        .taskExecutor(taskExecutor)
-        .throttleLimit(taskExecutor.getMaxPoolSize())
-        .build();
+        .listener(idBufferFlushingChunkListener);
   }
 
   @Bean
   @JobScope
-  public Step releaseItemSubItemsInsertionStep(@Value(CHUNK) Integer chunkSize) {
-    return sbf.get(RELEASE_ITEM_SUB_ITEMS_INSERTION_STEP)
-        .<ReleaseItemSubItemsXML, Collection<UpdatableRecord<?>>>chunk(
-            Integer.divideUnsigned(chunkSize, 2)) // due to memory consumptions
-        .reader(releaseItemSubItemsStreamReader)
-        .processor(releaseItemSubItemsProcessor)
-        .writer(collectionItemWriter)
-        .faultTolerant()
-        .retryLimit(100)
-        .retry(DeadlockLoserDataAccessException.class)
-        .listener(stringNormalizingItemReadListener)
+  public Step releaseItemSubItemsInsertionStep(
+      @Value(CHUNK) Integer chunkSize, @Value(PARTITIONS) Integer partitions) {
+    // half of the chunk size, due to memory consumptions.
+    int subItemsChunkSize = Integer.divideUnsigned(chunkSize, 2);
+    if (isPartitioned(partitions)) {
+      Step workerStep =
+          subItemsStepBuilder
+              .workerStep(
+                  RELEASE_ITEM_SUB_ITEMS_INSERTION_WORKER_STEP,
+                  subItemsChunkSize,
+                  100,
+                  releaseItemSubItemsStreamReader,
+                  releaseItemSubItemsProcessor,
+                  collectionItemWriter)
+              .build();
+      return sbf.get(RELEASE_ITEM_SUB_ITEMS_INSERTION_STEP)
+          .listener(stopWatchStepExecutionListener)
+          .partitioner(workerStep.getName(), new DumpBlockPartitioner(fileUtil, releaseItemDump))
+          .step(workerStep)
+          .gridSize(partitions)
+          .taskExecutor(taskExecutor)
+          .build();
+    }
+    return subItemsStepBuilder
+        .step(
+            RELEASE_ITEM_SUB_ITEMS_INSERTION_STEP,
+            subItemsChunkSize,
+            100,
+            releaseItemSubItemsStreamReader,
+            releaseItemSubItemsProcessor,
+            collectionItemWriter)
         .listener(stopWatchStepExecutionListener)
-        .listener(itemCountingItemProcessListener)
-        .taskExecutor(taskExecutor)
-        .throttleLimit(taskExecutor.getMaxPoolSize())
         .build();
   }
 
@@ -212,6 +274,7 @@ public class ReleaseItemStepConfig extends AbstractStepConfig {
         .processor(masterMainReleaseItemProcessor)
         .writer(postgresJooqMasterMainReleaseItemWriter)
         .listener(stopWatchStepExecutionListener)
+        .listener(idExpectingItemReadListener)
         .listener(itemCountingItemProcessListener)
         .taskExecutor(taskExecutor)
         .throttleLimit(taskExecutor.getMaxPoolSize())
@@ -4,7 +4,8 @@ import io.dsub.discogs.batch.job.registry.DefaultEntityIdRegistry;
 import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
 import io.dsub.discogs.jooq.tables.records.GenreRecord;
 import io.dsub.discogs.jooq.tables.records.StyleRecord;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.core.ExitStatus;
@@ -26,14 +27,15 @@ public class GenreStyleInsertionTasklet implements Tasklet {
   public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext)
       throws Exception {
     contribution.setExitStatus(ExitStatus.EXECUTING);
-    jooqItemWriter.write(
-        registry.getStringIdSetByType(DefaultEntityIdRegistry.Type.GENRE).stream()
-            .map(genre -> new GenreRecord().setName(genre))
-            .collect(Collectors.toList()));
-    jooqItemWriter.write(
-        registry.getStringIdSetByType(DefaultEntityIdRegistry.Type.STYLE).stream()
-            .map(style -> new StyleRecord().setName(style))
-            .collect(Collectors.toList()));
+    List<UpdatableRecord<?>> genres = new ArrayList<>();
+    registry.getStringDictionary(DefaultEntityIdRegistry.Type.GENRE)
+        .forEach((genre, code) -> genres.add(new GenreRecord().setName(genre)));
+    jooqItemWriter.write(genres);
+
+    List<UpdatableRecord<?>> styles = new ArrayList<>();
+    registry.getStringDictionary(DefaultEntityIdRegistry.Type.STYLE)
+        .forEach((style, code) -> styles.add(new StyleRecord().setName(style)));
+    jooqItemWriter.write(styles);
     contribution.setExitStatus(ExitStatus.COMPLETED);
     chunkContext.setComplete();
     return RepeatStatus.FINISHED;
@@ -6,15 +6,21 @@ import io.dsub.discogs.jooq.tables.Master;
 import io.dsub.discogs.jooq.tables.ReleaseItem;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.jooq.Field;
 import org.jooq.Key;
 import org.jooq.Table;
+import org.jooq.UniqueKey;
 import org.jooq.UpdatableRecord;
 
+@Slf4j
 public abstract class AbstractJooqItemWriter<T extends UpdatableRecord<?>> implements JooqItemWriter<T> {
 
   private final Map<Table<?>, List<Field<?>>> insertFields = new ConcurrentHashMap<>();
@@ -140,4 +146,39 @@ public abstract class AbstractJooqItemWriter<T extends UpdatableRecord<?>> imple
     updateFieldsCache.put(table, updateFields);
     return updateFields;
   }
+
+  /**
+   * @param items to be written.
+   * @return items without those of which any unique key is found again later on, as a single
+   *     statement cannot insert or update the same row twice.
+   */
+  protected List<T> distinct(List<? extends T> items) {
+    List<? extends UniqueKey<?>> keys = items.get(0).getTable().getKeys();
+    List<Set<List<Object>>> seen = new ArrayList<>(keys.size());
+    keys.forEach(key -> seen.add(new HashSet<>()));
+    List<T> distinct = new ArrayList<>(items.size());
+    for (int i = items.size() - 1; i >= 0; i--) {
+      T item = items.get(i);
+      boolean duplicate = false;
+      for (int k = 0; k < keys.size(); k++) {
+        List<Object> values =
+            keys.get(k).getFields().stream().map(item::get).collect(Collectors.toList());
+        // nulls never conflict with each other.
+        if (!values.contains(null) && !seen.get(k).add(values)) {
+          duplicate = true;
+        }
+      }
+      if (!duplicate) {
+        distinct.add(item);
+      }
+    }
+    if (distinct.size() < items.size()) {
+      log.debug(
+          "dropped {} duplicates of {}",
+          items.size() - distinct.size(),
+          items.get(0).getTable().getName());
+    }
+    Collections.reverse(distinct);
+    return distinct;
+  }
 }
@@ -0,0 +1,143 @@
+package io.dsub.discogs.batch.job.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Encodes rows into the binary format of PostgreSQL COPY, which spares the server from parsing
+ * any text. Only the types of the columns written by the steps are supported.
+ */
+final class BinaryCopyEncoder {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final byte[] SIGNATURE = {
+      'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0
+  };
+  private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private static final long EPOCH_DAY = EPOCH.toLocalDate().toEpochDay();
+  private static final Set<Class<?>> SUPPORTED_TYPES =
+      Set.of(
+          Boolean.class,
+          Short.class,
+          Integer.class,
+          Long.class,
+          Float.class,
+          Double.class,
+          String.class,
+          LocalDate.class,
+          LocalDateTime.class);
+
+  private final DataOutputStream out;
+
+  BinaryCopyEncoder(OutputStream out) {
+    this.out = new DataOutputStream(out);
+  }
+
+  /**
+   * @param type of a column.
+   * @return true if the values of the column can be encoded.
+   */
+  static boolean isSupported(Class<?> type) {
+    return SUPPORTED_TYPES.contains(type);
+  }
+
+  /**
+   * Streams the records through a COPY on the connection of the context, hence within its current
+   * transaction. The COPY is cancelled if any record fails to be encoded.
+   *
+   * @param sql     COPY ... FROM STDIN (FORMAT BINARY) statement.
+   * @param fields  of the records to be copied, in order of the columns of the statement.
+   * @param records to be copied.
+   */
+  static void copy(
+      DSLContext context, String sql, List<Field<?>> fields, List<? extends Record> records) {
+    context.connection(
+        connection -> {
+          CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+          try {
+            OutputStream out =
+                new BufferedOutputStream(new PGCopyOutputStream(copyIn, BUFFER_SIZE), BUFFER_SIZE);
+            BinaryCopyEncoder encoder = new BinaryCopyEncoder(out);
+            encoder.writeHeader();
+            for (Record record : records) {
+              encoder.writeRow(fields.stream().map(record::get).collect(Collectors.toList()));
+            }
+            encoder.writeTrailer();
+            copyIn.endCopy();
+          } finally {
+            if (copyIn.isActive()) {
+              copyIn.cancelCopy();
+            }
+          }
+        });
+  }
+
+  void writeHeader() throws IOException {
+    out.write(SIGNATURE);
+    out.writeInt(0); // flags
+    out.writeInt(0); // header extension length
+  }
+
+  void writeRow(List<?> values) throws IOException {
+    out.writeShort(values.size());
+    for (Object value : values) {
+      writeValue(value);
+    }
+  }
+
+  void writeTrailer() throws IOException {
+    out.writeShort(-1);
+    out.flush();
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    } else if (value instanceof String string) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    } else if (value instanceof Integer integer) {
+      out.writeInt(4);
+      out.writeInt(integer);
+    } else if (value instanceof LocalDateTime dateTime) {
+      out.writeInt(8);
+      out.writeLong(ChronoUnit.MICROS.between(EPOCH, dateTime));
+    } else if (value instanceof LocalDate date) {
+      out.writeInt(4);
+      out.writeInt((int) (date.toEpochDay() - EPOCH_DAY));
+    } else if (value instanceof Long longValue) {
+      out.writeInt(8);
+      out.writeLong(longValue);
+    } else if (value instanceof Short shortValue) {
+      out.writeInt(2);
+      out.writeShort(shortValue);
+    } else if (value instanceof Boolean bool) {
+      out.writeInt(1);
+      out.writeByte(bool ? 1 : 0);
+    } else if (value instanceof Double doubleValue) {
+      out.writeInt(8);
+      out.writeDouble(doubleValue);
+    } else if (value instanceof Float floatValue) {
+      out.writeInt(4);
+      out.writeFloat(floatValue);
+    } else {
+      throw new IllegalArgumentException("unsupported value type: " + value.getClass());
+    }
+  }
+}
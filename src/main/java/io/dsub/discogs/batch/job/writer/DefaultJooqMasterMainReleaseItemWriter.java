@@ -2,15 +2,32 @@ package io.dsub.discogs.batch.job.writer;
 
 import io.dsub.discogs.jooq.tables.Master;
 import io.dsub.discogs.jooq.tables.records.MasterRecord;
-import java.util.LinkedList;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.Row2;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 
+/**
+ * Updates the main release of masters with a single UPDATE ... FROM (VALUES ...) per chunk, which
+ * only touches the masters of which the main release actually changes.
+ */
+@Slf4j
 @RequiredArgsConstructor
 public class DefaultJooqMasterMainReleaseItemWriter implements JooqItemWriter<MasterRecord> {
 
+  // two parameters per row, within the 32767 bind values of a PostgreSQL statement.
+  private static final int MAX_ROWS = 1 << 13;
+
   private final DSLContext context;
 
   @Override
@@ -20,17 +37,44 @@ public class DefaultJooqMasterMainReleaseItemWriter implements JooqItemWriter<Ma
       return;
     }
 
-    List<Query> updates = new LinkedList<>();
-    items.forEach(record -> updates.add(getQuery(record)));
-    context.batch(updates).execute();
+    // a master matching several rows would be updated by any one of them, hence the last one wins.
+    Map<Integer, Integer> mainReleaseIds = new LinkedHashMap<>();
+    items.forEach(record -> mainReleaseIds.put(record.getId(), record.getMainReleaseId()));
+    LocalDateTime lastModifiedAt = items.get(items.size() - 1).getLastModifiedAt();
+
+    List<Row2<Integer, Integer>> rows = new ArrayList<>(Math.min(mainReleaseIds.size(), MAX_ROWS));
+    int updated = 0;
+    for (Map.Entry<Integer, Integer> entry : mainReleaseIds.entrySet()) {
+      rows.add(DSL.row(entry.getKey(), entry.getValue()));
+      if (rows.size() == MAX_ROWS) {
+        updated += getQuery(rows, lastModifiedAt).execute();
+        rows.clear();
+      }
+    }
+    if (!rows.isEmpty()) {
+      updated += getQuery(rows, lastModifiedAt).execute();
+    }
+    log.debug("updated main release of {} out of {} masters", updated, mainReleaseIds.size());
   }
 
   @Override
   public Query getQuery(MasterRecord record) {
+    return getQuery(
+        List.of(DSL.row(record.getId(), record.getMainReleaseId())), record.getLastModifiedAt());
+  }
+
+  @SuppressWarnings("unchecked")
+  private Query getQuery(List<Row2<Integer, Integer>> rows, LocalDateTime lastModifiedAt) {
+    Table<Record2<Integer, Integer>> values =
+        DSL.values(rows.toArray(Row2[]::new)).as("v", "id", "main_release_id");
+    Field<Integer> id = values.field("id", Integer.class);
+    Field<Integer> mainReleaseId = values.field("main_release_id", Integer.class);
     return context
         .update(Master.MASTER)
-        .set(Master.MASTER.LAST_MODIFIED_AT, record.getLastModifiedAt())
-        .set(Master.MASTER.MAIN_RELEASE_ID, record.getMainReleaseId())
-        .where(Master.MASTER.ID.eq(record.getId()));
+        .set(Master.MASTER.LAST_MODIFIED_AT, lastModifiedAt)
+        .set(Master.MASTER.MAIN_RELEASE_ID, mainReleaseId)
+        .from(values)
+        .where(Master.MASTER.ID.eq(id))
+        .and(Master.MASTER.MAIN_RELEASE_ID.isDistinctFrom(mainReleaseId));
   }
 }
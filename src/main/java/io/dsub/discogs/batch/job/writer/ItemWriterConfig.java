@@ -1,5 +1,6 @@
 package io.dsub.discogs.batch.job.writer;
 
+import io.dsub.discogs.batch.argument.ArgType;
 import io.dsub.discogs.jooq.tables.records.MasterRecord;
 import java.util.Collection;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.jooq.DSLContext;
 import org.jooq.UpdatableRecord;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.boot.ApplicationArguments;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,14 +19,24 @@ import org.springframework.context.annotation.Configuration;
 public class ItemWriterConfig {
 
   private final DSLContext context;
+  private final ApplicationArguments args;
 
   @Bean
   public ItemWriter<UpdatableRecord<?>> jooqItemWriter() {
-      return new DefaultLJooqItemWriter<>(context);
+    boolean initialLoad = args.containsOption(ArgType.INITIAL_LOAD.getGlobalName());
+    if (initialLoad) {
+      log.debug("detected initial load option. leaving rows already present as they are.");
+    }
+    return new PostgresCopyItemWriter<>(
+        context, new DefaultLJooqItemWriter<>(context), initialLoad);
   }
 
   @Bean
-  public ItemWriter<Collection<UpdatableRecord<?>>> baseEntityCollectionItemWriter() {
+  public ItemWriter<Collection<UpdatableRecord<?>>> baseEntityCollectionItemWriter(
+      StagingMerge stagingMerge) {
+    if (stagingMerge.isEnabled()) {
+      return getBaseEntityCollectionItemWriter(new StagingMergeItemWriter<>(context));
+    }
     return getBaseEntityCollectionItemWriter(jooqItemWriter());
   }
 
@@ -0,0 +1,69 @@
+package io.dsub.discogs.batch.job.writer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.UpdatableRecord;
+
+/**
+ * Loads the items by a binary COPY into a staging table, then merges them into their table with a
+ * single INSERT ... SELECT ... ON CONFLICT instead of upserting them one by one. Conflicting rows,
+ * whether written by an earlier run, an earlier step or a chunk replayed on restart, update the
+ * existing ones as the upsert would; on an initial load, for which every table is expected to be
+ * empty, they are left as they are instead.
+ *
+ * <p>Unlike {@link StagingMergeItemWriter} on its own, references are not checked by the merge, as
+ * the items written through here are either core entities or already checked against the id
+ * registry. Items of other databases, or of tables with columns of types not supported by {@link
+ * BinaryCopyEncoder}, are handed to the delegate.
+ */
+public class PostgresCopyItemWriter<T extends UpdatableRecord<?>> extends AbstractJooqItemWriter<T> {
+
+  private final DSLContext context;
+  private final JooqItemWriter<T> delegate;
+  private final StagingMergeItemWriter<T> stagingMergeItemWriter;
+  private final Map<Table<?>, Boolean> copyTables = new ConcurrentHashMap<>();
+
+  public PostgresCopyItemWriter(
+      DSLContext context, JooqItemWriter<T> delegate, boolean initialLoad) {
+    this.context = context;
+    this.delegate = delegate;
+    this.stagingMergeItemWriter = new StagingMergeItemWriter<>(context, false, !initialLoad);
+  }
+
+  @Override
+  public void write(List<? extends T> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    if (!copyTables.computeIfAbsent(items.get(0).getTable(), this::isCopySupported)) {
+      delegate.write(items);
+      return;
+    }
+    stagingMergeItemWriter.write(items);
+  }
+
+  @Override
+  public Query getQuery(T record) {
+    if (!copyTables.computeIfAbsent(record.getTable(), this::isCopySupported)) {
+      return delegate.getQuery(record);
+    }
+    return stagingMergeItemWriter.getQuery(record);
+  }
+
+  /**
+   * @return true if the table can be loaded by a binary COPY, which only depends on the database
+   *     and the types of its columns, hence holds for every write.
+   */
+  private boolean isCopySupported(Table<?> table) {
+    return context.family() == SQLDialect.POSTGRES
+        && getInsertFields(table).stream()
+            .map(Field::getType)
+            .allMatch(BinaryCopyEncoder::isSupported);
+  }
+}
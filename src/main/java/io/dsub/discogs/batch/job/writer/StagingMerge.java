@@ -0,0 +1,16 @@
+package io.dsub.discogs.batch.job.writer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Whether sub items are merged by {@link StagingMergeItemWriter}, in which case the database
+ * leaves out their dangling references, and the processors no longer check them against the id
+ * registry.
+ */
+public class StagingMerge {
+
+  @Getter
+  @Setter
+  private volatile boolean enabled;
+}
@@ -0,0 +1,206 @@
+package io.dsub.discogs.batch.job.writer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.InsertOnDuplicateStep;
+import org.jooq.InsertValuesStepN;
+import org.jooq.Name;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+/**
+ * Merges the items through a staging table instead of upserting them one by one. Each write loads
+ * the items into the staging table of their table, by a binary COPY if {@link BinaryCopyEncoder}
+ * supports its columns, then merges them with a single INSERT ... SELECT ... ON CONFLICT, which
+ * leaves out every row referring to a missing entity. Items can hence be written without checking
+ * their references against the cached identifiers beforehand.
+ *
+ * <p>Staging tables are temporary, hence neither logged nor shared between the connections of
+ * concurrent steps. A staging table belongs to the session of the connection it was created on,
+ * which the pool keeps open across transactions and steps. It is hence created by the first write
+ * on each pooled connection, and truncated before every write. PostgreSQL only.
+ *
+ * <p>The reference check and the update of conflicting rows can be left out of the merge, as
+ * {@link PostgresCopyItemWriter} does for items of which the references are checked beforehand.
+ */
+@Slf4j
+public class StagingMergeItemWriter<T extends UpdatableRecord<?>> extends AbstractJooqItemWriter<T> {
+
+  private static final String STAGING_PREFIX = "staging_";
+  // bind values of a PostgreSQL statement.
+  private static final int MAX_BIND_VALUES = Short.MAX_VALUE;
+
+  private final DSLContext context;
+  private final boolean referencesChecked;
+  private final boolean conflictsUpdated;
+  private final Map<Table<?>, Statements> statements = new ConcurrentHashMap<>();
+
+  public StagingMergeItemWriter(DSLContext context) {
+    this(context, true, true);
+  }
+
+  /**
+   * @param referencesChecked whether rows referring to a missing entity are left out.
+   * @param conflictsUpdated  whether rows conflicting with existing ones update them, rather than
+   *                          being left out.
+   */
+  public StagingMergeItemWriter(
+      DSLContext context, boolean referencesChecked, boolean conflictsUpdated) {
+    this.context = context;
+    this.referencesChecked = referencesChecked;
+    this.conflictsUpdated = conflictsUpdated;
+  }
+
+  @Override
+  public void write(List<? extends T> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    Table<?> table = items.get(0).getTable();
+    Statements sql = statements.computeIfAbsent(table, this::getStatements);
+    List<T> distinct = distinct(items);
+
+    context.execute(sql.create());
+    context.execute(sql.truncate());
+    if (sql.copy() != null) {
+      BinaryCopyEncoder.copy(context, sql.copy(), getInsertFields(table), distinct);
+    } else {
+      insert(table, distinct);
+    }
+    int merged = context.execute(sql.merge());
+    log.debug("merged {} of {} rows into {}", merged, distinct.size(), table.getName());
+  }
+
+  @Override
+  public Query getQuery(T record) {
+    Statements sql = statements.computeIfAbsent(record.getTable(), this::getStatements);
+    return context.query(sql.merge());
+  }
+
+  /**
+   * Inserts the items into the staging table by as many statements as needed to keep the bind
+   * values of each one within the limit of PostgreSQL.
+   */
+  private void insert(Table<?> table, List<T> items) {
+    List<Field<?>> fields = getInsertFields(table);
+    int maxRows = getMaxRows(fields.size());
+    for (int from = 0; from < items.size(); from += maxRows) {
+      InsertValuesStepN<Record> insert =
+          context.insertInto(DSL.table(getStagingName(table))).columns(getStagingFields(table));
+      for (T item : items.subList(from, Math.min(from + maxRows, items.size()))) {
+        insert = insert.values(fields.stream().map(item::get).collect(Collectors.toList()));
+      }
+      insert.execute();
+    }
+  }
+
+  /**
+   * @param columns of each row.
+   * @return how many rows a single statement can insert.
+   */
+  static int getMaxRows(int columns) {
+    return Math.max(1, MAX_BIND_VALUES / columns);
+  }
+
+  private Statements getStatements(Table<?> table) {
+    String staging = context.render(getStagingName(table));
+    String columns =
+        getInsertFields(table).stream()
+            .map(field -> context.render(field.getUnqualifiedName()))
+            .collect(Collectors.joining(", "));
+    boolean copy =
+        getInsertFields(table).stream()
+            .map(Field::getType)
+            .allMatch(BinaryCopyEncoder::isSupported);
+    return new Statements(
+        "CREATE TEMP TABLE IF NOT EXISTS "
+            + staging
+            + " AS SELECT "
+            + columns
+            + " FROM "
+            + context.render(table)
+            + " WITH NO DATA",
+        "TRUNCATE " + staging,
+        copy ? "COPY " + staging + " (" + columns + ") FROM STDIN (FORMAT BINARY)" : null,
+        getMergeStatement(table));
+  }
+
+  private String getMergeStatement(Table<?> table) {
+    Condition referenced = DSL.noCondition();
+    if (referencesChecked) {
+      for (ForeignKey<?, ?> reference : table.getReferences()) {
+        referenced = referenced.and(isReferenced(table, reference));
+      }
+    }
+    InsertOnDuplicateStep<?> insert =
+        context
+            .insertInto(table)
+            .columns(getInsertFields(table))
+            .select(
+                DSL.select(getStagingFields(table))
+                    .from(DSL.table(getStagingName(table)))
+                    .where(referenced));
+
+    List<Field<?>> updateFields = getUpdateFields(table);
+    if (updateFields.isEmpty() || !conflictsUpdated) {
+      return context.render(insert.onConflict(getConstraintFields(table)).doNothing());
+    }
+    Map<Field<?>, Field<?>> updateMap = new LinkedHashMap<>();
+    for (Field<?> field : updateFields) {
+      updateMap.put(field, DSL.field(DSL.name("excluded", field.getName()), field.getDataType()));
+    }
+    return context.render(insert.onConflict(getConstraintFields(table)).doUpdate().set(updateMap));
+  }
+
+  /**
+   * @return condition of a staged row either not referring to anything by given key, as one of its
+   *     columns is null, or referring to an existing row.
+   */
+  private Condition isReferenced(Table<?> table, ForeignKey<?, ?> reference) {
+    List<? extends Field<?>> fields = reference.getFields();
+    List<? extends Field<?>> keyFields = reference.getKey().getFields();
+    Condition unset = DSL.falseCondition();
+    Condition matches = DSL.noCondition();
+    for (int i = 0; i < fields.size(); i++) {
+      Field<?> field = getStagingField(table, fields.get(i));
+      unset = unset.or(field.isNull());
+      matches = matches.and(DSL.condition("{0} = {1}", field, keyFields.get(i)));
+    }
+    return unset.or(
+        DSL.exists(DSL.selectOne().from(reference.getKey().getTable()).where(matches)));
+  }
+
+  private List<Field<?>> getStagingFields(Table<?> table) {
+    return getInsertFields(table).stream()
+        .map(field -> getStagingField(table, field))
+        .collect(Collectors.toList());
+  }
+
+  private Field<?> getStagingField(Table<?> table, Field<?> field) {
+    return DSL.field(
+        DSL.name(STAGING_PREFIX + table.getName(), field.getName()), field.getDataType());
+  }
+
+  private Name getStagingName(Table<?> table) {
+    return DSL.name(STAGING_PREFIX + table.getName());
+  }
+
+  /**
+   * Statements creating, truncating, copying into and merging the staging table of a table. The
+   * copy statement is null if the staging table is to be filled by an insert instead.
+   */
+  private record Statements(String create, String truncate, String copy, String merge) {
+
+  }
+}
@@ -0,0 +1,58 @@
+package io.dsub.discogs.batch.util;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the dates parsed by its delegate, as the same dates repeat all over a dump. Once the
+ * capacity is reached, further sources are parsed but not remembered, hence the dates seen first,
+ * which are the most common ones, stay without any eviction.
+ */
+public class MemoizingMalformedDateParser implements MalformedDateParser {
+
+  // marks a source parsed into null, which the map cannot hold.
+  private static final LocalDate NONE = LocalDate.MIN;
+
+  private final MalformedDateParser delegate;
+  private final int capacity;
+  private final Map<String, LocalDate> dates = new ConcurrentHashMap<>();
+
+  public MemoizingMalformedDateParser(MalformedDateParser delegate, int capacity) {
+    this.delegate = delegate;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public boolean isMonthValid(String date) {
+    return delegate.isMonthValid(date);
+  }
+
+  @Override
+  public boolean isYearValid(String date) {
+    return delegate.isYearValid(date);
+  }
+
+  @Override
+  public boolean isDayValid(String date) {
+    return delegate.isDayValid(date);
+  }
+
+  @Override
+  public LocalDate parse(String date) {
+    if (date == null) {
+      return null;
+    }
+    LocalDate parsed = dates.get(date);
+    if (parsed == null) {
+      parsed = delegate.parse(date);
+      if (parsed == null) {
+        parsed = NONE;
+      }
+      if (dates.size() < capacity) {
+        dates.put(date, parsed);
+      }
+    }
+    return parsed == NONE ? null : parsed;
+  }
+}
@@ -0,0 +1,15 @@
+package io.dsub.discogs.batch.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field of few distinct values, either a string or a list of strings, whose values are
+ * replaced by their pooled instances once normalized. See {@link StringNormalizer}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Pooled {
+}
@@ -6,7 +6,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -14,48 +13,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ReflectionUtil {
 
+  /**
+   * @see StringNormalizer#normalize(Object)
+   */
   public static void normalizeStringFields(Object target) {
-    if (target == null) {
-      return;
-    }
-    List<Field> fields = getDeclaredFields(target);
-    fields.forEach(field -> doNormalizeString(field, target));
-  }
-
-  private static void doNormalizeString(Field field, Object target) {
-    Object o = getValue(target, field);
-    if (o == null) {
-      return;
-    }
-    if (o instanceof String) {
-      String val = ((String) o).trim();
-      if (val.isBlank()) {
-        setFieldValue(target, field, null);
-      }
-    } else if (List.class.isAssignableFrom(o.getClass())) {
-      List<?> list = (List<?>) o;
-      if (list.isEmpty()) {
-        return;
-      }
-      Object first = list.get(0);
-      if (first instanceof String) {
-        List<?> normalized =
-            list.stream()
-                .map(obj -> obj != null && obj.toString().isBlank() ? null : obj)
-                .filter(Objects::nonNull)
-                .map(Object::toString)
-                .map(String::trim)
-                .collect(Collectors.toList());
-        setFieldValue(target, field, normalized.size() == 0 ? null : normalized);
-      } else {
-        list.forEach(ReflectionUtil::normalizeStringFields);
-      }
-    } else {
-      List<Field> subItemFields = getDeclaredFields(o);
-      for (Field subItemField : subItemFields) {
-        doNormalizeString(subItemField, o);
-      }
-    }
+    StringNormalizer.normalize(target);
   }
 
   public static List<Field> getDeclaredFields(Object target) {
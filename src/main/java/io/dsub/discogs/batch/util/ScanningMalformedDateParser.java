@@ -0,0 +1,136 @@
+package io.dsub.discogs.batch.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parses dates as {@link DefaultMalformedDateParser} does, yet with a single scan of the source
+ * instead of normalizing it and matching it against each pattern in turn. Chars other than digits
+ * and separators are read as '0', just as the patterns would see them.
+ *
+ * <p>A month holding '_' is ignored, whereas the patterns would fail on parsing it.
+ */
+public class ScanningMalformedDateParser extends DefaultMalformedDateParser {
+
+  private final int maxYear = LocalDate.now().getYear();
+
+  @Override
+  public LocalDate parse(String source) {
+    if (source == null || source.length() < 4) {
+      return null;
+    }
+
+    int year = 0;
+    for (int i = 0; i < 4; i++) {
+      char c = charAt(source, i);
+      if (!isDigit(c)) {
+        return null;
+      }
+      year = year * 10 + (c - '0');
+    }
+    if (year <= 1000 || year > maxYear) {
+      return null;
+    }
+
+    if (isFlat(source)) {
+      int month = digitsAt(source, 4, 6);
+      if (month < 1 || month > 12) {
+        return LocalDate.of(year, 1, 1);
+      }
+      return ofDay(year, month, digitsAt(source, 6, 8));
+    }
+
+    int length = source.length();
+    char separator = length > 4 ? charAt(source, 4) : 0;
+    if (!isSeparator(separator)) {
+      return LocalDate.of(year, 1, 1);
+    }
+
+    // month: leading zeros, then up to two word chars.
+    int from = skipZeros(source, 5);
+    int to = from;
+    while (to < length && to < from + 2 && isWord(charAt(source, to))) {
+      to++;
+    }
+    int month = digitsAt(source, from, to);
+    if (month < 1 || month > 12) {
+      return LocalDate.of(year, 1, 1);
+    }
+
+    // day: only if the month is followed by the same separator and the rest is a day.
+    if (to >= length || charAt(source, to) != separator) {
+      return LocalDate.of(year, month, 1);
+    }
+    int dayFrom = skipZeros(source, to + 1);
+    if (length - dayFrom < 1 || length - dayFrom > 2) {
+      return LocalDate.of(year, month, 1);
+    }
+    int day = digitsAt(source, dayFrom, length);
+    if (day < 1 || day > 31) {
+      return LocalDate.of(year, month, 1);
+    }
+    return ofDay(year, month, day);
+  }
+
+  private LocalDate ofDay(int year, int month, int day) {
+    if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+      return LocalDate.of(year, month, 1);
+    }
+    return LocalDate.of(year, month, day);
+  }
+
+  private boolean isFlat(String source) {
+    if (source.length() != 8) {
+      return false;
+    }
+    for (int i = 4; i < 8; i++) {
+      if (!isDigit(charAt(source, i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int skipZeros(String source, int from) {
+    while (from < source.length() && charAt(source, from) == '0') {
+      from++;
+    }
+    return from;
+  }
+
+  /**
+   * @return value of the digits between given indices, or -1 if there are none or not only digits.
+   */
+  private int digitsAt(String source, int from, int to) {
+    if (from >= to) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = from; i < to; i++) {
+      char c = charAt(source, i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private char charAt(String source, int index) {
+    char c = source.charAt(index);
+    return isDigit(c) || isSeparator(c) || c == '_' ? c : '0';
+  }
+
+  private boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private boolean isWord(char c) {
+    return isDigit(c) || c == '_';
+  }
+
+  private boolean isSeparator(char c) {
+    return c == '-' || c == ' ' || c == '/' || c == '.';
+  }
+}
@@ -0,0 +1,92 @@
+package io.dsub.discogs.batch.util;
+
+/**
+ * 64-bit hash of strings, streamed over their chars four at a time with the rounds of
+ * MurmurHash64A, hence without encoding nor concatenating them.
+ *
+ * <p>The position and length of each value are hashed along with it, so that ("ab", "c") and
+ * ("a", "bc") do not collide as their concatenations would.
+ */
+public final class StringHash {
+
+  private static final long SEED = 0x5f3759dfL;
+  private static final long M = 0xc6a4a7935bd1e995L;
+  private static final int R = 47;
+
+  private StringHash() {
+  }
+
+  /**
+   * @param value to be hashed.
+   * @return non-zero hash of the value, or 0 if it is null or blank.
+   */
+  public static long hash64(String value) {
+    if (value == null || value.isBlank()) {
+      return 0;
+    }
+    return finish(hash(SEED, 0, value));
+  }
+
+  /**
+   * @param values to be hashed. Null or blank values are skipped.
+   * @return non-zero hash of the values, or 0 if every value is null or blank.
+   */
+  public static long hash64(String... values) {
+    long h = SEED;
+    boolean empty = true;
+    for (int i = 0; i < values.length; i++) {
+      String value = values[i];
+      if (value != null && !value.isBlank()) {
+        h = hash(h, i, value);
+        empty = false;
+      }
+    }
+    return empty ? 0 : finish(h);
+  }
+
+  /**
+   * @param hash 64-bit hash.
+   * @return the hash folded into the 32 bits of a hash column.
+   */
+  public static int fold(long hash) {
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private static long hash(long h, int index, String value) {
+    int length = value.length();
+    h = round(h, (long) index << 32 | length);
+    int i = 0;
+    for (; i + 4 <= length; i += 4) {
+      h =
+          round(
+              h,
+              value.charAt(i)
+                  | (long) value.charAt(i + 1) << 16
+                  | (long) value.charAt(i + 2) << 32
+                  | (long) value.charAt(i + 3) << 48);
+    }
+    if (i < length) {
+      long k = 0;
+      for (int shift = 0; i < length; i++, shift += 16) {
+        k |= (long) value.charAt(i) << shift;
+      }
+      h = round(h, k);
+    }
+    return h;
+  }
+
+  private static long round(long h, long k) {
+    k *= M;
+    k ^= k >>> R;
+    k *= M;
+    h ^= k;
+    return h * M;
+  }
+
+  private static long finish(long h) {
+    h ^= h >>> R;
+    h *= M;
+    h ^= h >>> R;
+    return h == 0 ? 1 : h;
+  }
+}
@@ -0,0 +1,129 @@
+package io.dsub.discogs.batch.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nulls out the blank strings of an item along with those of its nested items, in a single pass.
+ * String lists are trimmed, and their blank elements are left out, or the list is nulled out if
+ * nothing is left.
+ *
+ * <p>Values of the fields marked as {@link Pooled} are replaced by their instances of a shared
+ * {@link StringPool}.
+ *
+ * <p>The non-static, non-final fields declared by each class are resolved once into method
+ * handles, hence no reflective lookup nor access check is made per item.
+ */
+public final class StringNormalizer {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  // roles, format names, identifier types and the like; rare values beyond are left as is.
+  private static final StringPool POOL = new StringPool(1 << 16);
+
+  private static final ClassValue<StringNormalizer> NORMALIZERS =
+      new ClassValue<>() {
+        @Override
+        protected StringNormalizer computeValue(Class<?> type) {
+          return new StringNormalizer(type);
+        }
+      };
+
+  private final Accessor[] accessors;
+
+  private StringNormalizer(Class<?> type) {
+    // classes of the platform hold no strings of an item.
+    if (type.getName().startsWith("java.")) {
+      this.accessors = new Accessor[0];
+      return;
+    }
+    List<Accessor> accessors = new ArrayList<>();
+    for (Field field : ReflectionUtil.getDeclaredFields(type)) {
+      if (field.getType().isPrimitive()) {
+        continue;
+      }
+      try {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        accessors.add(
+            new Accessor(
+                field.getType() == String.class,
+                field.isAnnotationPresent(Pooled.class),
+                lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                lookup.unreflectSetter(field).asType(SETTER_TYPE)));
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("failed to access " + field, e);
+      }
+    }
+    this.accessors = accessors.toArray(Accessor[]::new);
+  }
+
+  /**
+   * @param target item to be normalized in place. Ignored if null.
+   */
+  public static void normalize(Object target) {
+    if (target == null) {
+      return;
+    }
+    NORMALIZERS.get(target.getClass()).apply(target);
+  }
+
+  private void apply(Object target) {
+    try {
+      for (Accessor accessor : accessors) {
+        Object value = (Object) accessor.getter().invokeExact(target);
+        if (value == null) {
+          continue;
+        }
+        if (accessor.string() || value instanceof String) {
+          String string = (String) value;
+          if (string.trim().isBlank()) {
+            accessor.setter().invokeExact(target, (Object) null);
+          } else if (accessor.pooled()) {
+            accessor.setter().invokeExact(target, (Object) POOL.get(string));
+          }
+        } else if (value instanceof List<?> list) {
+          if (!list.isEmpty()) {
+            normalizeList(target, accessor, list);
+          }
+        } else {
+          normalize(value);
+        }
+      }
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  private static void normalizeList(Object target, Accessor accessor, List<?> list)
+      throws Throwable {
+    if (!(list.get(0) instanceof String)) {
+      for (Object item : list) {
+        normalize(item);
+      }
+      return;
+    }
+    List<String> normalized = new ArrayList<>(list.size());
+    for (Object item : list) {
+      if (item == null) {
+        continue;
+      }
+      String value = item.toString();
+      if (!value.isBlank()) {
+        normalized.add(accessor.pooled() ? POOL.get(value.trim()) : value.trim());
+      }
+    }
+    accessor.setter().invokeExact(target, (Object) (normalized.isEmpty() ? null : normalized));
+  }
+
+  private record Accessor(
+      boolean string, boolean pooled, MethodHandle getter, MethodHandle setter) {
+  }
+}
@@ -0,0 +1,43 @@
+package io.dsub.discogs.batch.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of repetitive strings, so that equal values read from a dump share a single
+ * instance instead of each living until its chunk is written. Once the capacity is reached, further
+ * values are returned as is, hence the values seen first, which are the most common ones, stay
+ * without any eviction.
+ */
+public class StringPool {
+
+  private final int capacity;
+  private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+  public StringPool(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * @param value to be canonicalized.
+   * @return the pooled instance equal to given value, or the value itself if none.
+   */
+  public String get(String value) {
+    if (value == null) {
+      return null;
+    }
+    String pooled = strings.get(value);
+    if (pooled != null) {
+      return pooled;
+    }
+    if (strings.size() >= capacity) {
+      return value;
+    }
+    pooled = strings.putIfAbsent(value, value);
+    return pooled == null ? value : pooled;
+  }
+
+  public int size() {
+    return strings.size();
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import io.dsub.discogs.batch.job.UniqueRunIdIncrementer;
 import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,10 +21,14 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
@@ -52,6 +57,8 @@ class JobLaunchingRunnerTest {
   ConfigurableApplicationContext context;
   @Mock
   CountDownLatch countDownLatch;
+  @Mock
+  JobExplorer jobExplorer;
   @InjectMocks
   JobLaunchingRunner runner;
 
@@ -101,6 +108,94 @@ class JobLaunchingRunnerTest {
     verify(countDownLatch, times(1)).await();
   }
 
+  @Test
+  void givenNoJobInstance__WhenGetJobParameters__ShouldReturnResolvedParameters() {
+    // when
+    JobParameters parameters = runner.getJobParameters();
+
+    // then
+    assertThat(parameters).isSameAs(discogsJobParameters);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"FAILED", "STOPPED"})
+  void givenLastJobInstanceNotCompletedWithSameArguments__WhenGetJobParameters__ShouldRestartIt(
+      String status) {
+    // given
+    JobParameters resolved =
+        new JobParametersBuilder().addString("artist", "etag").toJobParameters();
+    JobParameters last =
+        new JobParametersBuilder(resolved)
+            .addLong(UniqueRunIdIncrementer.RUN_ID, 3L)
+            .toJobParameters();
+    runner =
+        spy(new JobLaunchingRunner(
+            job, resolved, jobLauncher, jobExplorer, context, countDownLatch));
+    givenLastJobExecution(BatchStatus.valueOf(status), last);
+
+    // when
+    JobParameters parameters = runner.getJobParameters();
+
+    // then
+    assertThat(parameters).isEqualTo(last);
+  }
+
+  @Test
+  void givenLastJobInstanceCompletedWithSameArguments__WhenGetJobParameters__ShouldStartNewOne() {
+    // given
+    JobParameters resolved =
+        new JobParametersBuilder().addString("artist", "etag").toJobParameters();
+    JobParameters last =
+        new JobParametersBuilder(resolved)
+            .addLong(UniqueRunIdIncrementer.RUN_ID, 3L)
+            .toJobParameters();
+    runner =
+        spy(new JobLaunchingRunner(
+            job, resolved, jobLauncher, jobExplorer, context, countDownLatch));
+    doReturn(new UniqueRunIdIncrementer()).when(job).getJobParametersIncrementer();
+    givenLastJobExecution(BatchStatus.COMPLETED, last);
+
+    // when
+    JobParameters parameters = runner.getJobParameters();
+
+    // then
+    assertThat(parameters.getString("artist")).isEqualTo("etag");
+    assertThat(parameters.getLong(UniqueRunIdIncrementer.RUN_ID)).isEqualTo(4L);
+  }
+
+  @Test
+  void givenLastJobInstanceFailedWithOtherArguments__WhenGetJobParameters__ShouldStartNewOne() {
+    // given
+    JobParameters resolved =
+        new JobParametersBuilder().addString("artist", "etag").toJobParameters();
+    JobParameters last =
+        new JobParametersBuilder()
+            .addString("artist", "previous")
+            .addLong(UniqueRunIdIncrementer.RUN_ID, 3L)
+            .toJobParameters();
+    runner =
+        spy(new JobLaunchingRunner(
+            job, resolved, jobLauncher, jobExplorer, context, countDownLatch));
+    doReturn(new UniqueRunIdIncrementer()).when(job).getJobParametersIncrementer();
+    givenLastJobExecution(BatchStatus.FAILED, last);
+
+    // when
+    JobParameters parameters = runner.getJobParameters();
+
+    // then
+    assertThat(parameters.getString("artist")).isEqualTo("etag");
+    assertThat(parameters.getLong(UniqueRunIdIncrementer.RUN_ID)).isEqualTo(4L);
+  }
+
+  private void givenLastJobExecution(BatchStatus status, JobParameters parameters) {
+    JobInstance lastInstance = new JobInstance(1L, "job");
+    JobExecution lastExecution = new JobExecution(lastInstance, 2L, parameters, null);
+    lastExecution.setStatus(status);
+    doReturn("job").when(job).getName();
+    doReturn(lastInstance).when(jobExplorer).getLastJobInstance("job");
+    doReturn(lastExecution).when(jobExplorer).getLastJobExecution(lastInstance);
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {0, 1})
   void givenJobExecutionHasFailureExceptions__WhenExitCodeGeneratorGetExitCode__ShouldReturnProperExitCode(
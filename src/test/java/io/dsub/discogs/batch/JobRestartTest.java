@@ -0,0 +1,190 @@
+package io.dsub.discogs.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.dsub.discogs.batch.config.BatchConfig;
+import io.dsub.discogs.batch.job.listener.ClearanceJobExecutionListener;
+import io.dsub.discogs.batch.job.listener.ExitSignalJobExecutionListener;
+import io.dsub.discogs.batch.job.listener.FingerprintJobExecutionListener;
+import io.dsub.discogs.batch.job.listener.IdCachingJobExecutionListener;
+import io.dsub.discogs.batch.job.listener.StopWatchStepExecutionListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.MapJobExplorerFactoryBean;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.MapJobRepositoryFactoryBean;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+/**
+ * Launches the step flow of {@link BatchConfig} twice on an in-memory job repository, failing its
+ * first step on the first launch.
+ */
+class JobRestartTest {
+
+  static final int ITEMS = 10;
+  static final int CHUNK_SIZE = 2;
+  static final int FAILING_ITEM = 5;
+
+  final AtomicBoolean failing = new AtomicBoolean(true);
+  final List<Integer> written = new ArrayList<>();
+  final List<String> executedSteps = new ArrayList<>();
+
+  JobRepository jobRepository;
+  JobExplorer jobExplorer;
+  SimpleJobLauncher jobLauncher;
+  Job job;
+  JobParameters discogsJobParameters;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    ResourcelessTransactionManager transactionManager = new ResourcelessTransactionManager();
+    MapJobRepositoryFactoryBean repositoryFactory =
+        new MapJobRepositoryFactoryBean(transactionManager);
+    repositoryFactory.afterPropertiesSet();
+    jobRepository = repositoryFactory.getObject();
+    MapJobExplorerFactoryBean explorerFactory = new MapJobExplorerFactoryBean(repositoryFactory);
+    explorerFactory.afterPropertiesSet();
+    jobExplorer = explorerFactory.getObject();
+    jobLauncher = new SimpleJobLauncher();
+    jobLauncher.setJobRepository(jobRepository);
+    jobLauncher.afterPropertiesSet();
+
+    StepBuilderFactory stepBuilderFactory =
+        new StepBuilderFactory(jobRepository, transactionManager);
+    Step artistStep =
+        stepBuilderFactory
+            .get("artist")
+            .<Integer, Integer>chunk(CHUNK_SIZE)
+            .reader(new CountingItemReader())
+            .writer(
+                items -> {
+                  if (failing.get() && items.contains(FAILING_ITEM)) {
+                    throw new IllegalStateException("failing on item " + FAILING_ITEM);
+                  }
+                  written.addAll(items);
+                })
+            .listener(new StopWatchStepExecutionListener(new AtomicLong()))
+            .build();
+
+    job =
+        new BatchConfig(
+            artistStep,
+            getTaskletStep(stepBuilderFactory, "label"),
+            getTaskletStep(stepBuilderFactory, "master"),
+            getTaskletStep(stepBuilderFactory, "release"),
+            new JobBuilderFactory(jobRepository),
+            mock(IdCachingJobExecutionListener.class),
+            mock(ExitSignalJobExecutionListener.class),
+            mock(ClearanceJobExecutionListener.class),
+            mock(FingerprintJobExecutionListener.class))
+            .discogsBatchJob();
+
+    discogsJobParameters =
+        new JobParametersBuilder().addString("ARTIST", "etag").toJobParameters();
+  }
+
+  @Test
+  void givenStepFailed__WhenRelaunchedWithSameArguments__ShouldResumeFromCheckpoint()
+      throws Exception {
+    // when
+    JobExecution failed = jobLauncher.run(job, getRunner().getJobParameters());
+
+    // then
+    assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+    assertThat(executedSteps).isEmpty();
+    assertThat(written).containsExactly(1, 2, 3, 4);
+
+    // given
+    failing.set(false);
+    written.clear();
+
+    // when
+    JobExecution restarted = jobLauncher.run(job, getRunner().getJobParameters());
+
+    // then
+    assertThat(restarted.getJobInstance().getInstanceId())
+        .isEqualTo(failed.getJobInstance().getInstanceId());
+    assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(written).containsExactly(5, 6, 7, 8, 9, 10);
+    assertThat(executedSteps).containsExactly("label", "master", "release");
+    assertThat(restarted.getStepExecutions())
+        .filteredOn(stepExecution -> stepExecution.getStepName().equals("artist"))
+        .singleElement()
+        .extracting(StepExecution::getReadCount)
+        .isEqualTo(ITEMS - 4);
+  }
+
+  @Test
+  void givenJobCompleted__WhenRelaunchedWithSameArguments__ShouldStartNewInstance()
+      throws Exception {
+    // given
+    failing.set(false);
+    JobExecution completed = jobLauncher.run(job, getRunner().getJobParameters());
+    written.clear();
+
+    // when
+    JobExecution next = jobLauncher.run(job, getRunner().getJobParameters());
+
+    // then
+    assertThat(completed.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(next.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(next.getJobInstance().getInstanceId())
+        .isNotEqualTo(completed.getJobInstance().getInstanceId());
+    assertThat(written).hasSize(ITEMS);
+  }
+
+  private JobLaunchingRunner getRunner() {
+    return new JobLaunchingRunner(job, discogsJobParameters, jobLauncher, jobExplorer, null, null);
+  }
+
+  private Step getTaskletStep(StepBuilderFactory stepBuilderFactory, String name) {
+    return stepBuilderFactory
+        .get(name)
+        .tasklet(
+            (contribution, chunkContext) -> {
+              executedSteps.add(name);
+              return RepeatStatus.FINISHED;
+            })
+        .build();
+  }
+
+  /** reads 1 to {@link #ITEMS}, saving its read count on each commit. */
+  static class CountingItemReader extends AbstractItemCountingItemStreamItemReader<Integer> {
+
+    CountingItemReader() {
+      setName("reader");
+    }
+
+    @Override
+    protected Integer doRead() {
+      int item = getCurrentItemCount();
+      return item <= ITEMS ? item : null;
+    }
+
+    @Override
+    protected void doOpen() {
+    }
+
+    @Override
+    protected void doClose() {
+    }
+  }
+}
@@ -86,6 +86,30 @@ class DefaultJobParameterResolverTest {
         .hasMessage("failed to parse chunkSize: SpongeBob");
   }
 
+  @Test
+  void whenParsePartitions__ShouldReturnSameValue() throws InvalidArgumentException {
+    ApplicationArguments args = new DefaultApplicationArguments("--partitions=8");
+
+    // when
+    int result = jobParameterResolver.parsePartitions(args);
+
+    // then
+    assertThat(result).isEqualTo(8);
+  }
+
+  @Test
+  void whenParsePartitions__WithNonPositiveValue__ShouldThrow() {
+    ApplicationArguments args = new DefaultApplicationArguments("--partitions=0");
+
+    // when
+    Throwable t = catchThrowable(() -> jobParameterResolver.parsePartitions(args));
+
+    // then
+    assertThat(t)
+        .isInstanceOf(InvalidArgumentException.class)
+        .hasMessage("failed to parse partitions: 0");
+  }
+
   @Test
   void whenResolve__ShouldCallDumpResolverOnlyOnce()
       throws InvalidArgumentException, DumpNotFoundException {
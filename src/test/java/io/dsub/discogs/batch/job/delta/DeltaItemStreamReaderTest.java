@@ -0,0 +1,106 @@
+package io.dsub.discogs.batch.job.delta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.dsub.discogs.batch.domain.artist.ArtistXML;
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.batch.item.ItemStreamReader;
+
+class DeltaItemStreamReaderTest {
+
+  static final IdSnapshotFingerprint TABLE = new IdSnapshotFingerprint(2, 70_000, 70_001);
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  FileUtil fileUtil;
+
+  FingerprintStore store;
+
+  @BeforeEach
+  void setUp() throws FileException {
+    MockitoAnnotations.openMocks(this);
+    given(fileUtil.getFilePath(anyString()))
+        .willAnswer(invocation -> tempDir.resolve((String) invocation.getArgument(0)));
+    given(fileUtil.isTemporary()).willReturn(false);
+    store = new FingerprintStore(fileUtil);
+  }
+
+  @Test
+  void whenItemsAreUnchanged__ShouldOnlyReadChangedItems() throws Exception {
+    // given
+    EntityFingerprints previous = new EntityFingerprints(store);
+    readAll(previous, new ArrayList<>(), artist(1, "a"), artist(70_000, "b"));
+    previous.save(Type.ARTIST, TABLE);
+    EntityFingerprints fingerprints = new EntityFingerprints(store);
+    fingerprints.load(Type.ARTIST, TABLE);
+    List<ArtistXML> unchanged = new ArrayList<>();
+
+    // when
+    List<ArtistXML> items =
+        readAll(fingerprints, unchanged, artist(1, "a"), artist(70_000, "c"), artist(3, "d"));
+
+    // then
+    assertThat(items).extracting(ArtistXML::getId).containsExactly(70_000, 3);
+    assertThat(unchanged).extracting(ArtistXML::getId).containsExactly(1);
+  }
+
+  @Test
+  void whenTableHasChanged__ShouldReadEveryItem() throws Exception {
+    // given
+    EntityFingerprints previous = new EntityFingerprints(store);
+    readAll(previous, new ArrayList<>(), artist(1, "a"), artist(2, "b"));
+    previous.save(Type.ARTIST, TABLE);
+    EntityFingerprints fingerprints = new EntityFingerprints(store);
+    fingerprints.load(Type.ARTIST, new IdSnapshotFingerprint(3, 70_000, 70_004));
+    List<ArtistXML> unchanged = new ArrayList<>();
+
+    // when
+    List<ArtistXML> items = readAll(fingerprints, unchanged, artist(1, "a"), artist(2, "b"));
+
+    // then
+    assertThat(items).extracting(ArtistXML::getId).containsExactly(1, 2);
+    assertThat(unchanged).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ArtistXML> readAll(
+      EntityFingerprints fingerprints, List<ArtistXML> unchanged, ArtistXML... artists)
+      throws Exception {
+    ItemStreamReader<ArtistXML> delegate = mock(ItemStreamReader.class);
+    ArtistXML[] rest = new ArtistXML[artists.length];
+    System.arraycopy(artists, 1, rest, 0, artists.length - 1);
+    given(delegate.read()).willReturn(artists[0], rest);
+    DeltaItemStreamReader<ArtistXML> reader =
+        new DeltaItemStreamReader<>(
+            delegate, ArtistXML.class, ArtistXML::getId, fingerprints, unchanged::add);
+    List<ArtistXML> items = new ArrayList<>();
+    ArtistXML item;
+    while ((item = reader.read()) != null) {
+      items.add(item);
+    }
+    return items;
+  }
+
+  private ArtistXML artist(int id, String name) {
+    ArtistXML artist = new ArtistXML();
+    artist.setId(id);
+    artist.setName(name);
+    return artist;
+  }
+}
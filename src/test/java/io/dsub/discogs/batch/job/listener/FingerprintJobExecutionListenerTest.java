@@ -0,0 +1,102 @@
+package io.dsub.discogs.batch.job.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.dsub.discogs.batch.job.delta.EntityFingerprints;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.registry.IdSnapshotFingerprint;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+
+class FingerprintJobExecutionListenerTest {
+
+  static final IdSnapshotFingerprint TABLE_FINGERPRINT = new IdSnapshotFingerprint(2, 2, 3);
+
+  EntityFingerprints fingerprints;
+  DSLContext context;
+  MockedStatic<IdSnapshotFingerprint> snapshotFingerprint;
+  FingerprintJobExecutionListener listener;
+
+  @BeforeEach
+  void setUp() {
+    fingerprints = mock(EntityFingerprints.class);
+    context = mock(DSLContext.class);
+    doReturn(true).when(fingerprints).isEnabled();
+    snapshotFingerprint = mockStatic(IdSnapshotFingerprint.class);
+    snapshotFingerprint
+        .when(() -> IdSnapshotFingerprint.fetch(context, Type.ARTIST))
+        .thenReturn(TABLE_FINGERPRINT);
+    listener = new FingerprintJobExecutionListener(fingerprints, context);
+  }
+
+  @AfterEach
+  void tearDown() {
+    snapshotFingerprint.close();
+  }
+
+  @Test
+  void whenJobCompleted__ShouldSaveFingerprints() {
+    // given
+    JobExecution jobExecution = getJobExecution(BatchStatus.COMPLETED, ExitStatus.COMPLETED);
+
+    // when
+    listener.afterJob(jobExecution);
+
+    // then
+    verify(fingerprints).save(Type.ARTIST, TABLE_FINGERPRINT);
+    verify(fingerprints).clear();
+  }
+
+  @Test
+  void whenStepFailed__ShouldNotSaveFingerprints() {
+    // given
+    JobExecution jobExecution = getJobExecution(BatchStatus.FAILED, ExitStatus.FAILED);
+    jobExecution.getStepExecutions().iterator().next()
+        .addFailureException(new IllegalStateException("step failed"));
+
+    // when
+    listener.afterJob(jobExecution);
+
+    // then
+    verify(fingerprints, never()).save(any(), any());
+    verify(fingerprints).clear();
+  }
+
+  @Test
+  void whenStepExitedAsFailedWithCompletedStatus__ShouldNotSaveFingerprints() {
+    // given
+    JobExecution jobExecution = getJobExecution(BatchStatus.COMPLETED, ExitStatus.FAILED);
+
+    // when
+    listener.afterJob(jobExecution);
+
+    // then
+    verify(fingerprints, never()).save(eq(Type.ARTIST), any());
+  }
+
+  private JobExecution getJobExecution(BatchStatus stepStatus, ExitStatus stepExitStatus) {
+    JobParameters parameters =
+        new JobParametersBuilder().addString("artist", "etag").toJobParameters();
+    JobExecution jobExecution = new JobExecution(1L, parameters);
+    StepExecution stepExecution = jobExecution.createStepExecution("artist step");
+    stepExecution.setStatus(stepStatus);
+    stepExecution.setExitStatus(stepExitStatus);
+    jobExecution.setStatus(BatchStatus.COMPLETED);
+    return jobExecution;
+  }
+}
@@ -0,0 +1,69 @@
+package io.dsub.discogs.batch.job.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.dsub.discogs.batch.job.prune.EntityPruner;
+import io.dsub.discogs.batch.job.prune.SeenIds;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.job.step.core.ArtistStepConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+class PruningStepExecutionListenerTest {
+
+  EntityPruner pruner;
+  SeenIds seenIds;
+  PruningStepExecutionListener listener;
+
+  @BeforeEach
+  void setUp() {
+    pruner = mock(EntityPruner.class);
+    seenIds = new SeenIds();
+    seenIds.setEnabled(true);
+    listener = new PruningStepExecutionListener(seenIds, pruner);
+  }
+
+  @Test
+  void whenCoreStepCompleted__ShouldPruneUnseenEntities() {
+    // given
+    seenIds.add(Type.ARTIST, 1);
+    StepExecution stepExecution = getStepExecution(new JobExecution(1L));
+
+    // when
+    listener.afterStep(stepExecution);
+
+    // then
+    verify(pruner).prune(eq(Type.ARTIST), same(seenIds.get(Type.ARTIST)));
+    assertThat(seenIds.get(Type.ARTIST).isEmpty()).isTrue();
+  }
+
+  @Test
+  void whenJobRestarted__ShouldNotPrune() {
+    // given
+    seenIds.add(Type.ARTIST, 1);
+    JobExecution jobExecution = new JobExecution(1L);
+    jobExecution.getExecutionContext().putString(IdCachingJobExecutionListener.RESTARTED, "true");
+
+    // when
+    listener.afterStep(getStepExecution(jobExecution));
+
+    // then
+    verify(pruner, never()).prune(any(), any());
+  }
+
+  private StepExecution getStepExecution(JobExecution jobExecution) {
+    StepExecution stepExecution =
+        new StepExecution(ArtistStepConfig.ARTIST_CORE_INSERTION_STEP, jobExecution);
+    stepExecution.setExitStatus(ExitStatus.COMPLETED);
+    return stepExecution;
+  }
+}
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import ch.qos.logback.classic.Level;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistryStats;
 import io.dsub.discogs.batch.testutil.LogSpy;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,16 +69,17 @@ class StopWatchStepExecutionListenerUnitTest {
     listener.afterStep(stepExecution);
 
     // then
-    verify(stepExecution, times(1)).setStatus(BatchStatus.COMPLETED);
+    verify(stepExecution, never()).setStatus(BatchStatus.COMPLETED);
   }
 
   @Test
-  void whenListenerCalledForAfterStep__ShouldReturnExitStatus() {
+  void whenListenerCalledForAfterStep__ShouldKeepExitStatus() {
     // when
     ExitStatus exitStatus = listener.afterStep(stepExecution);
 
     // then
-    assertThat(exitStatus).isNotNull().isEqualTo(ExitStatus.COMPLETED);
+    assertThat(exitStatus).isNull();
+    verify(stepExecution, never()).setExitStatus(Mockito.any());
   }
 
   @Test
@@ -142,4 +147,46 @@ class StopWatchStepExecutionListenerUnitTest {
       fail(e);
     }
   }
+
+  @Test
+  void givenRegistry__WhenAfterStepCalled__ShouldReportRegistryStatsInUse() {
+    // given
+    EntityIdRegistry idRegistry = mock(EntityIdRegistry.class);
+    doReturn(List.of()).doReturn(List.of(
+        new EntityIdRegistryStats(EntityIdRegistry.Type.ARTIST, 10, 2048, 5, 3, 0),
+        new EntityIdRegistryStats(EntityIdRegistry.Type.LABEL, 0, 1024, 0, 0, 0)))
+        .when(idRegistry).getStats();
+    listener = Mockito.spy(new StopWatchStepExecutionListener(itemsCounter, idRegistry));
+    doReturn(stopWatch).when(listener).getStopWatch();
+
+    // when
+    listener.beforeStep(stepExecution);
+    listener.afterStep(stepExecution);
+
+    // then
+    List<String> logs = logSpy.getLogsByLevelAsString(Level.INFO, true);
+    assertThat(logs).hasSize(2);
+    assertThat(logs.get(1)).contains("artist", "10", "2 KB", "5", "3");
+  }
+
+  @Test
+  void givenRegistryCountersBeforeStep__WhenAfterStepCalled__ShouldReportStepCountsOnly() {
+    // given
+    EntityIdRegistry idRegistry = mock(EntityIdRegistry.class);
+    EntityIdRegistry.Type genre = EntityIdRegistry.Type.GENRE;
+    doReturn(List.of(new EntityIdRegistryStats(genre, 4, 1024, 7, 2, 0)))
+        .doReturn(List.of(new EntityIdRegistryStats(genre, 4, 1024, 10, 5, 0)))
+        .when(idRegistry).getStats();
+    listener = Mockito.spy(new StopWatchStepExecutionListener(itemsCounter, idRegistry));
+    doReturn(stopWatch).when(listener).getStopWatch();
+
+    // when
+    listener.beforeStep(stepExecution);
+    listener.afterStep(stepExecution);
+
+    // then
+    List<String> logs = logSpy.getLogsByLevelAsString(Level.INFO, true);
+    assertThat(logs).hasSize(2);
+    assertThat(logs.get(1)).contains("genre", "hits: 3", "misses: 3");
+  }
 }
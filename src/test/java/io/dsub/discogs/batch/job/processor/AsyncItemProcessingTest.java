@@ -0,0 +1,116 @@
+package io.dsub.discogs.batch.job.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemWriter;
+
+class AsyncItemProcessingTest {
+
+  AsyncItemProcessing processing;
+  ItemProcessListener<Object, Object> processListener;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    processing = new AsyncItemProcessing(2);
+    processListener = mock(ItemProcessListener.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    processing.destroy();
+  }
+
+  @Test
+  void whenItemProcessed__ShouldNotifyListenerOnThreadOfDelegate() throws Exception {
+    // given
+    List<String> threads = new ArrayList<>();
+    ItemProcessListener<Integer, String> recordingListener =
+        new ItemProcessListener<>() {
+          @Override
+          public void beforeProcess(Integer item) {
+            threads.add(Thread.currentThread().getName());
+          }
+
+          @Override
+          public void afterProcess(Integer item, String result) {
+            threads.add(Thread.currentThread().getName());
+          }
+
+          @Override
+          public void onProcessError(Integer item, Exception e) {
+          }
+        };
+    AsyncItemProcessor<Integer, String> processor =
+        processing.processor(
+            item -> {
+              threads.add(Thread.currentThread().getName());
+              return String.valueOf(item);
+            },
+            recordingListener);
+
+    // when
+    String result = processor.process(1).get();
+
+    // then
+    assertThat(result).isEqualTo("1");
+    assertThat(threads).hasSize(3).allMatch(name -> name.startsWith("async-processor-"));
+    assertThat(threads).containsOnly(threads.get(0));
+  }
+
+  @Test
+  void whenDelegateFails__ShouldNotifyProcessError() throws Exception {
+    // given
+    IllegalStateException failure = new IllegalStateException("failed");
+    AsyncItemProcessor<Integer, String> processor =
+        processing.processor(
+            item -> {
+              throw failure;
+            },
+            processListener);
+
+    // when
+    Future<String> result = processor.process(1);
+
+    // then
+    assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+    verify(processListener).onProcessError(1, failure);
+    verify(processListener, never()).afterProcess(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void whenResultsWritten__ShouldLeaveOutFilteredItems() throws Exception {
+    // given
+    ItemWriter<String> delegate = mock(ItemWriter.class);
+    AsyncItemProcessor<Integer, String> processor =
+        processing.processor(
+            item -> item % 2 == 0 ? null : String.valueOf(item), processListener);
+    AsyncItemWriter<String> writer = processing.writer(delegate);
+    List<Future<String>> futures = new ArrayList<>();
+    for (int i = 1; i <= 4; i++) {
+      futures.add(processor.process(i));
+    }
+
+    // when
+    writer.write(futures);
+
+    // then
+    verify(delegate).write(List.of("1", "3"));
+  }
+}
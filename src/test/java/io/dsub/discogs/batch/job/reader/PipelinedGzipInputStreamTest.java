@@ -0,0 +1,90 @@
+package io.dsub.discogs.batch.job.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.dsub.discogs.batch.TestArguments;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PipelinedGzipInputStreamTest {
+
+  @TempDir
+  Path tempDir;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"artist.xml.gz", "label.xml.gz", "master.xml.gz", "release.xml.gz"})
+  void whenRead__ShouldInflateSameBytesAsGzipInputStream(String fileName) throws Exception {
+    // given
+    Path path = Path.of(TestArguments.BASE_XML_PATH, fileName);
+    byte[] expected;
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+      expected = in.readAllBytes();
+    }
+
+    // when
+    byte[] bytes;
+    try (InputStream in = new PipelinedGzipInputStream(path, null, 64, 128, 1)) {
+      bytes = in.readAllBytes();
+    }
+
+    // then
+    assertThat(bytes).isNotEmpty().isEqualTo(expected);
+  }
+
+  @Test
+  void whenMembersAreConcatenated__ShouldInflateAllOfThem() throws Exception {
+    // given
+    byte[] first = "<root>".getBytes();
+    byte[] second = "</root>".getBytes();
+    Path path = tempDir.resolve("members.xml.gz");
+    try (OutputStream out = Files.newOutputStream(path)) {
+      out.write(gzip(first));
+      out.write(gzip(second));
+    }
+
+    // when
+    byte[] bytes;
+    try (InputStream in = new PipelinedGzipInputStream(path, null)) {
+      bytes = in.readAllBytes();
+    }
+
+    // then
+    assertThat(new String(bytes)).isEqualTo("<root></root>");
+  }
+
+  @Test
+  void whenFileIsTruncated__ShouldThrow() throws Exception {
+    // given
+    byte[] gzip = gzip("<root></root>".repeat(100).getBytes());
+    Path path = tempDir.resolve("truncated.xml.gz");
+    Files.write(path, Arrays.copyOf(gzip, gzip.length - 4));
+
+    // when
+    Throwable t;
+    try (InputStream in = new PipelinedGzipInputStream(path, null)) {
+      t = catchThrowable(in::readAllBytes);
+    }
+
+    // then
+    assertThat(t).isInstanceOf(IOException.class);
+  }
+
+  private byte[] gzip(byte[] bytes) throws IOException {
+    Path path = Files.createTempFile(tempDir, "member", ".gz");
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+      out.write(bytes);
+    }
+    return Files.readAllBytes(path);
+  }
+}
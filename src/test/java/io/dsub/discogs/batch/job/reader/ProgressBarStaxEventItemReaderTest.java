@@ -15,6 +15,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -170,6 +172,50 @@ class ProgressBarStaxEventItemReaderTest {
     }
   }
 
+  @Test
+  void whenRestarted__ShouldResumeFromCheckpoint() throws Exception {
+    // given
+    Path path = Path.of(TestArguments.BASE_XML_PATH, "artist.xml.gz");
+    List<ArtistSubItemsXML> expected =
+        readAll(new ProgressBarStaxEventItemReader<>(ArtistSubItemsXML.class, path, "artist"),
+            new ExecutionContext());
+    ExecutionContext ctx = new ExecutionContext();
+    ProgressBarStaxEventItemReader<ArtistSubItemsXML> failed =
+        new ProgressBarStaxEventItemReader<>(ArtistSubItemsXML.class, path, "artist");
+    try {
+      failed.open(ctx);
+      failed.read();
+      failed.read();
+      failed.update(ctx);
+      failed.read();
+    } finally {
+      failed.close();
+    }
+
+    // when
+    List<ArtistSubItemsXML> items =
+        readAll(new ProgressBarStaxEventItemReader<>(ArtistSubItemsXML.class, path, "artist"),
+            ctx);
+
+    // then
+    assertThat(expected).hasSizeGreaterThan(2);
+    assertThat(items).isEqualTo(expected.subList(2, expected.size()));
+  }
+
+  private <T> List<T> readAll(ProgressBarStaxEventItemReader<T> reader, ExecutionContext ctx)
+      throws Exception {
+    List<T> items = new ArrayList<>();
+    try {
+      reader.open(ctx);
+      T item;
+      while ((item = reader.read()) != null) {
+        items.add(item);
+      }
+    } finally {
+      reader.close();
+    }
+    return items;
+  }
 
   @Test
   @SuppressWarnings("unchecked")
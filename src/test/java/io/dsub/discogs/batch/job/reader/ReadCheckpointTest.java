@@ -0,0 +1,69 @@
+package io.dsub.discogs.batch.job.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class ReadCheckpointTest {
+
+  @Test
+  void whenChunksCommitOutOfOrder__ShouldSaveLowestUncommittedOrdinal() throws Exception {
+    // given
+    ReadCheckpoint checkpoint = new ReadCheckpoint("test");
+    ExecutionContext ctx = new ExecutionContext();
+    checkpoint.restore(ctx);
+    checkpoint.read();
+    checkpoint.read();
+
+    // when
+    Thread thread =
+        new Thread(() -> {
+          checkpoint.read();
+          checkpoint.read();
+          checkpoint.save(ctx);
+        });
+    thread.start();
+    thread.join();
+
+    // then
+    assertThat(ctx.getLong("test.checkpoint")).isZero();
+
+    // when
+    checkpoint.save(ctx);
+
+    // then
+    assertThat(ctx.getLong("test.checkpoint")).isEqualTo(4);
+  }
+
+  @Test
+  void whenRestored__ShouldContinueFromSavedOrdinal() {
+    // given
+    ExecutionContext ctx = new ExecutionContext();
+    ctx.putLong("test.checkpoint", 10);
+    ReadCheckpoint checkpoint = new ReadCheckpoint("test");
+
+    // when
+    long resumeFrom = checkpoint.restore(ctx);
+    checkpoint.read();
+
+    // then
+    assertThat(resumeFrom).isEqualTo(10);
+    assertThat(checkpoint.get()).isEqualTo(10);
+
+    // when
+    checkpoint.save(ctx);
+
+    // then
+    assertThat(ctx.getLong("test.checkpoint")).isEqualTo(11);
+  }
+
+  @Test
+  void whenNotRestarted__ShouldStartFromZero() {
+    // when
+    long resumeFrom = new ReadCheckpoint("test").restore(new ExecutionContext());
+
+    // then
+    assertThat(resumeFrom).isZero();
+  }
+}
@@ -0,0 +1,201 @@
+package io.dsub.discogs.batch.job.reader.binder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.dsub.discogs.batch.TestArguments;
+import io.dsub.discogs.batch.TestArguments.ItemReaderTestArgument;
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.job.reader.ProgressBarStaxEventItemReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.batch.item.ExecutionContext;
+
+class StaxItemBindersTest {
+
+  static final String RELEASE =
+      "<release id=\"1\" status=\"Accepted\">"
+          + "<images><image uri=\"u\"/></images>"
+          + "<title>t</title>"
+          + "<tracklist><track><position>A1</position><title>x</title></track></tracklist>"
+          + "<extraartists><artist><id>2</id><name>n</name></artist></extraartists>"
+          + "<videos><video src=\"v\"><title>y</title></video></videos>"
+          + "<companies><company><id>3</id></company></companies>"
+          + "<genres><genre>Rock</genre></genres>"
+          + "</release>";
+
+  static Stream<ItemReaderTestArgument> bindingTestArguments() {
+    return Stream.concat(
+        TestArguments.itemReaderTestArguments(),
+        Stream.of(new ItemReaderTestArgument(MasterMainReleaseXML.class, "master")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("bindingTestArguments")
+  void whenBoundFromCursor__ShouldBeEqualToJaxb(ItemReaderTestArgument arg) throws Exception {
+    // when
+    List<?> jaxbItems = readAll(arg, false);
+    List<?> cursorItems = readAll(arg, true);
+
+    // then
+    assertThat(jaxbItems).isNotEmpty();
+    assertThat(cursorItems).isEqualTo(jaxbItems);
+  }
+
+  @Test
+  void whenParseInteger__ShouldFollowJaxbLexicalRules() {
+    assertThat(StaxBindings.parseInteger(" 12\n")).isEqualTo(12);
+    assertThat(StaxBindings.parseInteger("-3")).isEqualTo(-3);
+    assertThat(StaxBindings.parseInteger("")).isZero();
+    assertThat(StaxBindings.parseInteger("12a")).isNull();
+    assertThat(StaxBindings.parseInteger(null)).isNull();
+    assertThat(StaxBindings.parseShort("1999")).isEqualTo((short) 1999);
+  }
+
+  @Test
+  void whenWrapperIsEmpty__ShouldReturnEmptyList() throws Exception {
+    // given
+    XMLStreamReader reader = getReader("<genres><other>x</other></genres>");
+
+    // when
+    List<String> genres = StaxBindings.readList(reader, "genre", StaxBindings::readText);
+
+    // then
+    assertThat(genres).isEmpty();
+    assertThat(reader.getEventType()).isEqualTo(XMLStreamConstants.END_ELEMENT);
+    assertThat(reader.getLocalName()).isEqualTo("genres");
+  }
+
+  @Test
+  void whenReadText__ShouldIgnoreNestedElements() throws Exception {
+    // given
+    XMLStreamReader reader = getReader("<notes>a<![CDATA[&b]]><i>c</i>d</notes>");
+
+    // when
+    String text = StaxBindings.readText(reader);
+
+    // then
+    assertThat(text).isEqualTo("a&bd");
+    assertThat(reader.getLocalName()).isEqualTo("notes");
+  }
+
+  @Test
+  void whenElementIsEmpty__ShouldReadEmptyText() throws Exception {
+    // given
+    XMLStreamReader reader = getReader("<profile/>");
+
+    // when
+    String text = StaxBindings.readText(reader);
+
+    // then
+    assertThat(text).isEmpty();
+  }
+
+  @Test
+  void whenCoreItemBound__ShouldNeverBindSubtreesItDoesNotRead() throws Exception {
+    // given
+    List<String> bound = new ArrayList<>();
+    XMLStreamReader reader = getReader(RELEASE);
+
+    // when
+    ReleaseItemXML release = new RecordingReleaseItemXMLBinder(bound).bind(reader);
+
+    // then
+    assertThat(bound).containsExactly("title", "genres");
+    assertThat(release.getTitle()).isEqualTo("t");
+    assertThat(release.getGenres()).containsExactly("Rock");
+    assertThat(reader.getEventType()).isEqualTo(XMLStreamConstants.END_ELEMENT);
+    assertThat(reader.getLocalName()).isEqualTo("release");
+  }
+
+  @Test
+  void whenFannedOut__ShouldHandEachSubtreeToItsReaderAlone() throws Exception {
+    // given
+    List<String> primaryBound = new ArrayList<>();
+    List<String> projectionBound = new ArrayList<>();
+    List<ReleaseItemSubItemsXML> subItems = new ArrayList<>();
+    FanOutStaxItemBinder<ReleaseItemXML> binder =
+        new FanOutStaxItemBinder<>(new RecordingReleaseItemXMLBinder(primaryBound))
+            .project(
+                new ReleaseItemSubItemsXMLBinder() {
+                  @Override
+                  protected boolean bindChild(
+                      XMLStreamReader reader, String name, ReleaseItemSubItemsXML release)
+                      throws XMLStreamException {
+                    projectionBound.add(name);
+                    return super.bindChild(reader, name, release);
+                  }
+                },
+                (release, projection) -> projection.setGenres(release.getGenres()),
+                subItems::add);
+
+    // when
+    binder.bind(getReader(RELEASE));
+
+    // then
+    assertThat(primaryBound).containsExactly("title", "genres");
+    assertThat(projectionBound).containsExactly("tracklist", "extraartists", "videos", "companies");
+    assertThat(subItems)
+        .singleElement()
+        .satisfies(release -> assertThat(release.getReleaseTracks()).hasSize(1))
+        .satisfies(release -> assertThat(release.getGenres()).containsExactly("Rock"));
+  }
+
+  private List<?> readAll(ItemReaderTestArgument arg, boolean cursor) throws Exception {
+    return doReadAll(arg.getMappedClass(), arg, cursor);
+  }
+
+  private <T> List<T> doReadAll(Class<T> mappedClass, ItemReaderTestArgument arg, boolean cursor)
+      throws Exception {
+    StaxItemBinder<T> binder = cursor ? StaxItemBinders.get(mappedClass) : null;
+    ProgressBarStaxEventItemReader<T> reader =
+        new ProgressBarStaxEventItemReader<>(
+            mappedClass, arg.getXmlPath(), binder, arg.getRootElementName());
+    List<T> items = new ArrayList<>();
+    try {
+      reader.open(new ExecutionContext());
+      T item = reader.read();
+      while (item != null) {
+        items.add(item);
+        item = reader.read();
+      }
+    } finally {
+      reader.close();
+    }
+    return items;
+  }
+
+  private XMLStreamReader getReader(String xml) throws Exception {
+    XMLStreamReader reader =
+        XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(xml));
+    reader.nextTag();
+    return reader;
+  }
+
+  /** records the name of each child it is asked to bind. */
+  static class RecordingReleaseItemXMLBinder extends ReleaseItemXMLBinder {
+
+    private final List<String> bound;
+
+    RecordingReleaseItemXMLBinder(List<String> bound) {
+      this.bound = bound;
+    }
+
+    @Override
+    protected boolean bindChild(XMLStreamReader reader, String name, ReleaseItemXML release)
+        throws XMLStreamException {
+      bound.add(name);
+      return super.bindChild(reader, name, release);
+    }
+  }
+}
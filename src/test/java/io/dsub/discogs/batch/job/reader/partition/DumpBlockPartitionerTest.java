@@ -0,0 +1,197 @@
+package io.dsub.discogs.batch.job.reader.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import io.dsub.discogs.batch.TestArguments;
+import io.dsub.discogs.batch.domain.label.LabelXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemXML;
+import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.dump.EntityType;
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.reader.ProgressBarStaxEventItemReader;
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinders;
+import io.dsub.discogs.batch.job.reader.partition.DumpBlockIndex.Block;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+class DumpBlockPartitionerTest {
+
+  static final Path RELEASE_XML_PATH = Path.of(TestArguments.BASE_XML_PATH, "release.xml.gz");
+  static final Path LABEL_XML_PATH = Path.of(TestArguments.BASE_XML_PATH, "label.xml.gz");
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  FileUtil fileUtil;
+
+  @BeforeEach
+  void setUp() throws FileException {
+    MockitoAnnotations.openMocks(this);
+    given(fileUtil.getFilePath(anyString()))
+        .willAnswer(invocation -> tempDir.resolve((String) invocation.getArgument(0)));
+  }
+
+  @Test
+  void whenEachRecordIsBlocked__ShouldReadSameItemsByPartitions() throws Exception {
+    // given
+    Path blocksPath = tempDir.resolve("release.xml.gz.blocks");
+    DumpBlockIndex index = new DumpBlockIndexer(1, "release").index(RELEASE_XML_PATH, blocksPath,
+        null);
+    List<ReleaseItemXML> expected =
+        readAll(new ProgressBarStaxEventItemReader<>(ReleaseItemXML.class, RELEASE_XML_PATH,
+            StaxItemBinders.get(ReleaseItemXML.class), "release"));
+
+    // when
+    List<ReleaseItemXML> items = new ArrayList<>();
+    for (DumpPartition partition : DumpBlockPartitioner.split(index, 2)) {
+      items.addAll(
+          readAll(new ProgressBarStaxEventItemReader<>(ReleaseItemXML.class,
+              new DumpBlockRange(blocksPath, index, partition),
+              StaxItemBinders.get(ReleaseItemXML.class), null, "release")));
+    }
+
+    // then
+    assertThat(index.getBlockCount()).isEqualTo(expected.size());
+    assertThat(index.getRecordCount()).isEqualTo(expected.size());
+    assertThat(items).isNotEmpty().isEqualTo(expected);
+  }
+
+  @Test
+  void whenRecordsHaveNestedElementsOfSameName__ShouldOnlyCutAtRecords() throws Exception {
+    // given
+    Path blocksPath = tempDir.resolve("label.xml.gz.blocks");
+    List<LabelXML> expected =
+        readAll(new ProgressBarStaxEventItemReader<>(LabelXML.class, LABEL_XML_PATH,
+            StaxItemBinders.get(LabelXML.class), "label"));
+
+    // when
+    DumpBlockIndex index = new DumpBlockIndexer(1, "label").index(LABEL_XML_PATH, blocksPath,
+        null);
+    List<LabelXML> items =
+        readAll(new ProgressBarStaxEventItemReader<>(LabelXML.class,
+            new DumpBlockRange(blocksPath, index, new DumpPartition(0, 0)),
+            StaxItemBinders.get(LabelXML.class), null, "label"));
+
+    // then
+    assertThat(index.getRecordCount()).isEqualTo(expected.size());
+    assertThat(items).containsExactly(expected.get(0));
+  }
+
+  @Test
+  void whenRangeIsRestarted__ShouldSeekToBlockOfCheckpoint() throws Exception {
+    // given
+    Path blocksPath = tempDir.resolve("release.xml.gz.blocks");
+    DumpBlockIndex index = new DumpBlockIndexer(1, "release").index(RELEASE_XML_PATH, blocksPath,
+        null);
+    DumpBlockRange range = new DumpBlockRange(blocksPath, index, new DumpPartition(0, 2));
+    List<ReleaseItemXML> expected = readAll(getReader(range), new ExecutionContext());
+    ExecutionContext ctx = new ExecutionContext();
+    ItemStreamReader<ReleaseItemXML> failed = getReader(range);
+    try {
+      failed.open(ctx);
+      failed.read();
+      failed.read();
+      failed.update(ctx);
+    } finally {
+      failed.close();
+    }
+
+    // when
+    List<ReleaseItemXML> items = readAll(getReader(range), ctx);
+
+    // then
+    assertThat(range.from(2).partition()).isEqualTo(new DumpPartition(2, 2));
+    assertThat(expected).hasSize(3);
+    assertThat(items).containsExactly(expected.get(2));
+  }
+
+  @Test
+  void whenSplit__ShouldCoverEachBlockOnceInOrder() {
+    // given
+    DumpBlockIndex index = getIndexOf(7);
+
+    // when
+    List<DumpPartition> partitions = DumpBlockPartitioner.split(index, 3);
+
+    // then
+    assertThat(partitions)
+        .containsExactly(new DumpPartition(0, 1), new DumpPartition(2, 3),
+            new DumpPartition(4, 6));
+  }
+
+  @Test
+  void whenGridIsLargerThanBlocks__ShouldPartitionEachBlock() {
+    // when
+    List<DumpPartition> partitions = DumpBlockPartitioner.split(getIndexOf(2), 8);
+
+    // then
+    assertThat(partitions).containsExactly(new DumpPartition(0, 0), new DumpPartition(1, 1));
+  }
+
+  @Test
+  void whenPartitioned__ShouldIndexDumpNextToIt() throws Exception {
+    // given
+    Files.copy(RELEASE_XML_PATH, tempDir.resolve("release.xml.gz"));
+    DiscogsDump dump =
+        new DiscogsDump("\"abc123\"", EntityType.RELEASE, "data/2021/release.xml.gz", 0L,
+            LocalDate.now(), null);
+    DumpBlockPartitioner partitioner = new DumpBlockPartitioner(fileUtil, dump);
+
+    // when
+    Map<String, ExecutionContext> contexts = partitioner.partition(4);
+
+    // then
+    assertThat(contexts).hasSize(1);
+    ExecutionContext context = contexts.values().iterator().next();
+    assertThat(context.getInt(DumpPartition.FIRST_BLOCK_KEY)).isZero();
+    assertThat(context.getInt(DumpPartition.LAST_BLOCK_KEY)).isZero();
+    assertThat(tempDir.resolve("release.xml.gz.blocks")).exists();
+    assertThat(DumpBlockIndex.read(tempDir.resolve("release.xml.gz.blocks.idx")).getETag())
+        .isEqualTo(dump.getETag());
+  }
+
+  private DumpBlockIndex getIndexOf(int blockCount) {
+    Block block = new Block(0, 0, 0, 0, 0, 1);
+    return new DumpBlockIndex(null, block, block, Collections.nCopies(blockCount, block));
+  }
+
+  private ItemStreamReader<ReleaseItemXML> getReader(DumpBlockRange range) throws Exception {
+    return new ProgressBarStaxEventItemReader<>(ReleaseItemXML.class, range,
+        StaxItemBinders.get(ReleaseItemXML.class), null, "release");
+  }
+
+  private <T> List<T> readAll(ItemStreamReader<T> reader) throws Exception {
+    return readAll(reader, new ExecutionContext());
+  }
+
+  private <T> List<T> readAll(ItemStreamReader<T> reader, ExecutionContext ctx)
+      throws Exception {
+    List<T> items = new ArrayList<>();
+    try {
+      reader.open(ctx);
+      T item;
+      while ((item = reader.read()) != null) {
+        items.add(item);
+      }
+    } finally {
+      reader.close();
+    }
+    return items;
+  }
+}
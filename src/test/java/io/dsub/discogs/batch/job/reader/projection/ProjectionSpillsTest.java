@@ -0,0 +1,154 @@
+package io.dsub.discogs.batch.job.reader.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import io.dsub.discogs.batch.TestArguments;
+import io.dsub.discogs.batch.domain.master.MasterMainReleaseXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterXML;
+import io.dsub.discogs.batch.dump.DiscogsDump;
+import io.dsub.discogs.batch.dump.EntityType;
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.reader.ProgressBarStaxEventItemReader;
+import io.dsub.discogs.batch.job.reader.binder.StaxItemBinders;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+class ProjectionSpillsTest {
+
+  static final Path MASTER_XML_PATH = Path.of(TestArguments.BASE_XML_PATH, "master.xml.gz");
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  FileUtil fileUtil;
+
+  DiscogsDump dump =
+      new DiscogsDump("\"abc123\"", EntityType.MASTER, "data/2021/master.xml.gz", 0L,
+          LocalDate.now(), null);
+
+  @BeforeEach
+  void setUp() throws FileException {
+    MockitoAnnotations.openMocks(this);
+    given(fileUtil.getFilePath(anyString()))
+        .willAnswer(invocation -> tempDir.resolve((String) invocation.getArgument(0)));
+    given(fileUtil.isTemporary()).willReturn(true);
+  }
+
+  @Test
+  void whenCoreItemsAreReadToEnd__ShouldSpillEqualProjections() throws Exception {
+    // given
+    ProjectionSpills spills = new ProjectionSpills(fileUtil, dump);
+    ProgressBarStaxEventItemReader<MasterXML> coreReader =
+        new ProgressBarStaxEventItemReader<>(MasterXML.class, MASTER_XML_PATH,
+            StaxItemBinders.getFanOut(MasterXML.class, spills), spills, "master");
+
+    // when
+    List<MasterXML> masters = readAll(coreReader, Integer.MAX_VALUE);
+
+    // then
+    assertThat(masters).isNotEmpty();
+    assertSpilled(MasterSubItemsXML.class, masters.size());
+    assertSpilled(MasterMainReleaseXML.class, masters.size());
+    assertThat(listFiles()).isEmpty(); // consumed spills are deleted.
+  }
+
+  @Test
+  void whenTranscoded__ShouldRetainSpillOfEqualCoreItems() throws Exception {
+    // given
+    given(fileUtil.isTemporary()).willReturn(false);
+    ProjectionSpills spills = new ProjectionSpills(fileUtil, dump);
+    List<MasterXML> masters =
+        readAll(new ProgressBarStaxEventItemReader<>(MasterXML.class, MASTER_XML_PATH,
+            StaxItemBinders.getTranscoder(MasterXML.class, spills), spills, "master"),
+            Integer.MAX_VALUE);
+
+    // when
+    List<MasterXML> first =
+        readAll(ProjectionSpills.getReader(fileUtil, dump, MasterXML.class), Integer.MAX_VALUE);
+    List<MasterXML> second =
+        readAll(ProjectionSpills.getReader(fileUtil, dump, MasterXML.class), Integer.MAX_VALUE);
+
+    // then
+    assertThat(masters).isNotEmpty();
+    assertThat(first).isEqualTo(masters);
+    assertThat(second).isEqualTo(masters);
+    assertSpilled(MasterSubItemsXML.class, masters.size());
+    assertThat(listFiles()).hasSize(3); // spills of a kept directory are retained.
+  }
+
+  @Test
+  void whenCoreItemsAreNotReadToEnd__ShouldNotPublishSpill() throws Exception {
+    // given
+    ProjectionSpills spills = new ProjectionSpills(fileUtil, dump);
+    ProgressBarStaxEventItemReader<MasterXML> coreReader =
+        new ProgressBarStaxEventItemReader<>(MasterXML.class, MASTER_XML_PATH,
+            StaxItemBinders.getFanOut(MasterXML.class, spills), spills, "master");
+
+    // when
+    readAll(coreReader, 1);
+
+    // then
+    assertThat(ProjectionSpills.getReader(fileUtil, dump, MasterSubItemsXML.class)).isNull();
+    assertThat(listFiles()).isEmpty();
+  }
+
+  @Test
+  void whenDumpHasNoETag__ShouldNotBeSpillable() {
+    // given
+    DiscogsDump noETag = new DiscogsDump(null, EntityType.MASTER, null, 0L, null, null);
+
+    // then
+    assertThat(ProjectionSpills.isSpillable(noETag)).isFalse();
+    assertThat(ProjectionSpills.getReader(fileUtil, noETag, MasterSubItemsXML.class)).isNull();
+  }
+
+  private <T> void assertSpilled(Class<T> projectionClass, int expectedSize) throws Exception {
+    ProjectionSpillReader<T> spillReader =
+        ProjectionSpills.getReader(fileUtil, dump, projectionClass);
+    assertThat(spillReader).isNotNull();
+
+    List<T> spilled = readAll(spillReader, Integer.MAX_VALUE);
+    List<T> parsed =
+        readAll(new ProgressBarStaxEventItemReader<>(projectionClass, MASTER_XML_PATH,
+            StaxItemBinders.get(projectionClass), "master"), Integer.MAX_VALUE);
+
+    assertThat(spilled).hasSize(expectedSize).isEqualTo(parsed);
+  }
+
+  private <T> List<T> readAll(ItemStreamReader<T> reader, int limit) throws Exception {
+    List<T> items = new ArrayList<>();
+    try {
+      reader.open(new ExecutionContext());
+      T item;
+      while (items.size() < limit && (item = reader.read()) != null) {
+        items.add(item);
+      }
+    } finally {
+      reader.close();
+    }
+    return items;
+  }
+
+  private List<String> listFiles() throws IOException {
+    try (Stream<Path> paths = Files.list(tempDir)) {
+      return paths.map(path -> path.getFileName().toString()).toList();
+    }
+  }
+}
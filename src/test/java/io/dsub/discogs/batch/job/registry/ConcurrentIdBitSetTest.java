@@ -0,0 +1,136 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentIdBitSetTest {
+
+  ConcurrentIdBitSet bitSet = new ConcurrentIdBitSet();
+
+  @Test
+  void whenAdd__ShouldContain() {
+    // when
+    boolean added = bitSet.add(30_000_000);
+
+    // then
+    assertThat(added).isTrue();
+    assertThat(bitSet.contains(30_000_000)).isTrue();
+    assertThat(bitSet.contains(29_999_999)).isFalse();
+    assertThat(bitSet.add(30_000_000)).isFalse();
+  }
+
+  @Test
+  void whenAddAll__ShouldContainEveryId() {
+    // given
+    int[] ids = {130, 2, 64, 3, 2, 5_000_000, 65};
+
+    // when
+    bitSet.addAll(ids, 6);
+
+    // then
+    assertThat(bitSet.cardinality()).isEqualTo(5);
+    assertThat(bitSet.contains(2)).isTrue();
+    assertThat(bitSet.contains(3)).isTrue();
+    assertThat(bitSet.contains(64)).isTrue();
+    assertThat(bitSet.contains(130)).isTrue();
+    assertThat(bitSet.contains(5_000_000)).isTrue();
+    assertThat(bitSet.contains(65)).isFalse();
+  }
+
+  @Test
+  void whenRemove__ShouldNotContain() {
+    // given
+    bitSet.add(63);
+    bitSet.add(64);
+
+    // when
+    boolean removed = bitSet.remove(63);
+
+    // then
+    assertThat(removed).isTrue();
+    assertThat(bitSet.contains(63)).isFalse();
+    assertThat(bitSet.contains(64)).isTrue();
+    assertThat(bitSet.remove(63)).isFalse();
+  }
+
+  @Test
+  void whenNegativeIdAdded__ShouldThrow() {
+    // when
+    Throwable t = catchThrowable(() -> bitSet.add(-1));
+
+    // then
+    assertThat(t).isInstanceOf(IllegalArgumentException.class);
+    assertThat(bitSet.contains(-1)).isFalse();
+  }
+
+  @Test
+  void whenMultipleSegmentsUsed__ShouldReportMaxAndCardinality() {
+    // given
+    bitSet.add(1);
+    bitSet.add(ConcurrentIdBitSet.SEGMENT_BITS + 5);
+    bitSet.add(Integer.MAX_VALUE);
+
+    // then
+    assertThat(bitSet.max()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(bitSet.cardinality()).isEqualTo(3);
+    assertThat(bitSet.isEmpty()).isFalse();
+  }
+
+  @Test
+  void whenForEach__ShouldIterateInAscendingOrder() {
+    // given
+    bitSet.add(2_000_000);
+    bitSet.add(3);
+    bitSet.add(64);
+
+    // when
+    List<Integer> ids = new ArrayList<>();
+    bitSet.forEach(ids::add);
+
+    // then
+    assertThat(ids).containsExactly(3, 64, 2_000_000);
+  }
+
+  @Test
+  void whenClear__ShouldBeEmpty() {
+    // given
+    bitSet.add(10);
+
+    // when
+    bitSet.clear();
+
+    // then
+    assertThat(bitSet.isEmpty()).isTrue();
+    assertThat(bitSet.max()).isEqualTo(-1);
+  }
+
+  @Test
+  void whenAddedConcurrently__ShouldNotLoseUpdates() throws InterruptedException {
+    // given
+    int threads = 8;
+    int perThread = 100_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // when
+    for (int t = 0; t < threads; t++) {
+      int offset = t;
+      executor.submit(() -> {
+        for (int i = 0; i < perThread; i++) {
+          bitSet.add(i * threads + offset);
+        }
+      });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+    // then
+    assertThat(bitSet.cardinality()).isEqualTo((long) threads * perThread);
+  }
+}
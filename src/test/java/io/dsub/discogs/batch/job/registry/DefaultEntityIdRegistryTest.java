@@ -0,0 +1,179 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultEntityIdRegistryTest {
+
+  DatabaseIdResolver idResolver;
+  DefaultEntityIdRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    idResolver = mock(DatabaseIdResolver.class);
+    registry = new DefaultEntityIdRegistry(null, idResolver);
+  }
+
+  @Test
+  void givenLazyResolutionDisabled__WhenMissing__ShouldNotQuery() {
+    // when
+    boolean exists = registry.exists(Type.ARTIST, 10);
+
+    // then
+    assertThat(exists).isFalse();
+    verify(idResolver, never()).resolve(any(), any());
+  }
+
+  @Test
+  void givenLazyResolution__WhenMissing__ShouldResolveExpectedIdsAtOnce() {
+    // given
+    registry.setLazyResolution(true);
+    registry.put(Type.ARTIST, 1);
+    registry.expect(Type.ARTIST, 1);
+    registry.expect(Type.ARTIST, 2);
+    registry.expect(Type.ARTIST, 3);
+    given(idResolver.resolve(eq(Type.ARTIST), any())).willReturn(Set.of(2));
+
+    // when
+    boolean first = registry.exists(Type.ARTIST, 1);
+    boolean second = registry.exists(Type.ARTIST, 2);
+    boolean third = registry.exists(Type.ARTIST, 3);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+    verify(idResolver, times(1)).resolve(Type.ARTIST, Set.of(2, 3));
+  }
+
+  @Test
+  void givenLazyResolution__WhenExpectedIdsResolved__ShouldShareResultsWithOtherThreads()
+      throws Exception {
+    // given
+    registry.setLazyResolution(true);
+    registry.expect(Type.ARTIST, 1);
+    registry.expect(Type.ARTIST, 2);
+    registry.expect(Type.LABEL, 3);
+    given(idResolver.resolve(eq(Type.ARTIST), any())).willReturn(Set.of(2));
+    given(idResolver.resolve(eq(Type.LABEL), any())).willReturn(Set.of(3));
+
+    // when
+    registry.resolveExpected();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    List<Boolean> exists;
+    try {
+      exists =
+          executor
+              .submit(
+                  () ->
+                      List.of(
+                          registry.exists(Type.ARTIST, 1),
+                          registry.exists(Type.ARTIST, 2),
+                          registry.exists(Type.LABEL, 3)))
+              .get();
+    } finally {
+      executor.shutdown();
+    }
+
+    // then
+    assertThat(exists).containsExactly(false, true, true);
+    verify(idResolver, times(1)).resolve(Type.ARTIST, Set.of(1, 2));
+    verify(idResolver, times(1)).resolve(Type.LABEL, Set.of(3));
+  }
+
+  @Test
+  void givenLazyResolution__WhenClearAll__ShouldForgetResolvedIds() {
+    // given
+    registry.setLazyResolution(true);
+    given(idResolver.resolve(eq(Type.LABEL), any())).willReturn(Set.of(5));
+    registry.exists(Type.LABEL, 5);
+
+    // when
+    registry.clearAll();
+    registry.exists(Type.LABEL, 5);
+
+    // then
+    verify(idResolver, times(2)).resolve(Type.LABEL, Set.of(5));
+  }
+
+  @Test
+  void whenBufferPut__ShouldBeVisibleOnlyAfterFlush() {
+    // given
+    registry.bufferPut(Type.MASTER, 7);
+    registry.bufferPut(Type.MASTER, 3);
+
+    // when
+    boolean beforeFlush = registry.exists(Type.MASTER, 7);
+    registry.flush();
+
+    // then
+    assertThat(beforeFlush).isFalse();
+    assertThat(registry.exists(Type.MASTER, 7)).isTrue();
+    assertThat(registry.exists(Type.MASTER, 3)).isTrue();
+    assertThat(registry.getLongIdCache(Type.MASTER).getMax()).isEqualTo(7);
+  }
+
+  @Test
+  void whenDiscarded__ShouldDropBufferedIds() {
+    // given
+    registry.bufferPut(Type.MASTER, 7);
+
+    // when
+    registry.discard();
+    registry.flush();
+
+    // then
+    assertThat(registry.exists(Type.MASTER, 7)).isFalse();
+  }
+
+  @Test
+  void whenExistsCalled__ShouldCountHitsAndMisses() {
+    // given
+    registry.put(Type.ARTIST, 1);
+    registry.put(Type.GENRE, "Rock");
+
+    // when
+    registry.exists(Type.ARTIST, 1);
+    registry.exists(Type.ARTIST, 2);
+    registry.exists(Type.ARTIST, 3);
+    registry.exists(Type.GENRE, "Rock");
+
+    // then
+    EntityIdRegistryStats artistStats = registry.getStats(Type.ARTIST);
+    assertThat(artistStats.cardinality()).isEqualTo(1);
+    assertThat(artistStats.hits()).isEqualTo(1);
+    assertThat(artistStats.misses()).isEqualTo(2);
+    assertThat(artistStats.estimatedBytes()).isPositive();
+    assertThat(registry.getStats(Type.GENRE).hits()).isEqualTo(1);
+    assertThat(registry.getStats()).hasSize(Type.values().length);
+  }
+
+  @Test
+  void whenCodeLookedUp__ShouldCountDroppedValuesAsMisses() {
+    // given
+    registry.put(Type.STYLE, "Dub");
+
+    // when
+    registry.getCode(Type.STYLE, "Dub");
+    registry.getCode(Type.STYLE, "Polka");
+
+    // then
+    EntityIdRegistryStats styleStats = registry.getStats(Type.STYLE);
+    assertThat(styleStats.hits()).isEqualTo(1);
+    assertThat(styleStats.misses()).isEqualTo(1);
+  }
+}
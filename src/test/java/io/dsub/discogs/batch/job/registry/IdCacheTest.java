@@ -0,0 +1,50 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IdCacheTest {
+
+  IdCache idCache = new IdCache(DefaultEntityIdRegistry.Type.RELEASE);
+
+  @Test
+  void whenInverted__ShouldKeepMembership() {
+    // given
+    idCache.add(1);
+    idCache.add(30_000_000);
+
+    // when
+    idCache.invert();
+
+    // then
+    assertThat(idCache.isInverted()).isTrue();
+    assertThat(idCache.exists(1)).isTrue();
+    assertThat(idCache.exists(30_000_000)).isTrue();
+    assertThat(idCache.exists(2)).isFalse();
+  }
+
+  @Test
+  void whenAddedAfterInversion__ShouldExist() {
+    // given
+    idCache.add(10);
+    idCache.invert();
+
+    // when
+    idCache.add(20);
+
+    // then
+    assertThat(idCache.exists(10)).isTrue();
+    assertThat(idCache.exists(20)).isTrue();
+  }
+
+  @Test
+  void whenNegativeIdAdded__ShouldBeIgnored() {
+    // when
+    idCache.add(-1);
+
+    // then
+    assertThat(idCache.isEmpty()).isTrue();
+    assertThat(idCache.exists(-1)).isFalse();
+  }
+}
@@ -0,0 +1,135 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import io.dsub.discogs.batch.exception.FileException;
+import io.dsub.discogs.batch.job.registry.EntityIdRegistry.Type;
+import io.dsub.discogs.batch.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class IdSnapshotStoreTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Mock
+  FileUtil fileUtil;
+
+  @InjectMocks
+  IdSnapshotStore store;
+
+  IdCache cache = new IdCache(Type.ARTIST);
+
+  @BeforeEach
+  void setUp() throws FileException {
+    MockitoAnnotations.openMocks(this);
+    given(fileUtil.isTemporary()).willReturn(false);
+    given(fileUtil.getAppDirectory(anyBoolean())).willReturn(tempDir);
+    given(fileUtil.getFilePath(anyString()))
+        .willAnswer(invocation -> tempDir.resolve((String) invocation.getArgument(0)));
+    List.of(1, 64, 3_000_000, 9_999_999).forEach(cache::add);
+  }
+
+  @Test
+  void whenSavedThenLoaded__ShouldRestoreIdentifiers() {
+    // given
+    IdSnapshotFingerprint fingerprint = new IdSnapshotFingerprint(4, 9_999_999, 13_000_064);
+    IdCache restored = new IdCache(Type.ARTIST);
+
+    // when
+    boolean saved = store.save(cache, "\"abc123\"", fingerprint);
+    boolean loaded = store.load(restored, fingerprint);
+
+    // then
+    assertThat(saved).isTrue();
+    assertThat(loaded).isTrue();
+    assertThat(restored.getIdBitSet().cardinality()).isEqualTo(4);
+    assertThat(restored.exists(3_000_000)).isTrue();
+    assertThat(restored.exists(9_999_999)).isTrue();
+    assertThat(restored.exists(2)).isFalse();
+  }
+
+  @Test
+  void whenFingerprintDiffers__ShouldNotLoad() {
+    // given
+    store.save(cache, "abc123", new IdSnapshotFingerprint(4, 9_999_999, 13_000_064));
+    IdCache restored = new IdCache(Type.ARTIST);
+
+    // when
+    boolean loaded = store.load(restored, new IdSnapshotFingerprint(5, 10_000_000, 23_000_064));
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(restored.isEmpty()).isTrue();
+  }
+
+  @Test
+  void whenIdsBelowMaxReplaced__ShouldNotLoad() {
+    // given
+    store.save(cache, "abc123", new IdSnapshotFingerprint(4, 9_999_999, 13_000_064));
+    IdCache restored = new IdCache(Type.ARTIST);
+
+    // when
+    boolean loaded = store.load(restored, new IdSnapshotFingerprint(4, 9_999_999, 13_000_065));
+
+    // then
+    assertThat(loaded).isFalse();
+    assertThat(restored.isEmpty()).isTrue();
+  }
+
+  @Test
+  void whenCacheDoesNotMatchFingerprint__ShouldNotSave() throws IOException {
+    // when
+    boolean saved = store.save(cache, "abc123", new IdSnapshotFingerprint(5, 9_999_999, 13_000_064));
+
+    // then
+    assertThat(saved).isFalse();
+    assertThat(listFiles()).isEmpty();
+  }
+
+  @Test
+  void whenSavedTwice__ShouldKeepLatestOnly() throws IOException {
+    // given
+    IdSnapshotFingerprint fingerprint = new IdSnapshotFingerprint(4, 9_999_999, 13_000_064);
+
+    // when
+    store.save(cache, "first", fingerprint);
+    store.save(cache, "second", fingerprint);
+
+    // then
+    assertThat(listFiles()).containsExactly(IdSnapshotStore.getFilename(Type.ARTIST, "second"));
+  }
+
+  @Test
+  void givenTemporaryDirectory__WhenSave__ShouldSkip() throws IOException {
+    // given
+    given(fileUtil.isTemporary()).willReturn(true);
+
+    // when
+    boolean saved = store.save(cache, "abc123", new IdSnapshotFingerprint(4, 9_999_999, 13_000_064));
+
+    // then
+    assertThat(saved).isFalse();
+    assertThat(listFiles()).isEmpty();
+  }
+
+  private List<String> listFiles() throws IOException {
+    try (Stream<Path> paths = Files.list(tempDir)) {
+      return paths.map(path -> path.getFileName().toString()).collect(Collectors.toList());
+    }
+  }
+}
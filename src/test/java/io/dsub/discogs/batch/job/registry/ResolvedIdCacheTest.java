@@ -0,0 +1,78 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ResolvedIdCacheTest {
+
+  static final int CAPACITY = 1 << 10;
+
+  ResolvedIdCache cache = new ResolvedIdCache(CAPACITY);
+
+  @Test
+  void whenPut__ShouldHoldFoundAndMissingIds() {
+    // when
+    cache.put(1, true);
+    cache.put(2, false);
+
+    // then
+    assertThat(cache.get(1)).isTrue();
+    assertThat(cache.get(2)).isFalse();
+    assertThat(cache.get(3)).isNull();
+    assertThat(cache.contains(2)).isTrue();
+    assertThat(cache.contains(3)).isFalse();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void whenFilledOverCapacity__ShouldEvictEldestIds() {
+    // when
+    for (int id = 0; id < CAPACITY * 8; id++) {
+      cache.put(id, true);
+    }
+
+    // then
+    assertThat(cache.size()).isLessThanOrEqualTo(CAPACITY);
+    assertThat(cache.contains(0)).isFalse();
+    assertThat(cache.contains(CAPACITY * 8 - 1)).isTrue();
+  }
+
+  @Test
+  void whenAccessedConcurrently__ShouldStayBounded() throws Exception {
+    // given
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    try {
+      for (int thread = 0; thread < 4; thread++) {
+        int offset = thread * CAPACITY * 4;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int id = offset; id < offset + CAPACITY * 4; id++) {
+                    if (cache.get(id) == null) {
+                      cache.put(id, id % 2 == 0);
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // then
+    assertThat(cache.size()).isPositive().isLessThanOrEqualTo(CAPACITY);
+    cache.clear();
+    assertThat(cache.size()).isZero();
+  }
+}
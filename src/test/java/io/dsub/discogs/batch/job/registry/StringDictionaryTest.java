@@ -0,0 +1,95 @@
+package io.dsub.discogs.batch.job.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StringDictionaryTest {
+
+  StringDictionary dictionary = new StringDictionary();
+
+  @Test
+  void whenEncoded__ShouldAssignCodesInInsertionOrder() {
+    // when
+    int rock = dictionary.encode("Rock");
+    int jazz = dictionary.encode("Jazz");
+
+    // then
+    assertThat(rock).isEqualTo(0);
+    assertThat(jazz).isEqualTo(1);
+    assertThat(dictionary.encode("Rock")).isEqualTo(rock);
+    assertThat(dictionary.lookup("Jazz")).isEqualTo(jazz);
+    assertThat(dictionary.decode(jazz)).isEqualTo("Jazz");
+  }
+
+  @Test
+  void whenAbsent__ShouldReturnNoCode() {
+    // given
+    dictionary.encode("Rock");
+
+    // then
+    assertThat(dictionary.lookup("Pop")).isEqualTo(StringDictionary.NO_CODE);
+    assertThat(dictionary.lookup(null)).isEqualTo(StringDictionary.NO_CODE);
+    assertThat(dictionary.decode(10)).isNull();
+    assertThat(dictionary.decode(-1)).isNull();
+  }
+
+  @Test
+  void whenGrown__ShouldKeepEveryValue() {
+    // given
+    for (int i = 0; i < 1000; i++) {
+      dictionary.encode("style-" + i);
+    }
+
+    // when
+    List<String> values = new ArrayList<>();
+    dictionary.forEach((value, code) -> values.add(value));
+
+    // then
+    assertThat(dictionary.size()).isEqualTo(1000);
+    assertThat(values).hasSize(1000).startsWith("style-0").endsWith("style-999");
+    assertThat(dictionary.decode(dictionary.lookup("style-500"))).isEqualTo("style-500");
+  }
+
+  @Test
+  void whenCleared__ShouldBeEmpty() {
+    // given
+    dictionary.encode("Rock");
+
+    // when
+    dictionary.clear();
+
+    // then
+    assertThat(dictionary.isEmpty()).isTrue();
+    assertThat(dictionary.lookup("Rock")).isEqualTo(StringDictionary.NO_CODE);
+    assertThat(dictionary.encode("Jazz")).isEqualTo(0);
+  }
+
+  @Test
+  void whenEncodedConcurrently__ShouldAssignSingleCodePerValue() throws InterruptedException {
+    // given
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // when
+    for (int t = 0; t < 8; t++) {
+      executor.submit(() -> {
+        for (int i = 0; i < 500; i++) {
+          dictionary.encode("genre-" + i);
+        }
+      });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+    // then
+    assertThat(dictionary.size()).isEqualTo(500);
+    for (int i = 0; i < 500; i++) {
+      assertThat(dictionary.decode(dictionary.lookup("genre-" + i))).isEqualTo("genre-" + i);
+    }
+  }
+}
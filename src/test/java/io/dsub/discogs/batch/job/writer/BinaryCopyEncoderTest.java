@@ -0,0 +1,65 @@
+package io.dsub.discogs.batch.job.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BinaryCopyEncoderTest {
+
+  @Test
+  void whenRowWritten__ShouldEncodeEachValueWithItsLength() throws Exception {
+    // given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryCopyEncoder encoder = new BinaryCopyEncoder(out);
+
+    // when
+    encoder.writeHeader();
+    encoder.writeRow(
+        Arrays.asList(
+            7, null, "\u00e9", LocalDate.of(2000, 1, 2), LocalDateTime.of(2000, 1, 1, 0, 0, 1)));
+    encoder.writeTrailer();
+
+    // then
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    byte[] signature = new byte[11];
+    in.readFully(signature);
+    assertThat(new String(signature, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("PGCOP");
+    assertThat(signature[7]).isEqualTo((byte) 0xff);
+    assertThat(in.readInt()).isZero();
+    assertThat(in.readInt()).isZero();
+    assertThat(in.readShort()).isEqualTo((short) 5);
+    assertThat(in.readInt()).isEqualTo(4);
+    assertThat(in.readInt()).isEqualTo(7);
+    assertThat(in.readInt()).isEqualTo(-1);
+    assertThat(in.readInt()).isEqualTo(2);
+    assertThat(in.readNBytes(2)).isEqualTo("\u00e9".getBytes(StandardCharsets.UTF_8));
+    assertThat(in.readInt()).isEqualTo(4);
+    assertThat(in.readInt()).isEqualTo(1);
+    assertThat(in.readInt()).isEqualTo(8);
+    assertThat(in.readLong()).isEqualTo(1_000_000L);
+    assertThat(in.readShort()).isEqualTo((short) -1);
+    assertThat(in.available()).isZero();
+  }
+
+  @Test
+  void whenTypeNotSupported__ShouldNotEncode() {
+    // given
+    BinaryCopyEncoder encoder = new BinaryCopyEncoder(new ByteArrayOutputStream());
+
+    // then
+    assertThat(BinaryCopyEncoder.isSupported(String.class)).isTrue();
+    assertThat(BinaryCopyEncoder.isSupported(BigDecimal.class)).isFalse();
+    assertThatThrownBy(() -> encoder.writeRow(List.of(BigDecimal.ONE)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,31 @@
+package io.dsub.discogs.batch.job.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.dsub.discogs.jooq.tables.records.MasterRecord;
+import java.time.LocalDateTime;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+class DefaultJooqMasterMainReleaseItemWriterTest {
+
+  @Test
+  void whenQueryRendered__ShouldOnlyUpdateChangedMainReleases() {
+    // given
+    DefaultJooqMasterMainReleaseItemWriter writer =
+        new DefaultJooqMasterMainReleaseItemWriter(DSL.using(SQLDialect.POSTGRES));
+    MasterRecord record =
+        new MasterRecord().setId(1).setMainReleaseId(2).setLastModifiedAt(LocalDateTime.now());
+
+    // when
+    String sql = writer.getQuery(record).getSQL();
+
+    // then
+    assertThat(sql)
+        .startsWith("update")
+        .contains("from (values (?, ?))")
+        .contains("is distinct from")
+        .contains("\"v\".\"main_release_id\"");
+  }
+}
@@ -0,0 +1,122 @@
+package io.dsub.discogs.batch.job.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.dsub.discogs.jooq.tables.records.ArtistRecord;
+import io.dsub.discogs.jooq.tables.records.GenreRecord;
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+class PostgresCopyItemWriterTest {
+
+  DSLContext context;
+  JooqItemWriter<UpdatableRecord<?>> delegate;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    context = spy(DSL.using(SQLDialect.POSTGRES));
+    doReturn(0).when(context).execute(anyString());
+    delegate = mock(JooqItemWriter.class);
+  }
+
+  @Test
+  void whenSameKeyWrittenBySeparateSteps__ShouldMergeBothThroughStaging() {
+    // given
+    PostgresCopyItemWriter<UpdatableRecord<?>> writer =
+        new PostgresCopyItemWriter<>(context, delegate, false);
+    List<UpdatableRecord<?>> masterGenres = List.of(new GenreRecord().setName("Rock"));
+    List<UpdatableRecord<?>> releaseGenres =
+        List.of(new GenreRecord().setName("Rock"), new GenreRecord().setName("Rock"));
+    ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+
+    try (MockedStatic<BinaryCopyEncoder> encoder = mockStatic(BinaryCopyEncoder.class)) {
+      encoder.when(() -> BinaryCopyEncoder.isSupported(any())).thenReturn(true);
+
+      // when
+      writer.write(masterGenres);
+      writer.write(releaseGenres);
+
+      // then
+      encoder.verify(
+          () ->
+              BinaryCopyEncoder.copy(
+                  eq(context),
+                  anyString(),
+                  anyList(),
+                  eq(List.of(new GenreRecord().setName("Rock")))),
+          times(2));
+    }
+    verify(context, times(6)).execute(statements.capture());
+    verify(context, never()).fetchExists(any(Table.class));
+    verify(delegate, never()).write(anyList());
+    List<String> merges = new ArrayList<>();
+    for (String sql : statements.getAllValues()) {
+      if (sql.startsWith("insert into")) {
+        merges.add(sql);
+      }
+    }
+    assertThat(merges)
+        .hasSize(2)
+        .allMatch(sql -> sql.contains("from \"staging_genre\""))
+        .allMatch(sql -> sql.contains("on conflict"))
+        .noneMatch(sql -> sql.contains("exists (select 1 from"));
+  }
+
+  @Test
+  void givenInitialLoad__WhenMergeRendered__ShouldLeaveConflictingRowsAsTheyAre() {
+    // given
+    PostgresCopyItemWriter<UpdatableRecord<?>> writer =
+        new PostgresCopyItemWriter<>(context, delegate, true);
+
+    // when
+    String sql;
+    try (MockedStatic<BinaryCopyEncoder> encoder = mockStatic(BinaryCopyEncoder.class)) {
+      encoder.when(() -> BinaryCopyEncoder.isSupported(any())).thenReturn(true);
+      sql = writer.getQuery(new ArtistRecord()).getSQL();
+    }
+
+    // then
+    assertThat(sql)
+        .startsWith("insert into")
+        .contains("from \"staging_artist\"")
+        .contains("on conflict")
+        .contains("do nothing");
+  }
+
+  @Test
+  void givenOtherDatabase__WhenWritten__ShouldHandItemsToDelegate() {
+    // given
+    DSLContext mysql = spy(DSL.using(SQLDialect.MYSQL));
+    PostgresCopyItemWriter<UpdatableRecord<?>> writer =
+        new PostgresCopyItemWriter<>(mysql, delegate, false);
+    List<UpdatableRecord<?>> genres = List.of(new GenreRecord().setName("Rock"));
+
+    // when
+    writer.write(genres);
+
+    // then
+    verify(delegate).write(genres);
+    verify(mysql, never()).execute(anyString());
+  }
+}
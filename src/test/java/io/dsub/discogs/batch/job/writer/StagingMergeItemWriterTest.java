@@ -0,0 +1,70 @@
+package io.dsub.discogs.batch.job.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+import io.dsub.discogs.jooq.tables.records.ArtistAliasRecord;
+import java.util.ArrayList;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+class StagingMergeItemWriterTest {
+
+  @Test
+  void whenMergeRendered__ShouldSelectOnlyReferencedRows() {
+    // given
+    StagingMergeItemWriter<UpdatableRecord<?>> writer =
+        new StagingMergeItemWriter<>(DSL.using(SQLDialect.POSTGRES));
+
+    // when
+    String sql = writer.getQuery(new ArtistAliasRecord()).getSQL();
+
+    // then
+    assertThat(sql)
+        .startsWith("insert into")
+        .contains("from \"staging_artist_alias\"")
+        .contains("exists (select 1 from")
+        .contains("\"artist\".\"id\"")
+        .contains("on conflict");
+  }
+
+  @Test
+  void givenMoreRowsThanBindLimit__WhenStagedByInsert__ShouldSplitStatements() throws Exception {
+    // given
+    List<Integer> bindCounts = new ArrayList<>();
+    DSLContext context =
+        DSL.using(
+            new MockConnection(
+                ctx -> {
+                  if (ctx.sql().startsWith("insert into \"staging_artist_alias\"")) {
+                    bindCounts.add(ctx.bindings().length);
+                  }
+                  return new MockResult[] {new MockResult(0)};
+                }),
+            SQLDialect.POSTGRES);
+    StagingMergeItemWriter<UpdatableRecord<?>> writer = new StagingMergeItemWriter<>(context);
+    List<UpdatableRecord<?>> items = new ArrayList<>();
+    for (int i = 0; i <= Short.MAX_VALUE; i++) {
+      items.add(new ArtistAliasRecord().setArtistId(1).setAliasId(i));
+    }
+
+    // when
+    try (MockedStatic<BinaryCopyEncoder> ignored = mockStatic(BinaryCopyEncoder.class)) {
+      writer.write(items);
+    }
+
+    // then
+    int bindValues = bindCounts.stream().mapToInt(Integer::intValue).sum();
+    assertThat(bindCounts).hasSizeGreaterThan(1).allMatch(count -> count <= Short.MAX_VALUE);
+    assertThat(bindValues % items.size()).isZero();
+    assertThat(StagingMergeItemWriter.getMaxRows(4)).isEqualTo(Short.MAX_VALUE / 4);
+    assertThat(StagingMergeItemWriter.getMaxRows(Short.MAX_VALUE + 1)).isOne();
+  }
+}
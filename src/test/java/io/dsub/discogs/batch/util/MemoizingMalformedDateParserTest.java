@@ -0,0 +1,48 @@
+package io.dsub.discogs.batch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class MemoizingMalformedDateParserTest {
+
+  @Test
+  void whenParseSameSource__ShouldParseOnce() {
+    // given
+    MalformedDateParser delegate = mock(MalformedDateParser.class);
+    when(delegate.parse("1988-03-18")).thenReturn(LocalDate.of(1988, 3, 18));
+    MemoizingMalformedDateParser parser = new MemoizingMalformedDateParser(delegate, 10);
+
+    // when
+    parser.parse("1988-03-18");
+    LocalDate parsed = parser.parse("1988-03-18");
+    parser.parse("xxxx");
+    LocalDate missing = parser.parse("xxxx");
+
+    // then
+    assertThat(parsed).isEqualTo(LocalDate.of(1988, 3, 18));
+    assertThat(missing).isNull();
+    verify(delegate, times(1)).parse("1988-03-18");
+    verify(delegate, times(1)).parse("xxxx");
+  }
+
+  @Test
+  void whenCapacityReached__ShouldParseWithoutRemembering() {
+    // given
+    MalformedDateParser delegate = mock(MalformedDateParser.class);
+    MemoizingMalformedDateParser parser = new MemoizingMalformedDateParser(delegate, 1);
+
+    // when
+    parser.parse("1988");
+    parser.parse("1989");
+    parser.parse("1989");
+
+    // then
+    verify(delegate, times(2)).parse("1989");
+  }
+}
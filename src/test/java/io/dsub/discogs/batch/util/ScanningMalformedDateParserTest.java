@@ -0,0 +1,55 @@
+package io.dsub.discogs.batch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScanningMalformedDateParserTest {
+
+  private static final String CHARS = "0123456789-/. x";
+
+  DefaultMalformedDateParser regexParser = new DefaultMalformedDateParser();
+  ScanningMalformedDateParser parser = new ScanningMalformedDateParser();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+          "", "0000", "1988-03-18", "1931-0003-0028", "1931-02-29", "1992-1x-1c", "193x-1x",
+          "19920405", "19921305", "1992 12 31", "1992-12/31", "1992-00-", "1992-123-05", "xxxx"
+      })
+  void whenParse__ShouldReturnSameAsRegexParser(String source) {
+    // when
+    LocalDate parsed = parser.parse(source);
+
+    // then
+    assertThat(parsed).isEqualTo(regexParser.parse(source));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {1L, 2L, 3L})
+  void whenParseRandomSources__ShouldReturnSameAsRegexParser(long seed) {
+    // given
+    Random random = new Random(seed);
+
+    for (int i = 0; i < 100_000; i++) {
+      StringBuilder sb = new StringBuilder();
+      if (random.nextBoolean()) {
+        sb.append(1000 + random.nextInt(1100));
+      }
+      int length = random.nextInt(10);
+      for (int j = 0; j < length; j++) {
+        sb.append(CHARS.charAt(random.nextInt(CHARS.length())));
+      }
+      String source = sb.toString();
+
+      // when
+      LocalDate parsed = parser.parse(source);
+
+      // then
+      assertThat(parsed).as(source).isEqualTo(regexParser.parse(source));
+    }
+  }
+}
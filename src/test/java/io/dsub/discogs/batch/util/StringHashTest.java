@@ -0,0 +1,42 @@
+package io.dsub.discogs.batch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringHashTest {
+
+  @Test
+  void whenValuesSplitDifferently__ShouldNotCollide() {
+    // when
+    long first = StringHash.hash64("ab", "c");
+    long second = StringHash.hash64("a", "bc");
+
+    // then
+    assertThat(first).isNotEqualTo(second);
+  }
+
+  @Test
+  void whenStringHashCodesCollide__ShouldNotCollide() {
+    // given
+    assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+    // when
+    long first = StringHash.hash64("Aa");
+    long second = StringHash.hash64("BB");
+
+    // then
+    assertThat(first).isNotEqualTo(second);
+    assertThat(StringHash.fold(first)).isNotEqualTo(StringHash.fold(second));
+  }
+
+  @Test
+  void whenEveryValueIsBlank__ShouldReturnZero() {
+    // when
+    long hash = StringHash.hash64(null, " ", "");
+
+    // then
+    assertThat(hash).isZero();
+    assertThat(StringHash.hash64("a", null)).isEqualTo(StringHash.hash64("a", " "));
+  }
+}
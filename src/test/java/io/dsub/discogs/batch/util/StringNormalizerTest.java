@@ -0,0 +1,59 @@
+package io.dsub.discogs.batch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML;
+import io.dsub.discogs.batch.domain.master.MasterSubItemsXML.MasterVideoXML;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseCreditedArtist;
+import io.dsub.discogs.batch.domain.release.ReleaseItemSubItemsXML.ReleaseFormat;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StringNormalizerTest {
+
+  @Test
+  void whenNormalize__ShouldNullOutBlankStringsOfNestedItems() {
+    // given
+    MasterVideoXML video = new MasterVideoXML();
+    video.setTitle(" ");
+    video.setDescription(" desc ");
+    MasterSubItemsXML master = new MasterSubItemsXML();
+    master.setMasterVideos(new ArrayList<>(List.of(video)));
+    master.setGenres(new ArrayList<>(List.of(" Rock ", " ")));
+    master.setStyles(new ArrayList<>(List.of("")));
+
+    // when
+    StringNormalizer.normalize(master);
+
+    // then
+    assertThat(video.getTitle()).isNull();
+    assertThat(video.getDescription()).isEqualTo(" desc ");
+    assertThat(master.getGenres()).containsExactly("Rock");
+    assertThat(master.getStyles()).isNull();
+  }
+
+  @Test
+  void whenNormalizePooledFields__ShouldShareEqualValues() {
+    // given
+    ReleaseCreditedArtist first = new ReleaseCreditedArtist();
+    first.setRole(new String("Producer"));
+    first.setName(new String("name"));
+    ReleaseCreditedArtist second = new ReleaseCreditedArtist();
+    second.setRole(new String("Producer"));
+    second.setName(new String("name"));
+    ReleaseFormat firstFormat = new ReleaseFormat();
+    firstFormat.setDescriptions(new ArrayList<>(List.of(new String("LP"))));
+    ReleaseFormat secondFormat = new ReleaseFormat();
+    secondFormat.setDescriptions(new ArrayList<>(List.of(new String("LP "))));
+
+    // when
+    List.of(first, second, firstFormat, secondFormat).forEach(StringNormalizer::normalize);
+
+    // then
+    assertThat(first.getRole()).isSameAs(second.getRole());
+    assertThat(first.getName()).isNotSameAs(second.getName());
+    assertThat(firstFormat.getDescriptions().get(0))
+        .isSameAs(secondFormat.getDescriptions().get(0));
+  }
+}